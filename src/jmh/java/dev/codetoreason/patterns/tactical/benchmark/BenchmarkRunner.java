@@ -0,0 +1,29 @@
+package dev.codetoreason.patterns.tactical.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Accepts the regular JMH command line options (e.g. {@code MoneyBenchmark -f 1 -wi 3})
+ * and always attaches the {@link GCProfiler}, so every run reports allocation rate per operation
+ * next to throughput.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        var options = new OptionsBuilder().parent(new CommandLineOptions(args))
+                                          .addProfiler(GCProfiler.class)
+                                          .build();
+        new Runner(options).run();
+    }
+}
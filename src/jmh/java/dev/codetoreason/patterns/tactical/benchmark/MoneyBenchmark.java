@@ -0,0 +1,52 @@
+package dev.codetoreason.patterns.tactical.benchmark;
+
+import dev.codetoreason.patterns.tactical.money.Money;
+import dev.codetoreason.patterns.tactical.money.Price;
+import dev.codetoreason.patterns.tactical.money.TargetCurrencyRateProvider;
+import dev.codetoreason.patterns.tactical.quantity.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR;
+import static dev.codetoreason.patterns.tactical.money.Currency.PLN;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private final Money first = Money.of(new BigDecimal("1234.56"), PLN);
+    private final Money second = Money.of(new BigDecimal("78.90"), PLN);
+    private final Price price = Price.of(new BigDecimal("19.99"), PLN);
+    private final Quantity quantity = Quantity.of(7);
+    private final BigDecimal plnToEur = new BigDecimal("0.2345");
+    private final TargetCurrencyRateProvider toEur = _ -> plnToEur;
+
+    @Benchmark
+    public Money add() {
+        return first.add(second);
+    }
+
+    @Benchmark
+    public Money convertTo() {
+        return first.convertTo(EUR, toEur);
+    }
+
+    @Benchmark
+    public Money priceMultiply() {
+        return price.multiply(quantity);
+    }
+}
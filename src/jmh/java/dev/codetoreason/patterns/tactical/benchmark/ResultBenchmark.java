@@ -0,0 +1,49 @@
+package dev.codetoreason.patterns.tactical.benchmark;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+import dev.codetoreason.patterns.tactical.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    private final String value = "value";
+    private final String reason = "order-42";
+
+    @Benchmark
+    public Result<String> resultSuccessful() {
+        return Result.successful(value);
+    }
+
+    @Benchmark
+    public Result<String> resultFailed() {
+        return Result.failed("Something went wrong");
+    }
+
+    @Benchmark
+    public boolean resultFailedWithTemplate() {
+        return Result.failed("Order %s cannot be processed", reason)
+                     .isFailure();
+    }
+
+    @Benchmark
+    public boolean operationResultFailedWithTemplate() {
+        return OperationResult.failed("Order %s cannot be processed", reason)
+                              .isFailure();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.codetoreason.patterns.tactical.benchmark;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+import dev.codetoreason.patterns.tactical.rule.Rule;
+import dev.codetoreason.patterns.tactical.rule.Rules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+
+    private final Rules<Integer> rules = Rules.when(Rule.when((Integer i) -> i > 0)
+                                                        .orElse("Must be positive"))
+                                              .and(Rule.when((Integer i) -> i < 1_000)
+                                                       .orElse(i -> "%d must be less than 1000".formatted(i)))
+                                              .and(Rule.when((Integer i) -> i % 2 == 0)
+                                                       .orElse("Must be even"))
+                                              .compose();
+
+    private final Integer passing = 42;
+    private final Integer failingOnSecondRule = 4_242;
+
+    @Benchmark
+    public OperationResult examineAllPassing() {
+        return rules.examine(passing);
+    }
+
+    @Benchmark
+    public OperationResult examineFailing() {
+        return rules.examine(failingOnSecondRule);
+    }
+}
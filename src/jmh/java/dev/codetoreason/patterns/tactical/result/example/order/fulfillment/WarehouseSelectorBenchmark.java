@@ -0,0 +1,116 @@
+package dev.codetoreason.patterns.tactical.result.example.order.fulfillment;
+
+import dev.codetoreason.patterns.tactical.infra.repository.InMemoryEntityRepository;
+import dev.codetoreason.patterns.tactical.infra.repository.SecondaryIndex;
+import dev.codetoreason.patterns.tactical.quantity.Quantity;
+import dev.codetoreason.patterns.tactical.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static dev.codetoreason.patterns.tactical.result.example.order.fulfillment.ProductType.PERISHABLE;
+import static dev.codetoreason.patterns.tactical.result.example.order.fulfillment.ProductType.STANDARD;
+
+/**
+ * Lives next to {@link WarehouseSelector}, since the selector and its collaborators are package-private.
+ * <p>
+ * Compares selecting through the {@link WarehouseSelectionIndex} with the scan of the region it replaced,
+ * and measures the cost of keeping the index up to date when the first stored warehouse is restocked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WarehouseSelectorBenchmark {
+
+    private static final String REGION = "REGION-1";
+    private static final Product PRODUCT = Product.builder()
+                                                  .id(new ProductId("PROD-1"))
+                                                  .name("Product")
+                                                  .type(STANDARD)
+                                                  .build();
+
+    @Param({"100", "1000"})
+    int warehousesInRegion;
+
+    private BenchmarkWarehouseRepository repository;
+    private WarehouseSelectionIndex selectionIndex;
+    private WarehouseSelector warehouseSelector;
+    private Order order;
+    private Warehouse[] restocked;
+    private int restocks;
+
+    @Setup
+    public void setUp() {
+        repository = new BenchmarkWarehouseRepository();
+        for (var i = 0; i < warehousesInRegion; i++) {
+            var isStocked = i == warehousesInRegion - 1;
+            repository.save(warehouse(i, i % 2 == 0 || isStocked ? STANDARD : PERISHABLE, isStocked ? 100 : 1));
+        }
+        selectionIndex = WarehouseSelectionIndex.over(repository);
+        warehouseSelector = new WarehouseSelector(selectionIndex);
+        restocked = new Warehouse[]{warehouse(0, STANDARD, 2), warehouse(0, STANDARD, 1)};
+        order = Order.builder()
+                     .id(new OrderId("ORDER-1"))
+                     .product(PRODUCT)
+                     .quantity(Quantity.of(10))
+                     .destinationRegion(REGION)
+                     .build();
+    }
+
+    @Benchmark
+    public Result<Warehouse> selectFor() {
+        return warehouseSelector.selectFor(order);
+    }
+
+    @Benchmark
+    public Warehouse selectByScanningRegion() {
+        return repository.findAllByRegion(order.destinationRegion())
+                         .stream()
+                         .filter(warehouse -> warehouse.supports(order.product().type()))
+                         .filter(warehouse -> warehouse.hasProduct(order.product(), order.quantity()))
+                         .findFirst()
+                         .orElse(null);
+    }
+
+    @Benchmark
+    public void restockFirstWarehouse() {
+        selectionIndex.save(restocked[restocks++ & 1]);
+    }
+
+    private static Warehouse warehouse(int number, ProductType supportedType, int stockLevel) {
+        return Warehouse.builder()
+                        .id(new WarehouseId("WH-" + number))
+                        .region(REGION)
+                        .supportedTypes(Set.of(supportedType))
+                        .stockLevels(Map.of(PRODUCT.id(), Quantity.of(stockLevel)))
+                        .build();
+    }
+
+    private static final class BenchmarkWarehouseRepository
+            extends InMemoryEntityRepository<Warehouse, WarehouseId>
+            implements WarehouseRepository {
+
+        private final SecondaryIndex<Warehouse, WarehouseId, String> byRegion = index(Warehouse::region);
+
+        @Override
+        public List<Warehouse> findAllByRegion(String region) {
+            return findAllBy(byRegion, region);
+        }
+    }
+}
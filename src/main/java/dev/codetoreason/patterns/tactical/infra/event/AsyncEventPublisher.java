@@ -0,0 +1,493 @@
+package dev.codetoreason.patterns.tactical.infra.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * {@link EventPublisher} handing events over to subscribers on a background thread.
+ * <p>
+ * Published events are put into a bounded, lock-free ring buffer and {@link #publish(Event)} returns
+ * immediately, so the latency of the publishing code does not depend on how slow the subscribers are.
+ * A single consumer thread drains the buffer in batches of up to {@code maxBatchSize} events
+ * and delivers every batch to all subscribers, in the order the events were published.
+ * <p>
+ * When the subscribers cannot keep up and the buffer fills up, the configured {@link BackPressure} policy
+ * decides whether publishers wait, drop the oldest buffered events or fail. While the buffer is empty,
+ * the consumer thread waits according to the configured {@link WaitStrategy}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * AsyncEventPublisher eventPublisher = AsyncEventPublisher.withCapacity(4096)
+ *                                                         .subscribe(kafkaEventPublisher)
+ *                                                         .onFull(BackPressure.DROP_OLDEST)
+ *                                                         .build();
+ * OrderFulfillmentFacade facade = facadeFactory.create(shippingService, eventPublisher, orders, warehouses);
+ * }</pre>
+ * <p>
+ * Slots are cleared as soon as their events are taken, so delivered events are not retained by the buffer.
+ * <p>
+ * This class is thread-safe. Events still buffered are delivered on {@link #close()}; events buffered
+ * when the process dies are lost.
+ */
+public final class AsyncEventPublisher implements EventPublisher, AutoCloseable {
+
+    private final AtomicReferenceArray<Event> slots;
+    private final AtomicLongArray publishedSequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger activePublishers = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final List<Consumer<? super List<Event>>> subscribers;
+    private final BiConsumer<? super List<Event>, ? super RuntimeException> failureHandler;
+    private final WaitStrategy waitStrategy;
+    private final BackPressure backPressure;
+    private final int maxBatchSize;
+    private final Thread consumer;
+
+    private volatile boolean closed;
+
+    private AsyncEventPublisher(AsyncEventPublisherBuilder builder) {
+        this.capacity = builder.capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for (var i = 0; i < capacity; i++) {
+            publishedSequences.set(i, -1L);
+        }
+        this.subscribers = List.copyOf(builder.subscribers);
+        this.failureHandler = builder.failureHandler;
+        this.waitStrategy = builder.waitStrategy;
+        this.backPressure = builder.backPressure;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.consumer = builder.threadFactory.newThread(this::drain);
+        this.consumer.start();
+    }
+
+    /**
+     * Starts building a publisher buffering up to the given number of events.
+     * The capacity is rounded up to the nearest power of two.
+     *
+     * @param capacity the maximum number of buffered events (must be within {@code [1, 2^30]})
+     * @return a builder expecting the subscribers
+     * @throws IllegalArgumentException if {@code capacity} is out of range
+     */
+    public static AsyncEventPublisherBuilder withCapacity(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be within [1, 2^30]");
+        }
+        return new AsyncEventPublisherBuilder(capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /**
+     * Puts the given event into the buffer, applying the back-pressure policy if the buffer is full.
+     *
+     * @param event the event to be published (must not be {@code null})
+     * @throws IllegalArgumentException if the event is {@code null}
+     * @throws IllegalStateException    if the publisher is closed, or the buffer is full and the policy is
+     *                                  {@link BackPressure#FAIL}
+     */
+    @Override
+    public void publish(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event must not be null");
+        }
+        activePublishers.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Publisher is closed");
+            }
+            var sequence = claim();
+            var index = indexOf(sequence);
+            while (slots.get(index) != null) {
+                // the previous event of this slot has been taken, but the slot is not cleared yet
+                Thread.onSpinWait();
+            }
+            slots.set(index, event);
+            publishedSequences.set(index, sequence);
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of events buffered and not yet taken by the consumer thread.
+     *
+     * @return the current number of buffered events
+     */
+    public int backlog() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+
+    /**
+     * Returns the number of events dropped by the {@link BackPressure#DROP_OLDEST} policy so far.
+     *
+     * @return the number of dropped events
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting new events and waits until all buffered events are delivered to the subscribers.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (Thread.currentThread() == consumer) {
+            return;
+        }
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long claim() {
+        var attempt = 0;
+        while (true) {
+            var sequence = tail.get();
+            if (sequence - head.get() < capacity) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+                continue;
+            }
+            switch (backPressure) {
+                case BLOCK -> waitStrategy.idle(attempt++);
+                case DROP_OLDEST -> dropOldest();
+                case FAIL -> throw new IllegalStateException("Event buffer is full");
+            }
+        }
+    }
+
+    private void dropOldest() {
+        var oldest = head.get();
+        if (publishedSequences.get(indexOf(oldest)) != oldest) {
+            Thread.onSpinWait();
+            return;
+        }
+        if (head.compareAndSet(oldest, oldest + 1)) {
+            slots.set(indexOf(oldest), null);
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        var batch = new ArrayList<Event>(maxBatchSize);
+        var attempt = 0;
+        while (true) {
+            takeBatch(batch);
+            if (!batch.isEmpty()) {
+                deliver(List.copyOf(batch));
+                batch.clear();
+                attempt = 0;
+            } else if (closed && activePublishers.get() == 0 && head.get() == tail.get()) {
+                return;
+            } else {
+                waitStrategy.idle(attempt++);
+            }
+        }
+    }
+
+    private void takeBatch(List<Event> batch) {
+        while (batch.size() < maxBatchSize) {
+            var sequence = head.get();
+            var index = indexOf(sequence);
+            if (publishedSequences.get(index) != sequence) {
+                return;
+            }
+            var event = slots.get(index);
+            if (head.compareAndSet(sequence, sequence + 1)) {
+                slots.set(index, null);
+                batch.add(event);
+            }
+        }
+    }
+
+    private void deliver(List<Event> batch) {
+        for (var subscriber : subscribers) {
+            if (subscriber instanceof EventSubscriber(var publisher)) {
+                deliverOneByOne(publisher, batch);
+                continue;
+            }
+            try {
+                subscriber.accept(batch);
+            } catch (RuntimeException e) {
+                handleFailure(batch, e);
+            }
+        }
+    }
+
+    private void deliverOneByOne(EventPublisher subscriber, List<Event> batch) {
+        for (var event : batch) {
+            try {
+                subscriber.publish(event);
+            } catch (RuntimeException e) {
+                handleFailure(List.of(event), e);
+            }
+        }
+    }
+
+    private void handleFailure(List<Event> batch, RuntimeException failure) {
+        try {
+            failureHandler.accept(batch, failure);
+        } catch (RuntimeException ignored) {
+            // a failing handler must not stop the consumer thread
+        }
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    /**
+     * Subscriber receiving the events one by one, delivered event by event so a failure is reported per event.
+     */
+    private record EventSubscriber(EventPublisher publisher) implements Consumer<List<Event>> {
+
+        @Override
+        public void accept(List<Event> batch) {
+            batch.forEach(publisher::publish);
+        }
+    }
+
+    /**
+     * Strategy of waiting for events to arrive, or for space in the buffer to become available.
+     */
+    public enum WaitStrategy {
+
+        /**
+         * Spins on the CPU - the lowest latency at the cost of occupying a core, even when idle.
+         * Should only be used with a dedicated platform thread.
+         */
+        BUSY_SPIN {
+            @Override
+            void idle(int attempt) {
+                Thread.onSpinWait();
+            }
+        },
+
+        /**
+         * Spins for a short while, then yields the CPU to other threads.
+         */
+        YIELDING {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+
+        /**
+         * Spins and yields for a short while, then parks the thread for increasingly long periods, up to a millisecond.
+         * Leaves the CPU idle when there are no events, at the cost of up to a millisecond of latency.
+         */
+        PARKING {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else if (attempt < SPINS + YIELDS) {
+                    Thread.yield();
+                } else {
+                    var backoff = Math.min(attempt - SPINS - YIELDS, MAX_PARK_SHIFT);
+                    LockSupport.parkNanos(MIN_PARK_NANOS << backoff);
+                }
+            }
+        };
+
+        private static final int SPINS = 100;
+        private static final int YIELDS = 100;
+        private static final long MIN_PARK_NANOS = 1_000L;
+        private static final int MAX_PARK_SHIFT = 10;
+
+        abstract void idle(int attempt);
+    }
+
+    /**
+     * Policy applied when an event is published while the buffer is full.
+     */
+    public enum BackPressure {
+
+        /**
+         * The publisher waits, according to the wait strategy, until the consumer thread makes space.
+         */
+        BLOCK,
+
+        /**
+         * The oldest buffered event is dropped to make space for the published one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * The publisher fails with an {@link IllegalStateException}.
+         */
+        FAIL
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link AsyncEventPublisher} instances.
+     */
+    public static final class AsyncEventPublisherBuilder {
+
+        private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+        private final int capacity;
+        private final List<Consumer<? super List<Event>>> subscribers = new ArrayList<>();
+        private BiConsumer<? super List<Event>, ? super RuntimeException> failureHandler =
+                (_, e) -> Thread.currentThread()
+                                .getUncaughtExceptionHandler()
+                                .uncaughtException(Thread.currentThread(), e);
+        private WaitStrategy waitStrategy = WaitStrategy.PARKING;
+        private BackPressure backPressure = BackPressure.BLOCK;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private ThreadFactory threadFactory = Thread.ofPlatform()
+                                                    .name("async-event-publisher-", 0)
+                                                    .daemon()
+                                                    .factory();
+
+        private AsyncEventPublisherBuilder(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Adds a subscriber receiving the events one by one. An event the subscriber fails to publish is reported
+         * to the failure handler on its own, and the subscriber still receives the remaining events of the batch.
+         *
+         * @param subscriber the downstream publisher (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code subscriber} is null
+         */
+        public AsyncEventPublisherBuilder subscribe(EventPublisher subscriber) {
+            if (subscriber == null) {
+                throw new IllegalArgumentException("Subscriber must not be null");
+            }
+            subscribers.add(new EventSubscriber(subscriber));
+            return this;
+        }
+
+        /**
+         * Adds a subscriber receiving the events in batches, e.g. to send them to a broker in a single request.
+         *
+         * @param subscriber the consumer of immutable batches of events (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code subscriber} is null
+         */
+        public AsyncEventPublisherBuilder subscribeToBatches(Consumer<? super List<Event>> subscriber) {
+            if (subscriber == null) {
+                throw new IllegalArgumentException("Subscriber must not be null");
+            }
+            subscribers.add(subscriber);
+            return this;
+        }
+
+        /**
+         * Sets the handler of exceptions thrown by subscribers. Defaults to the uncaught exception handler
+         * of the consumer thread. A failing subscriber does not prevent the batch from being delivered to others.
+         * The handler receives the whole batch from subscribers added with {@link #subscribeToBatches(Consumer)},
+         * and only the failed event from subscribers added with {@link #subscribe(EventPublisher)}.
+         * Exceptions thrown by the handler itself are ignored, so they never stop the delivery of later batches.
+         *
+         * @param failureHandler the handler receiving the failed events and the exception (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code failureHandler} is null
+         */
+        public AsyncEventPublisherBuilder onSubscriberFailure(
+                BiConsumer<? super List<Event>, ? super RuntimeException> failureHandler
+        ) {
+            if (failureHandler == null) {
+                throw new IllegalArgumentException("Failure handler must not be null");
+            }
+            this.failureHandler = failureHandler;
+            return this;
+        }
+
+        /**
+         * Sets the strategy of waiting for events and for space in the buffer. Defaults to {@link WaitStrategy#PARKING}.
+         *
+         * @param waitStrategy the wait strategy (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code waitStrategy} is null
+         */
+        public AsyncEventPublisherBuilder waitStrategy(WaitStrategy waitStrategy) {
+            if (waitStrategy == null) {
+                throw new IllegalArgumentException("Wait strategy must not be null");
+            }
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the policy applied when the buffer is full. Defaults to {@link BackPressure#BLOCK}.
+         *
+         * @param backPressure the back-pressure policy (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code backPressure} is null
+         */
+        public AsyncEventPublisherBuilder onFull(BackPressure backPressure) {
+            if (backPressure == null) {
+                throw new IllegalArgumentException("Back-pressure policy must not be null");
+            }
+            this.backPressure = backPressure;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of events delivered to subscribers at once. Defaults to 256.
+         *
+         * @param maxBatchSize the maximum size of a batch (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code maxBatchSize} is not positive
+         */
+        public AsyncEventPublisherBuilder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the factory of the consumer thread. Defaults to a daemon platform thread.
+         *
+         * @param threadFactory the thread factory (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code threadFactory} is null
+         */
+        public AsyncEventPublisherBuilder threadFactory(ThreadFactory threadFactory) {
+            if (threadFactory == null) {
+                throw new IllegalArgumentException("Thread factory must not be null");
+            }
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Starts the consumer thread and returns the ready-to-use publisher.
+         *
+         * @return the started {@link AsyncEventPublisher}
+         * @throws IllegalArgumentException if no subscriber was added
+         */
+        public AsyncEventPublisher build() {
+            if (subscribers.isEmpty()) {
+                throw new IllegalArgumentException("At least one subscriber must be added");
+            }
+            return new AsyncEventPublisher(this);
+        }
+    }
+}
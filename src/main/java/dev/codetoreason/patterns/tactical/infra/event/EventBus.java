@@ -0,0 +1,179 @@
+package dev.codetoreason.patterns.tactical.infra.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link EventPublisher} delivering events to subscribers registered per event type.
+ * <p>
+ * A subscriber of a type receives events of that type and of all its subtypes, so subscribing to
+ * {@link Event} itself receives every event. Subscribers of a given event class are resolved once,
+ * on the first publication of that class, into a dispatch table cached in a {@link ClassValue};
+ * every later publication costs a single iteration over an array, without reflection or map lookups.
+ * <p>
+ * Subscribers run either inline, on the publishing thread, or asynchronously, on an executor
+ * (a new virtual thread per event by default). Inline subscribers are called in the order of subscription
+ * and an exception thrown by one of them propagates to the publisher, skipping the remaining ones.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * EventPublisher eventBus = EventBus.builder()
+ *                                   .subscribe(OrderFulfilledEvent.class, invoicing::issueInvoice)
+ *                                   .subscribeAsync(OrderRejectedEvent.class, notifications::notifyCustomer)
+ *                                   .subscribe(Event.class, auditLog::append)
+ *                                   .build();
+ * }</pre>
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class EventBus implements EventPublisher {
+
+    private final List<Subscriber> subscribers;
+    private final ClassValue<Subscriber[]> dispatchTables = new ClassValue<>() {
+        @Override
+        protected Subscriber[] computeValue(Class<?> eventClass) {
+            return subscribers.stream()
+                              .filter(subscriber -> subscriber.type().isAssignableFrom(eventClass))
+                              .toArray(Subscriber[]::new);
+        }
+    };
+
+    private EventBus(List<Subscriber> subscribers) {
+        this.subscribers = subscribers;
+    }
+
+    /**
+     * Starts building an event bus.
+     *
+     * @return a builder expecting the subscribers
+     */
+    public static EventBusBuilder builder() {
+        return new EventBusBuilder();
+    }
+
+    /**
+     * Delivers the given event to all subscribers of its class and of its supertypes.
+     *
+     * @param event the event to be published (must not be {@code null})
+     * @throws IllegalArgumentException if the event is {@code null}
+     */
+    @Override
+    public void publish(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event must not be null");
+        }
+        for (var subscriber : dispatchTables.get(event.getClass())) {
+            subscriber.deliver(event);
+        }
+    }
+
+    /**
+     * Returns the number of subscribers receiving events of the given class.
+     *
+     * @param eventClass the class of events (must not be null)
+     * @return the number of subscribers of the class and of its supertypes
+     * @throws IllegalArgumentException if {@code eventClass} is null
+     */
+    public int subscribersOf(Class<? extends Event> eventClass) {
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Event class must not be null");
+        }
+        return dispatchTables.get(eventClass).length;
+    }
+
+    private record Subscriber(Class<?> type, Consumer<Event> handler, Executor executor) {
+
+        void deliver(Event event) {
+            if (executor == null) {
+                handler.accept(event);
+            } else {
+                executor.execute(() -> handler.accept(event));
+            }
+        }
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link EventBus} instances.
+     */
+    public static final class EventBusBuilder {
+
+        private final List<Subscription> subscriptions = new ArrayList<>();
+        private Executor asyncExecutor = runnable -> Thread.ofVirtual().start(runnable);
+
+        private EventBusBuilder() {
+        }
+
+        /**
+         * Adds a subscriber called on the publishing thread for events of the given type and its subtypes.
+         *
+         * @param type       the type of events (must not be null)
+         * @param subscriber the subscriber (must not be null)
+         * @param <E>        the type of events
+         * @return this builder instance
+         * @throws IllegalArgumentException if any argument is null
+         */
+        public <E extends Event> EventBusBuilder subscribe(Class<E> type, Consumer<? super E> subscriber) {
+            return add(type, subscriber, false);
+        }
+
+        /**
+         * Adds a subscriber called on the asynchronous executor for events of the given type and its subtypes.
+         *
+         * @param type       the type of events (must not be null)
+         * @param subscriber the subscriber (must not be null)
+         * @param <E>        the type of events
+         * @return this builder instance
+         * @throws IllegalArgumentException if any argument is null
+         * @see #asyncExecutor(Executor)
+         */
+        public <E extends Event> EventBusBuilder subscribeAsync(Class<E> type, Consumer<? super E> subscriber) {
+            return add(type, subscriber, true);
+        }
+
+        /**
+         * Sets the executor running asynchronous subscribers. Defaults to a new virtual thread per event.
+         *
+         * @param asyncExecutor the executor (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code asyncExecutor} is null
+         */
+        public EventBusBuilder asyncExecutor(Executor asyncExecutor) {
+            if (asyncExecutor == null) {
+                throw new IllegalArgumentException("Executor must not be null");
+            }
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        /**
+         * Finalizes the subscriptions and returns the event bus.
+         *
+         * @return the composed {@link EventBus}
+         */
+        public EventBus build() {
+            return new EventBus(
+                    subscriptions.stream()
+                                 .map(subscription -> new Subscriber(
+                                         subscription.type(),
+                                         subscription.handler(),
+                                         subscription.async() ? asyncExecutor : null
+                                 ))
+                                 .toList()
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        private <E extends Event> EventBusBuilder add(Class<E> type, Consumer<? super E> subscriber, boolean async) {
+            if (type == null || subscriber == null) {
+                throw new IllegalArgumentException("Event type and subscriber must not be null");
+            }
+            subscriptions.add(new Subscription(type, (Consumer<Event>) subscriber, async));
+            return this;
+        }
+
+        private record Subscription(Class<?> type, Consumer<Event> handler, boolean async) {
+        }
+    }
+}
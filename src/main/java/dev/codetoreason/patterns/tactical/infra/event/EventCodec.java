@@ -0,0 +1,34 @@
+package dev.codetoreason.patterns.tactical.infra.event;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts events to and from their binary representation, e.g. stored in an outbox or sent over the wire.
+ * <p>
+ * Implementations must be thread-safe and decode exactly what they encoded.
+ *
+ * @see RecordEventCodec
+ */
+public interface EventCodec {
+
+    /**
+     * Encodes the given event.
+     * <p>
+     * Implementations may reuse the returned buffer for the next event encoded on the same thread,
+     * so it must be consumed before that.
+     *
+     * @param event the event to encode
+     * @return a buffer whose remaining bytes hold the encoded event
+     * @throws IllegalArgumentException if the event cannot be encoded by this codec
+     */
+    ByteBuffer encode(Event event);
+
+    /**
+     * Decodes an event from the given payload.
+     *
+     * @param payload the remaining bytes of an encoded event
+     * @return the decoded event
+     * @throws IllegalArgumentException if the payload is not an event encoded by this codec
+     */
+    Event decode(ByteBuffer payload);
+}
@@ -0,0 +1,723 @@
+package dev.codetoreason.patterns.tactical.infra.event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact binary {@link EventCodec} for events declared as records.
+ * <p>
+ * The binary layout is derived from the record components, in declaration order, so no schema
+ * has to be written by hand. An encoded event starts with the type id it was registered with,
+ * followed by its components:
+ * <ul>
+ *     <li>{@code byte}, {@code short}, {@code char}, {@code int} and {@code long} as zig-zag varints,</li>
+ *     <li>{@code boolean}, {@code float} and {@code double} in their fixed-size form,</li>
+ *     <li>{@link String} as varint length and UTF-8 bytes, {@code enum} as varint ordinal,
+ *     both shifted by one to leave zero for {@code null},</li>
+ *     <li>{@link UUID}, {@link BigDecimal}, {@link Instant}, boxed primitives and nested records,
+ *     preceded by a presence byte.</li>
+ * </ul>
+ * The accessors and the canonical constructor of every record class are resolved once into method handles
+ * and cached per class, so encoding is a straight walk over the components without reflection.
+ * Events are encoded into a buffer reused per platform thread, so encoding primitives, strings and enums
+ * allocates nothing. Virtual threads are rarely reused, so they get a fresh buffer on every call instead;
+ * code running on virtual threads should encode into a buffer of its own with {@link #encode(Event, ByteBuffer)}.
+ * <p>
+ * Strings of components opted in with {@link RecordEventCodecBuilder#internStrings(Class, String)} are interned
+ * in a pool bounded per codec, so repeated values such as rejection reasons share a single instance instead of
+ * filling the heap with equal copies. Other strings, e.g. identifiers, are decoded as new instances.
+ * <p>
+ * The layout is not self-describing: adding, removing or reordering components of a registered record
+ * makes payloads encoded before unreadable, so such changes require a new type id.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * EventCodec codec = RecordEventCodec.builder()
+ *                                    .register(1, OrderFulfilledEvent.class)
+ *                                    .register(2, OrderRejectedEvent.class)
+ *                                    .build();
+ * }</pre>
+ * <p>
+ * This class is thread-safe.
+ */
+public final class RecordEventCodec implements EventCodec {
+
+    private static final int MAX_TYPE_ID = 0xFFFF;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final ClassValue<RecordLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected RecordLayout computeValue(Class<?> recordClass) {
+            return RecordLayout.of(recordClass);
+        }
+    };
+
+    private final RecordLayout[] layoutsByTypeId;
+    private final ClassValue<Integer> typeIds;
+    private final StringPool strings;
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+
+    private RecordEventCodec(Map<Class<?>, Integer> registrations, Set<ComponentKey> internedComponents, int maxInternedStrings) {
+        var maxTypeId = registrations.values().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        this.layoutsByTypeId = new RecordLayout[maxTypeId + 1];
+        registrations.forEach((eventClass, typeId) -> layoutsByTypeId[typeId] = LAYOUTS.get(eventClass));
+        this.typeIds = new ClassValue<>() {
+            @Override
+            protected Integer computeValue(Class<?> eventClass) {
+                return registrations.get(eventClass);
+            }
+        };
+        this.strings = new StringPool(internedComponents, maxInternedStrings);
+    }
+
+    /**
+     * Starts building a codec.
+     *
+     * @return a builder expecting the event classes
+     */
+    public static RecordEventCodecBuilder builder() {
+        return new RecordEventCodecBuilder();
+    }
+
+    /**
+     * Encodes the given event into a buffer owned by the calling thread.
+     * <p>
+     * The returned buffer is overwritten by the next call on the same thread, so it has to be consumed,
+     * e.g. appended to a log or written to a channel, before another event is encoded.
+     * On a virtual thread, a new buffer is allocated on every call; prefer {@link #encode(Event, ByteBuffer)} there.
+     *
+     * @param event the event to encode
+     * @return a buffer whose remaining bytes hold the encoded event
+     * @throws IllegalArgumentException if the event is {@code null} or its class is not registered
+     */
+    @Override
+    public ByteBuffer encode(Event event) {
+        var reused = !Thread.currentThread().isVirtual();
+        var buffer = reused ? buffers.get() : ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        while (true) {
+            try {
+                buffer.clear();
+                encode(event, buffer);
+                return buffer.flip();
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                if (reused) {
+                    buffers.set(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes the given event into the given buffer, starting at its position.
+     *
+     * @param event  the event to encode
+     * @param target the buffer to write to (must not be null)
+     * @throws IllegalArgumentException if any argument is {@code null} or the event class is not registered
+     * @throws BufferOverflowException  if the event does not fit in the buffer; its position is left unchanged
+     */
+    public void encode(Event event, ByteBuffer target) {
+        if (event == null || target == null) {
+            throw new IllegalArgumentException("Event and target buffer must not be null");
+        }
+        var typeId = typeIds.get(event.getClass());
+        if (typeId == null) {
+            throw new IllegalArgumentException("Event class " + event.getClass().getName() + " is not registered");
+        }
+        var start = target.position();
+        try {
+            writeVarint(target, typeId);
+            layoutsByTypeId[typeId].write(event, target);
+        } catch (BufferOverflowException e) {
+            target.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes an event from the remaining bytes of the given payload, leaving its position unchanged.
+     *
+     * @param payload the encoded event
+     * @return the decoded event
+     * @throws IllegalArgumentException if the payload is {@code null}, malformed or of an unknown type id
+     */
+    @Override
+    public Event decode(ByteBuffer payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Payload must not be null");
+        }
+        var in = payload.duplicate();
+        try {
+            var typeId = readVarint(in);
+            if (typeId >= layoutsByTypeId.length || layoutsByTypeId[typeId] == null) {
+                throw new IllegalArgumentException("Unknown type id " + typeId);
+            }
+            var event = (Event) layoutsByTypeId[typeId].read(in, strings);
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("Payload has " + in.remaining() + " unexpected trailing bytes");
+            }
+            return event;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Payload is truncated", e);
+        }
+    }
+
+    private static void writeVarint(ByteBuffer out, int value) {
+        writeVarlong(out, value & 0xFFFF_FFFFL);
+    }
+
+    private static void writeVarlong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static void writeZigZag(ByteBuffer out, long value) {
+        writeVarlong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        var value = readVarlong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint " + value + " is out of range");
+        }
+        return (int) value;
+    }
+
+    private static long readVarlong(ByteBuffer in) {
+        var value = 0L;
+        for (var shift = 0; shift < Long.SIZE; shift += 7) {
+            var b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static long readZigZag(ByteBuffer in) {
+        var value = readVarlong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeString(ByteBuffer out, String value) {
+        var length = value.length();
+        var utf8Length = 0;
+        for (var i = 0; i < length; i++) {
+            var c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                utf8Length++;
+            } else {
+                utf8Length += 3;
+            }
+        }
+        writeVarint(out, utf8Length + 1);
+        for (var i = 0; i < length; i++) {
+            var c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        var length = readVarint(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (in.hasArray()) {
+            var value = new String(in.array(), in.arrayOffset() + in.position(), length, UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        var bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static int checkedLength(ByteBuffer in) {
+        var length = readVarint(in);
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static Object narrow(long value, Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return (int) value;
+        } else if (type == long.class || type == Long.class) {
+            return value;
+        } else if (type == short.class || type == Short.class) {
+            return (short) value;
+        } else if (type == byte.class || type == Byte.class) {
+            return (byte) value;
+        }
+        return (char) value;
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException e) {
+            throw e;
+        }
+        if (throwable instanceof Error e) {
+            throw e;
+        }
+        throw new IllegalStateException(throwable);
+    }
+
+    private record RecordLayout(Class<?> recordClass, Component[] components, MethodHandle constructor) {
+
+        static RecordLayout of(Class<?> recordClass) {
+            if (!recordClass.isRecord()) {
+                throw new IllegalArgumentException("Class " + recordClass.getName() + " is not a record");
+            }
+            var recordComponents = recordClass.getRecordComponents();
+            var lookup = MethodHandles.lookup();
+            try {
+                var components = new Component[recordComponents.length];
+                for (var i = 0; i < recordComponents.length; i++) {
+                    components[i] = Component.of(recordComponents[i], lookup);
+                }
+                var canonical = recordClass.getDeclaredConstructor(
+                        Arrays.stream(recordComponents).map(RecordComponent::getType).toArray(Class<?>[]::new)
+                );
+                canonical.trySetAccessible();
+                var constructor = lookup.unreflectConstructor(canonical)
+                                        .asType(MethodType.methodType(Object.class, canonical.getParameterTypes()))
+                                        .asSpreader(Object[].class, recordComponents.length);
+                return new RecordLayout(recordClass, components, constructor);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Record " + recordClass.getName() + " is not accessible", e);
+            }
+        }
+
+        void write(Object record, ByteBuffer out) {
+            try {
+                for (var component : components) {
+                    component.write(record, out);
+                }
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        Object read(ByteBuffer in, StringPool strings) {
+            var arguments = new Object[components.length];
+            for (var i = 0; i < components.length; i++) {
+                arguments[i] = components[i].read(in, strings);
+            }
+            try {
+                return constructor.invokeExact(arguments);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        Set<Class<?>> nestedRecordClasses() {
+            var nested = new HashSet<Class<?>>();
+            for (var component : components) {
+                if (component instanceof ReferenceComponent reference && reference.codec() instanceof NestedRecordCodec nestedRecord) {
+                    nested.add(nestedRecord.type());
+                }
+            }
+            return nested;
+        }
+    }
+
+    private interface Component {
+
+        static Component of(RecordComponent recordComponent, MethodHandles.Lookup lookup) throws IllegalAccessException {
+            var accessor = recordComponent.getAccessor();
+            accessor.trySetAccessible();
+            var getter = lookup.unreflect(accessor);
+            var type = recordComponent.getType();
+            if (type == boolean.class) {
+                return new BooleanComponent(getter.asType(MethodType.methodType(boolean.class, Object.class)));
+            } else if (type == float.class || type == double.class) {
+                return new FloatingComponent(getter.asType(MethodType.methodType(double.class, Object.class)), type == float.class);
+            } else if (type.isPrimitive()) {
+                return new IntegralComponent(getter.asType(MethodType.methodType(long.class, Object.class)), type);
+            }
+            return new ReferenceComponent(
+                    getter.asType(MethodType.methodType(Object.class, Object.class)),
+                    ValueCodec.of(type, recordComponent)
+            );
+        }
+
+        void write(Object record, ByteBuffer out) throws Throwable;
+
+        Object read(ByteBuffer in, StringPool strings);
+    }
+
+    private record BooleanComponent(MethodHandle getter) implements Component {
+
+        @Override
+        public void write(Object record, ByteBuffer out) throws Throwable {
+            out.put((boolean) getter.invokeExact(record) ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            return in.get() != 0;
+        }
+    }
+
+    private record IntegralComponent(MethodHandle getter, Class<?> type) implements Component {
+
+        @Override
+        public void write(Object record, ByteBuffer out) throws Throwable {
+            writeZigZag(out, (long) getter.invokeExact(record));
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            return narrow(readZigZag(in), type);
+        }
+    }
+
+    private record FloatingComponent(MethodHandle getter, boolean single) implements Component {
+
+        @Override
+        public void write(Object record, ByteBuffer out) throws Throwable {
+            var value = (double) getter.invokeExact(record);
+            if (single) {
+                out.putFloat((float) value);
+            } else {
+                out.putDouble(value);
+            }
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            return single ? (Object) in.getFloat() : (Object) in.getDouble();
+        }
+    }
+
+    private record ReferenceComponent(MethodHandle getter, ValueCodec codec) implements Component {
+
+        @Override
+        public void write(Object record, ByteBuffer out) throws Throwable {
+            codec.write((Object) getter.invokeExact(record), out);
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            return codec.read(in, strings);
+        }
+    }
+
+    private sealed interface ValueCodec {
+
+        static ValueCodec of(Class<?> type, RecordComponent recordComponent) {
+            var declaringRecord = recordComponent.getDeclaringRecord();
+            if (type == String.class) {
+                return new StringCodec(new ComponentKey(declaringRecord, recordComponent.getName()));
+            } else if (type.isEnum()) {
+                return new EnumCodec(type.getEnumConstants());
+            } else if (type.isRecord()) {
+                return new NestedRecordCodec(type);
+            } else if (type == UUID.class || type == BigDecimal.class || type == Instant.class
+                    || type == Boolean.class || type == Float.class || type == Double.class
+                    || type == Byte.class || type == Short.class || type == Character.class
+                    || type == Integer.class || type == Long.class) {
+                return new ScalarCodec(type);
+            }
+            throw new IllegalArgumentException(
+                    "Unsupported component type " + type.getName() + " of record " + declaringRecord.getName()
+            );
+        }
+
+        void write(Object value, ByteBuffer out);
+
+        Object read(ByteBuffer in, StringPool strings);
+    }
+
+    private record StringCodec(ComponentKey component) implements ValueCodec {
+
+        @Override
+        public void write(Object value, ByteBuffer out) {
+            if (value == null) {
+                out.put((byte) 0);
+            } else {
+                writeString(out, (String) value);
+            }
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            var value = readString(in);
+            return value == null ? null : strings.intern(component, value);
+        }
+    }
+
+    private record EnumCodec(Object[] constants) implements ValueCodec {
+
+        @Override
+        public void write(Object value, ByteBuffer out) {
+            writeVarint(out, value == null ? 0 : ((Enum<?>) value).ordinal() + 1);
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            var ordinal = readVarint(in) - 1;
+            if (ordinal >= constants.length) {
+                throw new IllegalArgumentException("Unknown enum ordinal " + ordinal);
+            }
+            return ordinal < 0 ? null : constants[ordinal];
+        }
+    }
+
+    private record NestedRecordCodec(Class<?> type) implements ValueCodec {
+
+        @Override
+        public void write(Object value, ByteBuffer out) {
+            out.put(value == null ? (byte) 0 : (byte) 1);
+            if (value != null) {
+                LAYOUTS.get(type).write(value, out);
+            }
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            return in.get() == 0 ? null : LAYOUTS.get(type).read(in, strings);
+        }
+    }
+
+    private record ScalarCodec(Class<?> type) implements ValueCodec {
+
+        @Override
+        public void write(Object value, ByteBuffer out) {
+            out.put(value == null ? (byte) 0 : (byte) 1);
+            if (value instanceof UUID uuid) {
+                out.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+            } else if (value instanceof BigDecimal decimal) {
+                writeZigZag(out, decimal.scale());
+                var unscaled = decimal.unscaledValue().toByteArray();
+                writeVarint(out, unscaled.length);
+                out.put(unscaled);
+            } else if (value instanceof Instant instant) {
+                writeZigZag(out, instant.getEpochSecond());
+                writeVarint(out, instant.getNano());
+            } else if (value instanceof Boolean flag) {
+                out.put(flag ? (byte) 1 : (byte) 0);
+            } else if (value instanceof Float number) {
+                out.putFloat(number);
+            } else if (value instanceof Double number) {
+                out.putDouble(number);
+            } else if (value instanceof Character character) {
+                writeVarint(out, character);
+            } else if (value instanceof Number number) {
+                writeZigZag(out, number.longValue());
+            }
+        }
+
+        @Override
+        public Object read(ByteBuffer in, StringPool strings) {
+            if (in.get() == 0) {
+                return null;
+            } else if (type == UUID.class) {
+                return new UUID(in.getLong(), in.getLong());
+            } else if (type == BigDecimal.class) {
+                var scale = (int) readZigZag(in);
+                var unscaled = new byte[checkedLength(in)];
+                in.get(unscaled);
+                return new BigDecimal(new BigInteger(unscaled), scale);
+            } else if (type == Instant.class) {
+                return Instant.ofEpochSecond(readZigZag(in), readVarint(in));
+            } else if (type == Boolean.class) {
+                return in.get() != 0;
+            } else if (type == Float.class) {
+                return in.getFloat();
+            } else if (type == Double.class) {
+                return in.getDouble();
+            } else if (type == Character.class) {
+                return (char) readVarint(in);
+            }
+            return narrow(readZigZag(in), type);
+        }
+    }
+
+    private record ComponentKey(Class<?> recordClass, String name) {
+    }
+
+    private static final class StringPool {
+
+        private final Set<ComponentKey> internedComponents;
+        private final int capacity;
+        private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+        private StringPool(Set<ComponentKey> internedComponents, int capacity) {
+            this.internedComponents = internedComponents;
+            this.capacity = capacity;
+        }
+
+        String intern(ComponentKey component, String value) {
+            if (!internedComponents.contains(component)) {
+                return value;
+            }
+            var interned = strings.get(value);
+            if (interned != null) {
+                return interned;
+            }
+            if (strings.size() >= capacity) {
+                return value;
+            }
+            interned = strings.putIfAbsent(value, value);
+            return interned == null ? value : interned;
+        }
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link RecordEventCodec} instances.
+     */
+    public static final class RecordEventCodecBuilder {
+
+        private static final int DEFAULT_MAX_INTERNED_STRINGS = 1024;
+
+        private final Map<Class<?>, Integer> registrations = new LinkedHashMap<>();
+        private final Set<ComponentKey> internedComponents = new HashSet<>();
+        private int maxInternedStrings = DEFAULT_MAX_INTERNED_STRINGS;
+
+        private RecordEventCodecBuilder() {
+        }
+
+        /**
+         * Registers an event record class under the given type id, written in front of every encoded event.
+         * <p>
+         * Type ids are persisted together with events, so they must stay stable as long as any payload
+         * encoded with them may still be decoded. Small ids are encoded in a single byte.
+         *
+         * @param typeId     the type id within [0, 65535]
+         * @param eventClass the event record class (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if the class is null, not a record, has components of unsupported types
+         *                                  or is already registered, or if the type id is out of range or taken
+         */
+        public RecordEventCodecBuilder register(int typeId, Class<? extends Event> eventClass) {
+            if (eventClass == null) {
+                throw new IllegalArgumentException("Event class must not be null");
+            }
+            if (typeId < 0 || typeId > MAX_TYPE_ID) {
+                throw new IllegalArgumentException("Type id must be within [0, " + MAX_TYPE_ID + "]");
+            }
+            if (registrations.containsValue(typeId)) {
+                throw new IllegalArgumentException("Type id " + typeId + " is already registered");
+            }
+            if (registrations.containsKey(eventClass)) {
+                throw new IllegalArgumentException("Event class " + eventClass.getName() + " is already registered");
+            }
+            validate(eventClass, new HashSet<>());
+            registrations.put(eventClass, typeId);
+            return this;
+        }
+
+        /**
+         * Opts the given {@link String} component in to interning: equal values decoded for it share a single instance.
+         * <p>
+         * Meant for components with few distinct values, such as reasons or statuses. Components with unbounded
+         * values, such as identifiers, would only fill the pool, so they are not interned unless opted in.
+         *
+         * @param recordClass   the record class declaring the component, an event or a nested record (must not be null)
+         * @param componentName the name of the component
+         * @return this builder instance
+         * @throws IllegalArgumentException if the class is null or not a record, or has no {@code String} component
+         *                                  of the given name
+         */
+        public RecordEventCodecBuilder internStrings(Class<? extends Record> recordClass, String componentName) {
+            if (recordClass == null) {
+                throw new IllegalArgumentException("Record class must not be null");
+            }
+            if (!recordClass.isRecord()) {
+                throw new IllegalArgumentException("Class " + recordClass.getName() + " is not a record");
+            }
+            var declared = Arrays.stream(recordClass.getRecordComponents())
+                                 .anyMatch(component -> component.getName().equals(componentName)
+                                         && component.getType() == String.class);
+            if (!declared) {
+                throw new IllegalArgumentException(
+                        "Record " + recordClass.getName() + " has no String component " + componentName
+                );
+            }
+            internedComponents.add(new ComponentKey(recordClass, componentName));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of distinct decoded strings shared between decoded events.
+         * Strings decoded once the pool is full are not interned. Defaults to 1024.
+         *
+         * @param maxInternedStrings the capacity of the string pool (must not be negative, zero disables interning)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code maxInternedStrings} is negative
+         */
+        public RecordEventCodecBuilder maxInternedStrings(int maxInternedStrings) {
+            if (maxInternedStrings < 0) {
+                throw new IllegalArgumentException("Number of interned strings must not be negative");
+            }
+            this.maxInternedStrings = maxInternedStrings;
+            return this;
+        }
+
+        /**
+         * Finalizes the registrations and returns the codec.
+         *
+         * @return the composed {@link RecordEventCodec}
+         */
+        public RecordEventCodec build() {
+            return new RecordEventCodec(new LinkedHashMap<>(registrations), Set.copyOf(internedComponents), maxInternedStrings);
+        }
+
+        private static void validate(Class<?> recordClass, Set<Class<?>> visited) {
+            if (visited.add(recordClass)) {
+                LAYOUTS.get(recordClass)
+                       .nestedRecordClasses()
+                       .forEach(nested -> validate(nested, visited));
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package dev.codetoreason.patterns.tactical.infra.event.outbox;
+
+import dev.codetoreason.patterns.tactical.infra.event.Event;
+import dev.codetoreason.patterns.tactical.infra.event.EventCodec;
+import dev.codetoreason.patterns.tactical.infra.event.EventPublisher;
+import dev.codetoreason.patterns.tactical.infra.log.SegmentedAppendLog;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Durable {@link EventPublisher} storing events in a local outbox - a memory-mapped {@link SegmentedAppendLog}.
+ * <p>
+ * {@link #publish(Event)} returns only once the event is written through to the storage device,
+ * so an event published before e.g. a crash of the machine is never lost. The events are delivered
+ * to the actual subscribers by an {@link OutboxRelay}, independently of the publishing code.
+ * <p>
+ * Writing through every single event would make publishing as slow as the storage device, so writes
+ * are group-committed: a background thread writes through all events appended so far once
+ * {@code syncEvery} events are pending, or once the oldest pending event has waited for {@code syncAfter}.
+ * Publishers waiting for the same write-through are released together, and new events keep being appended
+ * while the previous group is being written through.
+ * <p>
+ * The outbox rolls over to a new segment once the current one reaches {@code segmentSize} bytes.
+ * Segments holding only events already delivered are deleted by the {@link OutboxRelay},
+ * so the outbox grows only as long as the relay falls behind.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * OutboxEventPublisher outbox = OutboxEventPublisher.at(Path.of("outbox.log"), eventCodec)
+ *                                                   .syncEvery(64)
+ *                                                   .syncAfter(Duration.ofNanos(500_000))
+ *                                                   .segmentSize(64 << 20)
+ *                                                   .build();
+ * OutboxRelay relay = OutboxRelay.from(outbox)
+ *                                .to(kafkaEventPublisher)
+ *                                .trackingOffsetIn(Path.of("outbox.offset"))
+ *                                .build()
+ *                                .start();
+ * }</pre>
+ * <p>
+ * This class is thread-safe.
+ */
+public final class OutboxEventPublisher implements EventPublisher, AutoCloseable {
+
+    private final SegmentedAppendLog log;
+    private final EventCodec codec;
+    private final int syncEvery;
+    private final long syncAfterNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition syncNeeded = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    private final Thread syncer;
+
+    private int pendingEvents;
+    private long oldestPendingNanos;
+    private boolean syncerInterrupted;
+    private volatile long durableEnd;
+    private volatile RuntimeException syncFailure;
+    private volatile boolean closed;
+
+    private OutboxEventPublisher(SegmentedAppendLog log, EventCodec codec, int syncEvery, Duration syncAfter) {
+        this.log = log;
+        this.codec = codec;
+        this.syncEvery = syncEvery;
+        this.syncAfterNanos = syncAfter.toNanos();
+        this.durableEnd = log.end();
+        this.syncer = Thread.ofPlatform()
+                            .name("outbox-sync-" + log.file().getFileName())
+                            .daemon()
+                            .start(this::syncContinuously);
+    }
+
+    /**
+     * Starts building an outbox stored in the given file.
+     *
+     * @param file  the file the segments of the outbox are named after (must not be null)
+     * @param codec the codec of published events (must not be null)
+     * @return a builder expecting the group commit settings
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public static OutboxEventPublisherBuilder at(Path file, EventCodec codec) {
+        if (file == null || codec == null) {
+            throw new IllegalArgumentException("File and codec must not be null");
+        }
+        return new OutboxEventPublisherBuilder(file, codec);
+    }
+
+    /**
+     * Appends the given event to the outbox and waits until it is written through to the storage device.
+     *
+     * @param event the event to be published (must not be {@code null})
+     * @throws IllegalArgumentException if the event is {@code null} or cannot be encoded
+     * @throws IllegalStateException    if the outbox is closed or cannot be written through
+     */
+    @Override
+    public void publish(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event must not be null");
+        }
+        var payload = codec.encode(event);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Outbox is closed");
+            }
+            log.append(payload);
+            var end = log.end();
+            if (++pendingEvents == 1) {
+                oldestPendingNanos = System.nanoTime();
+                syncNeeded.signal();
+            } else if (pendingEvents >= syncEvery) {
+                syncNeeded.signal();
+            }
+            while (durableEnd < end) {
+                if (syncFailure != null) {
+                    throw new IllegalStateException("Outbox " + log.file() + " cannot be written through", syncFailure);
+                }
+                synced.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting new events, writes through pending ones and closes the outbox file.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            syncNeeded.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            syncer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.close();
+    }
+
+    SegmentedAppendLog log() {
+        return log;
+    }
+
+    EventCodec codec() {
+        return codec;
+    }
+
+    long durableEnd() {
+        return durableEnd;
+    }
+
+    private void syncContinuously() {
+        try {
+            syncUntilClosed();
+        } finally {
+            if (syncerInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void syncUntilClosed() {
+        while (true) {
+            long end;
+            lock.lock();
+            try {
+                while (!isSyncDue()) {
+                    if (closed && pendingEvents == 0) {
+                        return;
+                    }
+                    awaitSyncDue();
+                }
+                end = log.end();
+                pendingEvents = 0;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                log.force();
+            } catch (RuntimeException e) {
+                syncFailure = e;
+            }
+            lock.lock();
+            try {
+                if (syncFailure == null) {
+                    durableEnd = end;
+                }
+                synced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (syncFailure != null) {
+                return;
+            }
+        }
+    }
+
+    private boolean isSyncDue() {
+        return pendingEvents > 0
+                && (closed || pendingEvents >= syncEvery || System.nanoTime() - oldestPendingNanos >= syncAfterNanos);
+    }
+
+    private void awaitSyncDue() {
+        try {
+            if (pendingEvents == 0) {
+                syncNeeded.await();
+            } else {
+                syncNeeded.awaitNanos(syncAfterNanos - (System.nanoTime() - oldestPendingNanos));
+            }
+        } catch (InterruptedException e) {
+            // the syncer is stopped by close(); restoring the flag here would make every next wait fail at once
+            syncerInterrupted = true;
+        }
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link OutboxEventPublisher} instances.
+     */
+    public static final class OutboxEventPublisherBuilder {
+
+        private static final int DEFAULT_SYNC_EVERY = 64;
+        private static final Duration DEFAULT_SYNC_AFTER = Duration.ofMillis(1);
+        private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+        private final Path file;
+        private final EventCodec codec;
+        private int syncEvery = DEFAULT_SYNC_EVERY;
+        private Duration syncAfter = DEFAULT_SYNC_AFTER;
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+        private OutboxEventPublisherBuilder(Path file, EventCodec codec) {
+            this.file = file;
+            this.codec = codec;
+        }
+
+        /**
+         * Sets the number of pending events triggering a write-through. Defaults to 64.
+         *
+         * @param syncEvery the maximum size of a committed group (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code syncEvery} is not positive
+         */
+        public OutboxEventPublisherBuilder syncEvery(int syncEvery) {
+            if (syncEvery <= 0) {
+                throw new IllegalArgumentException("Number of events must be positive");
+            }
+            this.syncEvery = syncEvery;
+            return this;
+        }
+
+        /**
+         * Sets how long the oldest pending event may wait for a write-through. Defaults to one millisecond.
+         *
+         * @param syncAfter the maximum delay of a write-through (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code syncAfter} is null, zero or negative
+         */
+        public OutboxEventPublisherBuilder syncAfter(Duration syncAfter) {
+            if (syncAfter == null || syncAfter.isNegative() || syncAfter.isZero()) {
+                throw new IllegalArgumentException("Delay must be positive");
+            }
+            this.syncAfter = syncAfter;
+            return this;
+        }
+
+        /**
+         * Sets the size after which the outbox rolls over to a new segment. Defaults to 64 MB.
+         *
+         * @param segmentSize the size of a segment in bytes (must be at least 64)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code segmentSize} is less than 64
+         */
+        public OutboxEventPublisherBuilder segmentSize(int segmentSize) {
+            if (segmentSize < 64) {
+                throw new IllegalArgumentException("Segment size must be at least 64 bytes");
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Opens the outbox segments, recovering events published before, and starts the group commit thread.
+         *
+         * @return the ready-to-use {@link OutboxEventPublisher}
+         * @throws UncheckedIOException if a segment cannot be opened
+         */
+        public OutboxEventPublisher build() {
+            return new OutboxEventPublisher(SegmentedAppendLog.open(file, segmentSize), codec, syncEvery, syncAfter);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package dev.codetoreason.patterns.tactical.infra.event.outbox;
+
+import dev.codetoreason.patterns.tactical.infra.event.EventPublisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Delivers events stored in an {@link OutboxEventPublisher} to a subscriber, with at-least-once guarantee.
+ * <p>
+ * The relay remembers the offset of the first event not delivered yet in a separate offset file,
+ * written through after every relayed batch. After a restart, delivery resumes at the remembered offset,
+ * so every event is delivered at least once; events delivered after the offset was last written
+ * are delivered again, so subscribers should be idempotent. Only events already written through
+ * to the storage device are relayed.
+ * <p>
+ * The offset is stored together with its CRC32C checksum; an offset torn by a crash is ignored and delivery
+ * starts over from the first retained event. Once the offset is written through, the outbox segments holding
+ * only delivered events are deleted, so an outbox must be relayed by a single relay.
+ * <p>
+ * Events are relayed either on demand with {@link #relayPending()}, or continuously by a background
+ * thread polling the outbox, once {@link #start()} is called. If the subscriber fails, the progress
+ * made so far is remembered and the failed event is delivered again on the next attempt.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class OutboxRelay implements AutoCloseable {
+
+    private static final int OFFSET_RECORD_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final OutboxEventPublisher outbox;
+    private final EventPublisher subscriber;
+    private final Path offsetFile;
+    private final FileChannel offsetChannel;
+    private final ByteBuffer offsetBuffer = ByteBuffer.allocate(OFFSET_RECORD_SIZE);
+    private final Duration pollInterval;
+    private final Consumer<? super RuntimeException> failureHandler;
+
+    private long offset;
+    private volatile Thread poller;
+    private volatile boolean closed;
+
+    private OutboxRelay(OutboxRelayBuilder builder) {
+        this.outbox = builder.outbox;
+        this.subscriber = builder.subscriber;
+        this.offsetFile = builder.offsetFile;
+        this.pollInterval = builder.pollInterval;
+        this.failureHandler = builder.failureHandler;
+        try {
+            this.offsetChannel = FileChannel.open(offsetFile, CREATE, READ, WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open offset file " + offsetFile, e);
+        }
+        try {
+            this.offset = readOffset();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Cannot read offset file " + offsetFile, e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts building a relay of events stored in the given outbox.
+     *
+     * @param outbox the outbox to relay events from (must not be null)
+     * @return a builder expecting the subscriber and the offset file
+     * @throws IllegalArgumentException if {@code outbox} is null
+     */
+    public static OutboxRelayBuilder from(OutboxEventPublisher outbox) {
+        if (outbox == null) {
+            throw new IllegalArgumentException("Outbox must not be null");
+        }
+        return new OutboxRelayBuilder(outbox);
+    }
+
+    /**
+     * Delivers all events written through to the outbox and not delivered yet, then remembers the progress.
+     *
+     * @return the number of delivered events
+     * @throws RuntimeException     the exception thrown by the subscriber, after remembering the progress made before it
+     * @throws UncheckedIOException if the offset file cannot be written
+     */
+    public synchronized int relayPending() {
+        var limit = outbox.durableEnd();
+        if (offset == limit) {
+            return 0;
+        }
+        var codec = outbox.codec();
+        var delivered = new int[1];
+        var resumeAt = new long[]{offset};
+        try {
+            outbox.log().forEachBetween(offset, limit, (recordOffset, payload) -> {
+                resumeAt[0] = recordOffset;
+                subscriber.publish(codec.decode(payload));
+                delivered[0]++;
+            });
+            resumeAt[0] = limit;
+        } finally {
+            writeOffset(resumeAt[0]);
+        }
+        return delivered[0];
+    }
+
+    /**
+     * Starts a background thread relaying events continuously.
+     *
+     * @return this relay
+     * @throws IllegalStateException if the relay is already started or closed
+     */
+    public synchronized OutboxRelay start() {
+        if (poller != null || closed) {
+            throw new IllegalStateException("Relay is already started or closed");
+        }
+        poller = Thread.ofVirtual()
+                       .name("outbox-relay-" + offsetFile.getFileName())
+                       .start(this::relayContinuously);
+        return this;
+    }
+
+    /**
+     * Returns the offset of the first event not delivered yet.
+     *
+     * @return the remembered offset in the outbox
+     */
+    public synchronized long offset() {
+        return offset;
+    }
+
+    /**
+     * Stops the background thread, if started, and closes the offset file. The outbox is left open.
+     *
+     * @throws UncheckedIOException if the offset file cannot be closed
+     */
+    @Override
+    public void close() {
+        closed = true;
+        var thread = poller;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            try {
+                offsetChannel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close offset file " + offsetFile, e);
+            }
+        }
+    }
+
+    private void relayContinuously() {
+        while (!closed) {
+            try {
+                if (relayPending() > 0) {
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                failureHandler.accept(e);
+            }
+            LockSupport.parkNanos(pollInterval.toNanos());
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            offsetChannel.close();
+        } catch (IOException e) {
+            // the original failure is more relevant
+        }
+    }
+
+    private long readOffset() throws IOException {
+        var start = outbox.log().start();
+        offsetBuffer.clear();
+        if (offsetChannel.read(offsetBuffer, 0) < OFFSET_RECORD_SIZE
+                || offsetBuffer.getInt(Long.BYTES) != checksumOf(offsetBuffer.getLong(0))) {
+            return start;
+        }
+        var remembered = offsetBuffer.getLong(0);
+        if (remembered < start || remembered > outbox.durableEnd() || !outbox.log().isRecordBoundary(remembered)) {
+            throw new IllegalStateException("Offset " + remembered + " in " + offsetFile + " does not belong to the outbox");
+        }
+        return remembered;
+    }
+
+    private void writeOffset(long newOffset) {
+        if (newOffset == offset) {
+            return;
+        }
+        try {
+            offsetBuffer.clear();
+            offsetBuffer.putLong(0, newOffset);
+            offsetBuffer.putInt(Long.BYTES, checksumOf(newOffset));
+            offsetChannel.write(offsetBuffer, 0);
+            offsetChannel.force(false);
+            offset = newOffset;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write offset file " + offsetFile, e);
+        }
+        outbox.log().deleteBefore(newOffset);
+    }
+
+    private static int checksumOf(long offset) {
+        var checksum = new CRC32C();
+        checksum.update(ByteBuffer.allocate(Long.BYTES).putLong(0, offset));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link OutboxRelay} instances.
+     */
+    public static final class OutboxRelayBuilder {
+
+        private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(10);
+
+        private final OutboxEventPublisher outbox;
+        private EventPublisher subscriber;
+        private Path offsetFile;
+        private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+        private Consumer<? super RuntimeException> failureHandler =
+                e -> Thread.currentThread()
+                           .getUncaughtExceptionHandler()
+                           .uncaughtException(Thread.currentThread(), e);
+
+        private OutboxRelayBuilder(OutboxEventPublisher outbox) {
+            this.outbox = outbox;
+        }
+
+        /**
+         * Sets the subscriber the events are delivered to.
+         *
+         * @param subscriber the downstream publisher (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code subscriber} is null
+         */
+        public OutboxRelayBuilder to(EventPublisher subscriber) {
+            if (subscriber == null) {
+                throw new IllegalArgumentException("Subscriber must not be null");
+            }
+            this.subscriber = subscriber;
+            return this;
+        }
+
+        /**
+         * Sets the file remembering the offset of the first event not delivered yet.
+         *
+         * @param offsetFile the offset file, created if it does not exist (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code offsetFile} is null
+         */
+        public OutboxRelayBuilder trackingOffsetIn(Path offsetFile) {
+            if (offsetFile == null) {
+                throw new IllegalArgumentException("Offset file must not be null");
+            }
+            this.offsetFile = offsetFile;
+            return this;
+        }
+
+        /**
+         * Sets how long the background thread waits before polling an exhausted outbox again. Defaults to 10 milliseconds.
+         *
+         * @param pollInterval the poll interval (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code pollInterval} is null, zero or negative
+         */
+        public OutboxRelayBuilder pollEvery(Duration pollInterval) {
+            if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+                throw new IllegalArgumentException("Poll interval must be positive");
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the handler of exceptions thrown while relaying on the background thread.
+         * Defaults to the uncaught exception handler of the background thread.
+         *
+         * @param failureHandler the failure handler (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code failureHandler} is null
+         */
+        public OutboxRelayBuilder onFailure(Consumer<? super RuntimeException> failureHandler) {
+            if (failureHandler == null) {
+                throw new IllegalArgumentException("Failure handler must not be null");
+            }
+            this.failureHandler = failureHandler;
+            return this;
+        }
+
+        /**
+         * Opens the offset file and returns the relay, not started yet.
+         *
+         * @return the composed {@link OutboxRelay}
+         * @throws IllegalArgumentException if the subscriber or the offset file is not set
+         * @throws IllegalStateException    if the offset file does not belong to the outbox
+         * @throws UncheckedIOException     if the offset file cannot be opened
+         */
+        public OutboxRelay build() {
+            if (subscriber == null || offsetFile == null) {
+                throw new IllegalArgumentException("Subscriber and offset file must be set");
+            }
+            return new OutboxRelay(this);
+        }
+    }
+}
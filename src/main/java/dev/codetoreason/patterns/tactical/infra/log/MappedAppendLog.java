@@ -0,0 +1,350 @@
+package dev.codetoreason.patterns.tactical.infra.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only log of binary records stored in a memory-mapped file.
+ * <p>
+ * Each record is laid out as {@code [length][checksum][payload]}, where the checksum is a CRC32C of the payload.
+ * Appending a record is a copy into the mapped region, so it survives a crash of the process as soon as
+ * {@link #append(ByteBuffer)} returns; it survives a crash of the operating system once {@link #force()} is called.
+ * <p>
+ * When opened, the log is recovered by scanning the file from the beginning: the first record that is
+ * incomplete or does not match its checksum, e.g. one torn by a crash in the middle of a write,
+ * marks the end of the log. Everything after it is discarded.
+ * <p>
+ * The file grows by remapping it with twice the capacity. Records are addressed by their offset,
+ * which stays valid for the lifetime of the file. A single mapped file is limited to 2 GB.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (var log = MappedAppendLog.open(Path.of("entities.log"))) {
+ *     long offset = log.append(ByteBuffer.wrap(bytes));
+ *     ByteBuffer payload = log.read(offset);
+ * }
+ * }</pre>
+ * <p>
+ * Appends are serialized; reads of already appended records may run concurrently with appends.
+ */
+public final class MappedAppendLog implements AutoCloseable {
+
+    private static final int MAGIC = 0x54504C31;
+    private static final int FILE_HEADER_SIZE = Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int DEFAULT_INITIAL_CAPACITY = 1 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private volatile MappedByteBuffer buffer;
+    private volatile int end;
+
+    private MappedAppendLog(Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Opens the log stored in the given file, creating the file if it does not exist.
+     *
+     * @param file the file of the log (must not be null)
+     * @return the recovered log
+     * @throws IllegalArgumentException if {@code file} is null or is not a log file
+     * @throws UncheckedIOException     if the file cannot be opened or mapped
+     */
+    public static MappedAppendLog open(Path file) {
+        return open(file, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Opens the log stored in the given file, creating the file with the given capacity if it does not exist.
+     *
+     * @param file            the file of the log (must not be null)
+     * @param initialCapacity the number of bytes to map up front (must be larger than the file header)
+     * @return the recovered log
+     * @throws IllegalArgumentException if {@code file} is null, the capacity is too small or the file is not a log file
+     * @throws UncheckedIOException     if the file cannot be opened or mapped
+     */
+    public static MappedAppendLog open(Path file, int initialCapacity) {
+        if (file == null) {
+            throw new IllegalArgumentException("File must not be null");
+        }
+        if (initialCapacity <= FILE_HEADER_SIZE) {
+            throw new IllegalArgumentException("Initial capacity must be larger than " + FILE_HEADER_SIZE + " bytes");
+        }
+        try {
+            var channel = FileChannel.open(file, CREATE, READ, WRITE);
+            try {
+                var existingSize = channel.size();
+                var capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(existingSize, initialCapacity));
+                var log = new MappedAppendLog(file, channel, channel.map(READ_WRITE, 0, capacity));
+                log.recover(existingSize == 0);
+                return log;
+            } catch (RuntimeException | IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log " + file, e);
+        }
+    }
+
+    /**
+     * Appends a record with the given payload.
+     *
+     * @param payload the bytes between the buffer's position and limit (must not be null or empty)
+     * @return the offset of the appended record
+     * @throws IllegalArgumentException if the payload is null or empty
+     * @throws IllegalStateException    if the log would exceed the maximum size of a mapped file
+     * @throws UncheckedIOException     if the file cannot be extended
+     */
+    public synchronized int append(ByteBuffer payload) {
+        if (payload == null || !payload.hasRemaining()) {
+            throw new IllegalArgumentException("Payload must not be null or empty");
+        }
+        var length = payload.remaining();
+        var offset = end;
+        var payloadOffset = offset + RECORD_HEADER_SIZE;
+        ensureCapacity((long) payloadOffset + length);
+        var target = buffer;
+        target.put(payloadOffset, payload, payload.position(), length);
+        target.putInt(offset + Integer.BYTES, checksumOf(target, payloadOffset, length));
+        target.putInt(offset, length);
+        end = payloadOffset + length;
+        return offset;
+    }
+
+    /**
+     * Returns the payload of the record at the given offset.
+     *
+     * @param offset the offset returned by {@link #append(ByteBuffer)} or passed to a {@link RecordConsumer}
+     * @return a read-only view of the payload
+     * @throws IllegalArgumentException if no record starts at the given offset
+     */
+    public ByteBuffer read(int offset) {
+        var limit = end;
+        if (offset < FILE_HEADER_SIZE || offset > limit - RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("No record at offset " + offset);
+        }
+        var source = buffer;
+        var length = source.getInt(offset);
+        if (length <= 0 || offset + RECORD_HEADER_SIZE + length > limit) {
+            throw new IllegalArgumentException("No record at offset " + offset);
+        }
+        return source.slice(offset + RECORD_HEADER_SIZE, length)
+                     .asReadOnlyBuffer();
+    }
+
+    /**
+     * Passes every record, in the order of appending, to the given consumer.
+     *
+     * @param consumer the consumer of records (must not be null)
+     * @throws IllegalArgumentException if {@code consumer} is null
+     */
+    public void forEach(RecordConsumer consumer) {
+        forEachFrom(FILE_HEADER_SIZE, consumer);
+    }
+
+    /**
+     * Passes every record starting at the given offset, in the order of appending, to the given consumer.
+     *
+     * @param offset   the offset of the first record to pass, or the end of the log
+     * @param consumer the consumer of records (must not be null)
+     * @throws IllegalArgumentException if {@code consumer} is null or the offset is outside the log
+     */
+    public void forEachFrom(int offset, RecordConsumer consumer) {
+        forEachBetween(offset, end, consumer);
+    }
+
+    /**
+     * Passes every record starting at the given offset and ending before the given limit,
+     * in the order of appending, to the given consumer.
+     * <p>
+     * Useful to read up to an offset remembered earlier, e.g. the end of the log at the time of the last {@link #force()}.
+     *
+     * @param offset   the offset of the first record to pass
+     * @param limit    the offset just past the last record to pass, e.g. a value returned by {@link #end()}
+     * @param consumer the consumer of records (must not be null)
+     * @throws IllegalArgumentException if {@code consumer} is null, the offsets are outside the log
+     *                                  or no record starts where one is expected
+     */
+    public void forEachBetween(int offset, int limit, RecordConsumer consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer must not be null");
+        }
+        if (offset < FILE_HEADER_SIZE || offset > limit || limit > end) {
+            throw new IllegalArgumentException("Offsets " + offset + " and " + limit + " are outside of the log");
+        }
+        var source = buffer;
+        var current = offset;
+        while (current < limit) {
+            var length = current <= limit - RECORD_HEADER_SIZE ? source.getInt(current) : 0;
+            if (length <= 0 || length > limit - current - RECORD_HEADER_SIZE) {
+                throw new IllegalArgumentException("No record at offset " + current);
+            }
+            consumer.accept(current, source.slice(current + RECORD_HEADER_SIZE, length).asReadOnlyBuffer());
+            current += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    /**
+     * Tells whether a complete record matching its checksum starts at the given offset.
+     *
+     * @param offset the offset to check
+     * @return {@code true} if a record starts at the offset, {@code false} otherwise
+     */
+    public boolean hasRecordAt(int offset) {
+        var limit = end;
+        if (offset < FILE_HEADER_SIZE || offset > limit - RECORD_HEADER_SIZE) {
+            return false;
+        }
+        var source = buffer;
+        var length = source.getInt(offset);
+        return length > 0
+                && length <= limit - offset - RECORD_HEADER_SIZE
+                && source.getInt(offset + Integer.BYTES) == checksumOf(source, offset + RECORD_HEADER_SIZE, length);
+    }
+
+    /**
+     * Returns the offset just past the last record, i.e. where the next record will be appended.
+     *
+     * @return the end offset of the log
+     */
+    public int end() {
+        return end;
+    }
+
+    /**
+     * Returns the offset of the first record, which equals {@link #end()} for an empty log.
+     *
+     * @return the start offset of the log
+     */
+    public int start() {
+        return FILE_HEADER_SIZE;
+    }
+
+    /**
+     * Returns the file of this log.
+     *
+     * @return the path of the log file
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Writes all records appended before the call through to the storage device.
+     * <p>
+     * Does not block appends, so records may keep being appended while the previous ones are being written through.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Forces appended records to the storage device and closes the file.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close log " + file, e);
+        }
+    }
+
+    private void recover(boolean isNew) {
+        var source = buffer;
+        if (isNew) {
+            source.putLong(0, (long) MAGIC << Integer.SIZE);
+        } else if (source.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("File " + file + " is not a log file");
+        }
+        var current = FILE_HEADER_SIZE;
+        while (isValidRecordAt(source, current)) {
+            current += RECORD_HEADER_SIZE + source.getInt(current);
+        }
+        end = current;
+        discardFrom(source, current);
+    }
+
+    private static boolean isValidRecordAt(ByteBuffer source, int offset) {
+        if (offset > source.capacity() - RECORD_HEADER_SIZE) {
+            return false;
+        }
+        var length = source.getInt(offset);
+        if (length <= 0 || length > source.capacity() - offset - RECORD_HEADER_SIZE) {
+            return false;
+        }
+        var checksum = source.getInt(offset + Integer.BYTES);
+        return checksum == checksumOf(source, offset + RECORD_HEADER_SIZE, length);
+    }
+
+    /**
+     * Zeroes whatever follows the last valid record, so that leftovers of a torn write
+     * can never be mistaken for records appended later.
+     */
+    private static void discardFrom(ByteBuffer source, int offset) {
+        var capacity = source.capacity();
+        var current = offset;
+        for (; current <= capacity - Long.BYTES; current += Long.BYTES) {
+            if (source.getLong(current) != 0L) {
+                source.putLong(current, 0L);
+            }
+        }
+        for (; current < capacity; current++) {
+            source.put(current, (byte) 0);
+        }
+    }
+
+    private void ensureCapacity(long required) {
+        var capacity = buffer.capacity();
+        if (required <= capacity) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Log " + file + " exceeds the maximum size of a mapped file");
+        }
+        var newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, 2L * capacity));
+        try {
+            buffer = channel.map(READ_WRITE, 0, newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot extend log " + file, e);
+        }
+    }
+
+    private static int checksumOf(ByteBuffer source, int offset, int length) {
+        var checksum = new CRC32C();
+        checksum.update(source.slice(offset, length));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Consumer of records passed by {@link #forEach(RecordConsumer)}.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+
+        /**
+         * Accepts a single record.
+         *
+         * @param offset  the offset of the record
+         * @param payload a read-only view of the payload of the record
+         */
+        void accept(int offset, ByteBuffer payload);
+    }
+}
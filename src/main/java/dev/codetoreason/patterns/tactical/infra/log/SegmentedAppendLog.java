@@ -0,0 +1,308 @@
+package dev.codetoreason.patterns.tactical.infra.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only log of binary records split into rolling segments, each a {@link MappedAppendLog}.
+ * <p>
+ * Records are appended to the last segment. Once it reaches the segment size, it is written through
+ * to the storage device and a new segment is started, so the log is not limited by the maximum size
+ * of a single mapped file, and consumed records can be released by deleting whole segments
+ * with {@link #deleteBefore(long)}.
+ * <p>
+ * Segments are stored next to the given file, named after it with a ten-digit sequence number appended,
+ * e.g. {@code outbox.log.0000000042}. Records are addressed by their position: the sequence number
+ * of the segment in the upper 32 bits and the offset within the segment in the lower 32 bits,
+ * so positions grow in the order of appending. When opened, every segment is recovered
+ * as described in {@link MappedAppendLog}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (var log = SegmentedAppendLog.open(Path.of("outbox.log"), 64 << 20)) {
+ *     long position = log.append(ByteBuffer.wrap(bytes));
+ *     log.forEachBetween(log.start(), log.end(), (recordPosition, payload) -> ...);
+ *     log.deleteBefore(position);
+ * }
+ * }</pre>
+ * <p>
+ * Appends are serialized; reads of already appended records may run concurrently with appends,
+ * but not with deleting the segments being read.
+ */
+public final class SegmentedAppendLog implements AutoCloseable {
+
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+    private static final String SEGMENT_NAME_PATTERN = "%s.%010d";
+
+    private final Path file;
+    private final int segmentSize;
+    private final ConcurrentSkipListMap<Long, MappedAppendLog> segments;
+    private volatile long last;
+
+    private SegmentedAppendLog(Path file, int segmentSize, ConcurrentSkipListMap<Long, MappedAppendLog> segments) {
+        this.file = file;
+        this.segmentSize = segmentSize;
+        this.segments = segments;
+        this.last = segments.lastKey();
+    }
+
+    /**
+     * Opens the log stored in segments of the given file, creating the first segment if there is none.
+     *
+     * @param file        the file the segments are named after (must not be null)
+     * @param segmentSize the number of bytes after which a new segment is started (must be at least 64)
+     * @return the recovered log
+     * @throws IllegalArgumentException if {@code file} is null, the segment size is too small
+     *                                  or a segment is not a log file
+     * @throws UncheckedIOException     if a segment cannot be opened or mapped
+     */
+    public static SegmentedAppendLog open(Path file, int segmentSize) {
+        if (file == null) {
+            throw new IllegalArgumentException("File must not be null");
+        }
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_SIZE + " bytes");
+        }
+        var segments = new ConcurrentSkipListMap<Long, MappedAppendLog>();
+        try {
+            for (var sequence : existingSegments(file)) {
+                segments.put(sequence, openSegment(file, sequence, segmentSize));
+            }
+            if (segments.isEmpty()) {
+                segments.put(0L, openSegment(file, 0L, segmentSize));
+            }
+        } catch (RuntimeException e) {
+            segments.values().forEach(MappedAppendLog::close);
+            throw e;
+        }
+        return new SegmentedAppendLog(file, segmentSize, segments);
+    }
+
+    /**
+     * Appends a record with the given payload, starting a new segment first if the last one is full.
+     *
+     * @param payload the bytes between the buffer's position and limit (must not be null or empty)
+     * @return the position of the appended record
+     * @throws IllegalArgumentException if the payload is null or empty
+     * @throws UncheckedIOException     if a segment cannot be extended or created
+     */
+    public synchronized long append(ByteBuffer payload) {
+        if (payload == null || !payload.hasRemaining()) {
+            throw new IllegalArgumentException("Payload must not be null or empty");
+        }
+        var segment = segments.get(last);
+        if (segment.end() > segment.start() && (long) segment.end() + payload.remaining() > segmentSize) {
+            segment.force();
+            var next = last + 1;
+            segments.put(next, openSegment(file, next, segmentSize));
+            last = next;
+            segment = segments.get(next);
+        }
+        return position(last, segment.append(payload));
+    }
+
+    /**
+     * Passes every record, in the order of appending, to the given consumer.
+     *
+     * @param consumer the consumer of records (must not be null)
+     * @throws IllegalArgumentException if {@code consumer} is null
+     */
+    public void forEach(RecordConsumer consumer) {
+        forEachBetween(start(), end(), consumer);
+    }
+
+    /**
+     * Passes every record starting at the given position and ending before the given limit,
+     * in the order of appending, to the given consumer.
+     *
+     * @param position the position of the first record to pass
+     * @param limit    the position just past the last record to pass, e.g. a value returned by {@link #end()}
+     * @param consumer the consumer of records (must not be null)
+     * @throws IllegalArgumentException if {@code consumer} is null, the positions are outside the log
+     *                                  or no record starts where one is expected
+     */
+    public void forEachBetween(long position, long limit, RecordConsumer consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer must not be null");
+        }
+        if (position > limit || position < start() || limit > end()) {
+            throw new IllegalArgumentException("Positions " + position + " and " + limit + " are outside of the log");
+        }
+        var firstSequence = sequenceOf(position);
+        var lastSequence = sequenceOf(limit);
+        for (var sequence = firstSequence; sequence <= lastSequence; sequence++) {
+            var segment = segments.get(sequence);
+            if (segment == null) {
+                throw new IllegalArgumentException("Segment " + sequence + " of " + file + " does not exist");
+            }
+            var from = sequence == firstSequence ? offsetOf(position) : segment.start();
+            var to = sequence == lastSequence ? offsetOf(limit) : segment.end();
+            var segmentSequence = sequence;
+            segment.forEachBetween(from, to, (offset, payload) -> consumer.accept(position(segmentSequence, offset), payload));
+        }
+    }
+
+    /**
+     * Tells whether a record starts at the given position or the position is the end of a segment,
+     * i.e. whether reading may start there.
+     *
+     * @param position the position to check
+     * @return {@code true} if the position is on a record boundary of an existing segment
+     */
+    public boolean isRecordBoundary(long position) {
+        var segment = segments.get(sequenceOf(position));
+        if (segment == null) {
+            return false;
+        }
+        var offset = offsetOf(position);
+        return offset == segment.end() || segment.hasRecordAt(offset);
+    }
+
+    /**
+     * Returns the position of the first record of the first segment.
+     *
+     * @return the start position of the log
+     */
+    public long start() {
+        var first = segments.firstEntry();
+        return position(first.getKey(), first.getValue().start());
+    }
+
+    /**
+     * Returns the position just past the last record, i.e. where the next record will be appended
+     * unless a new segment is started.
+     *
+     * @return the end position of the log
+     */
+    public long end() {
+        var sequence = last;
+        return position(sequence, segments.get(sequence).end());
+    }
+
+    /**
+     * Returns the number of segments the log currently consists of.
+     *
+     * @return the number of segments
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Returns the file the segments are named after.
+     *
+     * @return the path of the log
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Writes all records appended before the call through to the storage device.
+     * Full segments are written through when a new segment is started.
+     */
+    public void force() {
+        segments.get(last).force();
+    }
+
+    /**
+     * Deletes the segments containing only records before the given position. The last segment is never deleted.
+     *
+     * @param position the position of the first record to retain
+     * @return the number of deleted segments
+     * @throws UncheckedIOException if a segment file cannot be deleted
+     */
+    public synchronized int deleteBefore(long position) {
+        var deleted = 0;
+        var retained = Math.min(sequenceOf(position), last);
+        for (var sequence : new ArrayList<>(segments.headMap(retained).keySet())) {
+            var segment = segments.remove(sequence);
+            segment.close();
+            try {
+                Files.deleteIfExists(segment.file());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot delete segment " + segment.file(), e);
+            }
+            deleted++;
+        }
+        return deleted;
+    }
+
+    /**
+     * Forces appended records to the storage device and closes all segments.
+     *
+     * @throws UncheckedIOException if a segment cannot be closed
+     */
+    @Override
+    public synchronized void close() {
+        segments.values().forEach(MappedAppendLog::close);
+    }
+
+    /**
+     * Returns the position of the given offset within the segment with the given sequence number.
+     *
+     * @param sequence the sequence number of the segment
+     * @param offset   the offset within the segment
+     * @return the position in the log
+     */
+    public static long position(long sequence, int offset) {
+        return sequence << Integer.SIZE | offset;
+    }
+
+    private static long sequenceOf(long position) {
+        return position >>> Integer.SIZE;
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    private static MappedAppendLog openSegment(Path file, long sequence, int segmentSize) {
+        var segmentFile = file.resolveSibling(SEGMENT_NAME_PATTERN.formatted(file.getFileName(), sequence));
+        return MappedAppendLog.open(segmentFile, Math.min(segmentSize, MAX_INITIAL_CAPACITY));
+    }
+
+    private static NavigableSet<Long> existingSegments(Path file) {
+        var name = Pattern.compile(Pattern.quote(file.getFileName().toString()) + "\\.(\\d{10})");
+        var directory = file.toAbsolutePath().getParent();
+        var sequences = new TreeSet<Long>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return sequences;
+        }
+        try (var files = Files.list(directory)) {
+            files.forEach(candidate -> {
+                var matcher = name.matcher(candidate.getFileName().toString());
+                if (matcher.matches()) {
+                    sequences.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list segments of " + file, e);
+        }
+        return sequences;
+    }
+
+    /**
+     * Consumer of records passed by {@link #forEach(RecordConsumer)}.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+
+        /**
+         * Accepts a single record.
+         *
+         * @param position the position of the record
+         * @param payload  a read-only view of the payload of the record
+         */
+        void accept(long position, ByteBuffer payload);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.codetoreason.patterns.tactical.infra.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Splits entities into consecutive batches, shared by implementations of {@link EntityRepository#scan}.
+ */
+final class Batches {
+
+    private Batches() {
+    }
+
+    static void requireValid(int batchSize, Consumer<?> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (batchConsumer == null) {
+            throw new IllegalArgumentException("Batch consumer must not be null");
+        }
+    }
+
+    static <E> void split(Iterable<E> entities, int batchSize, Consumer<? super List<E>> batchConsumer) {
+        var batch = new ArrayList<E>(batchSize);
+        for (var entity : entities) {
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                batchConsumer.accept(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(List.copyOf(batch));
+        }
+    }
+}
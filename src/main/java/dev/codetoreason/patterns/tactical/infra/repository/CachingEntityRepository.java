@@ -0,0 +1,690 @@
+package dev.codetoreason.patterns.tactical.infra.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Caching decorator of an {@link EntityRepository}, serving frequently used entities from memory.
+ * <p>
+ * Lookups are read-through: a miss loads the entity from the decorated repository and caches it.
+ * The cache is:
+ * <ul>
+ *     <li>bounded in size, keeping the entities used most often (see below),</li>
+ *     <li>bounded in time, treating entities cached longer than the expiration as absent,</li>
+ *     <li>optionally negative - remembering for a while that an entity does not exist,
+ *     so repeated lookups of unknown identifiers do not reach the decorated repository,</li>
+ *     <li>optionally write-behind - collecting saved entities and saving them in batches
+ *     with {@link EntityRepository#saveAll(Collection)} instead of one by one, once a batch is complete
+ *     or the oldest pending entity waited for the configured delay.</li>
+ * </ul>
+ * Without write-behind, saves are written through to the decorated repository before being cached.
+ * <p>
+ * Eviction follows W-TinyLFU: new entries enter a small window, about one percent of the cache, evicted
+ * in least recently used order. An entry leaving the window is admitted to the main part of the cache only if it
+ * was used more often than the least recently used entry of the main part, which it then replaces; otherwise it is
+ * dropped. Frequencies are estimated by a compact, periodically aged sketch, so entities loaded once by a scan
+ * of many identifiers do not push out the ones looked up all the time, while newly popular entities still get in.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CachingEntityRepository<FacultyCatalogEntry, FacultyId> faculties = CachingEntityRepository.readThrough(facultyCatalog)
+ *                                                                                          .maximumSize(1_000)
+ *                                                                                          .expireAfter(Duration.ofHours(1))
+ *                                                                                          .cacheMisses(Duration.ofMinutes(1))
+ *                                                                                          .build();
+ * }</pre>
+ * To decorate a domain-specific repository, extend this class and pass the configured builder to the constructor,
+ * so the caller decides on the cache settings:
+ * <pre>{@code
+ * class CachedFacultyCatalog extends CachingEntityRepository<FacultyCatalogEntry, FacultyId> implements FacultyCatalog {
+ *
+ *     CachedFacultyCatalog(CachingEntityRepositoryBuilder<FacultyCatalogEntry, FacultyId> settings) {
+ *         super(settings);
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * This class is thread-safe. The cache is split into up to sixteen segments by identifier hash, each guarded by
+ * its own monitor and evicting on its own, so lookups of different identifiers rarely wait for each other.
+ * Monitors are held only for in-memory map operations; the decorated repository is called outside of them,
+ * so concurrent misses of the same identifier may load the entity more than once.
+ * <p>
+ * With a write-behind delay, pending entities are flushed by a scheduler once the delay passes, also when
+ * the repository is idle. Unless a scheduler is given to the builder, the repository starts a daemon thread
+ * for it, stopped by {@link #close()}. Entities not flushed yet are lost if the process dies.
+ *
+ * @param <E>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ */
+public class CachingEntityRepository<E extends Entity<ID>, ID> implements EntityRepository<E, ID>, AutoCloseable {
+
+    private static final int ENTRIES_PER_SEGMENT = 64;
+    private static final int MAXIMUM_SEGMENTS = 16;
+
+    private final EntityRepository<E, ID> delegate;
+    private final long expireAfterMillis;
+    private final long missesExpireAfterMillis;
+    private final int writeBehindBatchSize;
+    private final long writeBehindDelayMillis;
+    private final Clock clock;
+    private final List<Segment<ID, E>> segments;
+    private final ScheduledExecutorService flushScheduler;
+    private final boolean ownsFlushScheduler;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong pendingSequence = new AtomicLong();
+    private final Lock flushLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a caching decorator configured by the given builder.
+     *
+     * @param builder the configured builder (must not be null)
+     * @throws IllegalArgumentException if {@code builder} is null
+     */
+    protected CachingEntityRepository(CachingEntityRepositoryBuilder<E, ID> builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("Builder must not be null");
+        }
+        this.delegate = builder.delegate;
+        this.expireAfterMillis = builder.expireAfter.toMillis();
+        this.missesExpireAfterMillis = builder.missesExpireAfter.toMillis();
+        this.writeBehindBatchSize = builder.writeBehindBatchSize;
+        this.writeBehindDelayMillis = builder.writeBehindDelay.toMillis();
+        this.clock = builder.clock;
+        this.segments = segmentsOf(builder.maximumSize);
+        if (writeBehindDelayMillis == 0) {
+            this.flushScheduler = null;
+            this.ownsFlushScheduler = false;
+        } else if (builder.flushScheduler != null) {
+            this.flushScheduler = builder.flushScheduler;
+            this.ownsFlushScheduler = false;
+        } else {
+            this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("caching-repository-flush-", 0).daemon().factory());
+            this.ownsFlushScheduler = true;
+        }
+    }
+
+    /**
+     * Starts building a read-through caching decorator of the given repository.
+     *
+     * @param delegate the repository to cache (must not be null)
+     * @param <E>      the type of the entity
+     * @param <ID>     the type of the entity identifier
+     * @return a builder expecting the cache settings
+     * @throws IllegalArgumentException if {@code delegate} is null
+     */
+    public static <E extends Entity<ID>, ID> CachingEntityRepositoryBuilder<E, ID> readThrough(EntityRepository<E, ID> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Repository must not be null");
+        }
+        return new CachingEntityRepositoryBuilder<>(delegate);
+    }
+
+    /**
+     * Caches the given entity and saves it in the decorated repository, immediately or with the next batch.
+     *
+     * @param e the entity to save
+     */
+    @Override
+    public void save(E e) {
+        saveAll(List.of(e));
+    }
+
+    /**
+     * Caches the given entities and saves them in the decorated repository, immediately or with the next batch.
+     *
+     * @param entities the entities to save (must not be null)
+     * @throws IllegalArgumentException if {@code entities} is null
+     */
+    @Override
+    public void saveAll(Collection<? extends E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities must not be null");
+        }
+        if (writeBehindBatchSize == 0) {
+            delegate.saveAll(entities);
+        }
+        var now = clock.millis();
+        for (var e : entities) {
+            var segment = segmentOf(e.id());
+            synchronized (segment) {
+                segment.recordAccess(e.id());
+                evictions.add(segment.put(e.id(), new CachedEntity<>(e, now + expireAfterMillis)));
+                segment.writes++;
+                if (writeBehindBatchSize > 0) {
+                    var previous = segment.pending.get(e.id());
+                    var sequence = previous != null ? previous.sequence() : pendingSequence.getAndIncrement();
+                    segment.pending.put(e.id(), new PendingEntity<>(e, sequence));
+                    if (previous == null) {
+                        pendingCount.incrementAndGet();
+                    }
+                }
+            }
+        }
+        if (writeBehindBatchSize > 0 && !entities.isEmpty()) {
+            if (pendingCount.get() >= writeBehindBatchSize) {
+                flush();
+            } else {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Returns the cached entity, loading it from the decorated repository on a miss.
+     *
+     * @param id the identifier of the entity
+     * @return an {@link Optional} containing the entity if found, or empty if not found.
+     */
+    @Override
+    public Optional<E> findById(ID id) {
+        var now = clock.millis();
+        var segment = segmentOf(id);
+        long generation;
+        synchronized (segment) {
+            segment.recordAccess(id);
+            var cached = segment.cachedAt(id, now);
+            if (cached != null) {
+                hits.increment();
+                return Optional.ofNullable(cached.entity());
+            }
+            generation = segment.writes;
+        }
+        misses.increment();
+        var loaded = delegate.findById(id);
+        synchronized (segment) {
+            if (segment.writes == generation) {
+                remember(segment, id, loaded.orElse(null), now);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the cached entities, loading all missing ones from the decorated repository at once.
+     *
+     * @param ids the identifiers of the entities (must not be null)
+     * @return entities keyed by identifier, in the order of {@code ids}; identifiers of missing entities are absent
+     * @throws IllegalArgumentException if {@code ids} is null
+     */
+    @Override
+    public Map<ID, E> findAllById(Collection<? extends ID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Identifiers must not be null");
+        }
+        var now = clock.millis();
+        var cachedEntities = new LinkedHashMap<ID, CachedEntity<E>>();
+        var missing = new LinkedHashMap<ID, Long>();
+        for (var id : ids) {
+            var segment = segmentOf(id);
+            synchronized (segment) {
+                segment.recordAccess(id);
+                var cached = segment.cachedAt(id, now);
+                if (cached != null) {
+                    cachedEntities.put(id, cached);
+                } else {
+                    missing.put(id, segment.writes);
+                }
+            }
+        }
+        hits.add(cachedEntities.size());
+        Map<ID, E> loaded = Map.of();
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            loaded = delegate.findAllById(missing.keySet());
+            for (var entry : missing.entrySet()) {
+                var segment = segmentOf(entry.getKey());
+                synchronized (segment) {
+                    if (segment.writes == entry.getValue()) {
+                        remember(segment, entry.getKey(), loaded.get(entry.getKey()), now);
+                    }
+                }
+            }
+        }
+        var found = new LinkedHashMap<ID, E>();
+        for (var id : ids) {
+            var cached = cachedEntities.get(id);
+            var e = cached != null ? cached.entity() : loaded.get(id);
+            if (e != null) {
+                found.put(id, e);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Saves pending entities, then scans the decorated repository, bypassing the cache.
+     *
+     * @param batchSize     the maximum number of entities in a single batch (must be positive)
+     * @param batchConsumer the consumer of batches (must not be null)
+     * @throws IllegalArgumentException if the batch size is not positive or the consumer is null
+     */
+    @Override
+    public void scan(int batchSize, Consumer<? super List<E>> batchConsumer) {
+        Batches.requireValid(batchSize, batchConsumer);
+        flush();
+        delegate.scan(batchSize, batchConsumer);
+    }
+
+    /**
+     * Saves all entities collected by write-behind in the decorated repository, in the order they were first saved.
+     * <p>
+     * Entities stay pending - and are served from memory - until the decorated repository saves them,
+     * so a failed flush is retried by the next one.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            var flushed = new ArrayList<Map.Entry<ID, PendingEntity<E>>>();
+            for (var segment : segments) {
+                synchronized (segment) {
+                    segment.pending.forEach((id, pendingEntity) -> flushed.add(Map.entry(id, pendingEntity)));
+                }
+            }
+            if (flushed.isEmpty()) {
+                return;
+            }
+            flushed.sort(Comparator.comparingLong(entry -> entry.getValue().sequence()));
+            delegate.saveAll(flushed.stream().map(entry -> entry.getValue().entity()).toList());
+            for (var entry : flushed) {
+                var segment = segmentOf(entry.getKey());
+                synchronized (segment) {
+                    if (segment.pending.remove(entry.getKey(), entry.getValue())) {
+                        pendingCount.decrementAndGet();
+                    }
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Discards the cached entity or the cached absence of it, so the next lookup reaches the decorated repository.
+     * Pending entities are not discarded.
+     *
+     * @param id the identifier of the entity
+     */
+    public void invalidate(ID id) {
+        var segment = segmentOf(id);
+        synchronized (segment) {
+            segment.remove(id);
+            segment.writes++;
+        }
+    }
+
+    /**
+     * Discards all cached entities and cached absences. Pending entities are not discarded.
+     */
+    public void invalidateAll() {
+        for (var segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+                segment.writes++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including cached absences and expired entries not evicted yet.
+     *
+     * @return the current size of the cache
+     */
+    public int size() {
+        var size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics collected so far.
+     *
+     * @return the current statistics
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Saves pending entities and stops the flush scheduler started by this repository.
+     * The decorated repository, and a scheduler given to the builder, are left open.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            if (ownsFlushScheduler) {
+                flushScheduler.shutdownNow();
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduler != null && !flushScheduler.isShutdown() && flushScheduled.compareAndSet(false, true)) {
+            flushScheduler.schedule(this::flushOnSchedule, writeBehindDelayMillis, MILLISECONDS);
+        }
+    }
+
+    private void flushOnSchedule() {
+        flushScheduled.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            var thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+        if (pendingCount.get() > 0) {
+            scheduleFlush();
+        }
+    }
+
+    private void remember(Segment<ID, E> segment, ID id, E e, long now) {
+        if (e != null) {
+            evictions.add(segment.put(id, new CachedEntity<>(e, now + expireAfterMillis)));
+        } else if (missesExpireAfterMillis > 0) {
+            evictions.add(segment.put(id, new CachedEntity<>(null, now + missesExpireAfterMillis)));
+        }
+    }
+
+    private Segment<ID, E> segmentOf(ID id) {
+        var hash = id.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (segments.size() - 1));
+    }
+
+    private static <ID, E> List<Segment<ID, E>> segmentsOf(int maximumSize) {
+        var count = Integer.highestOneBit(Math.clamp(maximumSize / ENTRIES_PER_SEGMENT, 1, MAXIMUM_SEGMENTS));
+        var segments = new ArrayList<Segment<ID, E>>(count);
+        for (var i = 0; i < count; i++) {
+            segments.add(new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0)));
+        }
+        return List.copyOf(segments);
+    }
+
+    private record CachedEntity<E>(E entity, long expiresAtMillis) {
+    }
+
+    private record PendingEntity<E>(E entity, long sequence) {
+    }
+
+    /**
+     * Independently locked and evicted part of the cache, holding the entries and pending entities
+     * of the identifiers hashed to it. Callers must synchronize on the segment.
+     */
+    private static final class Segment<ID, E> {
+
+        private final Map<ID, CachedEntity<E>> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<ID, CachedEntity<E>> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<ID, PendingEntity<E>> pending = new HashMap<>();
+        private final FrequencySketch sketch;
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private long writes;
+
+        private Segment(int capacity) {
+            this.windowCapacity = Math.max(1, capacity / 100);
+            this.mainCapacity = capacity - windowCapacity;
+            this.sketch = new FrequencySketch(capacity);
+        }
+
+        private void recordAccess(ID id) {
+            sketch.increment(id);
+        }
+
+        private CachedEntity<E> cachedAt(ID id, long now) {
+            var pendingEntity = pending.get(id);
+            if (pendingEntity != null) {
+                return new CachedEntity<>(pendingEntity.entity(), Long.MAX_VALUE);
+            }
+            var cached = window.get(id);
+            if (cached == null) {
+                cached = main.get(id);
+            }
+            return cached != null && now < cached.expiresAtMillis() ? cached : null;
+        }
+
+        /**
+         * Caches the entry, returning the number of entries evicted to make room for it.
+         */
+        private int put(ID id, CachedEntity<E> entry) {
+            if (main.containsKey(id)) {
+                main.put(id, entry);
+                return 0;
+            }
+            window.put(id, entry);
+            if (window.size() <= windowCapacity) {
+                return 0;
+            }
+            var eldest = window.entrySet().iterator().next();
+            var candidate = eldest.getKey();
+            var candidateEntry = eldest.getValue();
+            window.remove(candidate);
+            return admit(candidate, candidateEntry);
+        }
+
+        private int admit(ID candidate, CachedEntity<E> entry) {
+            if (main.size() < mainCapacity) {
+                main.put(candidate, entry);
+                return 0;
+            }
+            if (mainCapacity > 0) {
+                var victim = main.keySet().iterator().next();
+                if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                    main.remove(victim);
+                    main.put(candidate, entry);
+                }
+            }
+            return 1;
+        }
+
+        private void remove(ID id) {
+            window.remove(id);
+            main.remove(id);
+        }
+
+        private void clear() {
+            window.clear();
+            main.clear();
+        }
+
+        private int size() {
+            return window.size() + main.size();
+        }
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     *
+     * @param hits      the number of lookups served from the cache, including cached absences
+     * @param misses    the number of lookups delegated to the decorated repository
+     * @param evictions the number of entries evicted, or not admitted, because the cache was full
+     */
+    public record Statistics(long hits, long misses, long evictions) {
+
+        /**
+         * Returns the ratio of hits to all lookups.
+         *
+         * @return the hit rate within {@code [0, 1]}, or {@code 0} if nothing was looked up yet
+         */
+        public double hitRate() {
+            var requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link CachingEntityRepository} instances.
+     *
+     * @param <E>  the type of the entity
+     * @param <ID> the type of the entity identifier
+     */
+    public static final class CachingEntityRepositoryBuilder<E extends Entity<ID>, ID> {
+
+        private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+        private static final Duration DEFAULT_EXPIRATION = Duration.ofMinutes(5);
+
+        private final EntityRepository<E, ID> delegate;
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private Duration expireAfter = DEFAULT_EXPIRATION;
+        private Duration missesExpireAfter = Duration.ZERO;
+        private int writeBehindBatchSize;
+        private Duration writeBehindDelay = Duration.ZERO;
+        private ScheduledExecutorService flushScheduler;
+        private Clock clock = Clock.systemUTC();
+
+        private CachingEntityRepositoryBuilder(EntityRepository<E, ID> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Sets the maximum number of cached entries, including cached absences. Defaults to 1024.
+         *
+         * @param maximumSize the maximum size of the cache (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public CachingEntityRepositoryBuilder<E, ID> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached entity may be served. Defaults to five minutes.
+         *
+         * @param expireAfter the time-to-live of cached entities (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code expireAfter} is null, zero or negative
+         */
+        public CachingEntityRepositoryBuilder<E, ID> expireAfter(Duration expireAfter) {
+            if (expireAfter == null || expireAfter.isNegative() || expireAfter.isZero()) {
+                throw new IllegalArgumentException("Expiration must be positive");
+            }
+            this.expireAfter = expireAfter;
+            return this;
+        }
+
+        /**
+         * Enables caching of absent entities for the given time. Disabled by default.
+         *
+         * @param expireAfter the time-to-live of cached absences (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code expireAfter} is null, zero or negative
+         */
+        public CachingEntityRepositoryBuilder<E, ID> cacheMisses(Duration expireAfter) {
+            if (expireAfter == null || expireAfter.isNegative() || expireAfter.isZero()) {
+                throw new IllegalArgumentException("Expiration must be positive");
+            }
+            this.missesExpireAfter = expireAfter;
+            return this;
+        }
+
+        /**
+         * Enables write-behind: saved entities are collected and saved in the decorated repository
+         * once the given number of them is pending, or on {@link CachingEntityRepository#flush()}.
+         * Disabled by default.
+         *
+         * @param batchSize the number of pending entities triggering a flush (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code batchSize} is not positive
+         */
+        public CachingEntityRepositoryBuilder<E, ID> writeBehind(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.writeBehindBatchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Enables write-behind like {@link #writeBehind(int)}, additionally saving pending entities once the oldest
+         * of them waited for the given delay. The flush is scheduled in the background, see {@link #flushScheduler}.
+         *
+         * @param batchSize the number of pending entities triggering a flush (must be positive)
+         * @param maxDelay  the time after which pending entities are flushed (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code batchSize} is not positive or {@code maxDelay} is null,
+         *                                  zero or negative
+         */
+        public CachingEntityRepositoryBuilder<E, ID> writeBehind(int batchSize, Duration maxDelay) {
+            if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+                throw new IllegalArgumentException("Write-behind delay must be positive");
+            }
+            writeBehind(batchSize);
+            this.writeBehindDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler running delayed write-behind flushes, e.g. to share one among many repositories.
+         * The scheduler is not shut down by the repository. Defaults to a single daemon thread started
+         * by the repository when a write-behind delay is set, and stopped on {@link CachingEntityRepository#close()}.
+         * Failed scheduled flushes are retried after the delay and reported to the uncaught exception handler
+         * of the scheduler thread.
+         *
+         * @param flushScheduler the scheduler (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code flushScheduler} is null
+         */
+        public CachingEntityRepositoryBuilder<E, ID> flushScheduler(ScheduledExecutorService flushScheduler) {
+            if (flushScheduler == null) {
+                throw new IllegalArgumentException("Flush scheduler must not be null");
+            }
+            this.flushScheduler = flushScheduler;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to measure the age of cached entries. Defaults to the system UTC clock.
+         *
+         * @param clock the clock (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code clock} is null
+         */
+        public CachingEntityRepositoryBuilder<E, ID> withClock(Clock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("Clock must not be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Finalizes the configuration and returns the caching decorator.
+         *
+         * @return the composed {@link CachingEntityRepository}
+         */
+        public CachingEntityRepository<E, ID> build() {
+            return new CachingEntityRepository<>(this);
+        }
+    }
+}
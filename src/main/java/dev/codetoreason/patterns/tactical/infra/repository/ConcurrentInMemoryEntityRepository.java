@@ -0,0 +1,196 @@
+package dev.codetoreason.patterns.tactical.infra.repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe in-memory implementation of {@link EntityRepository}, suitable as a local hot tier
+ * shared by request threads.
+ * <p>
+ * Entities are stored in a {@link ConcurrentHashMap}, so lookups by identifier never block
+ * and writes of different entities do not contend with each other.
+ * <p>
+ * Unlike iterating a concurrent map directly, {@link #findAll()} and {@link #findAllBy(Predicate)} work on
+ * a consistent snapshot - a state the repository actually was in at some point, never a mix of
+ * entities from before and after a write. Snapshots are taken optimistically: the entities are copied
+ * without any locking, and the copy is discarded and retried if a write overlapped it.
+ * Only if writes keep overlapping, the snapshot briefly holds off writers to complete.
+ * The last snapshot is reused by subsequent scans until the next write.
+ *
+ * @param <E>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ */
+public abstract class ConcurrentInMemoryEntityRepository<E extends Entity<ID>, ID> implements EntityRepository<E, ID> {
+
+    private static final int OPTIMISTIC_SNAPSHOT_ATTEMPTS = 3;
+
+    private final ConcurrentMap<ID, E> repo = new ConcurrentHashMap<>();
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicLong writesInProgress = new AtomicLong();
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    private volatile Snapshot<E> lastSnapshot = new Snapshot<>(0L, List.of());
+
+    /**
+     * Stores or replaces the given entity.
+     * <p>
+     * Writes run concurrently with each other and with lookups; they are held off only while
+     * a snapshot is being completed after repeatedly failed optimistic attempts.
+     *
+     * @param e the entity to save
+     */
+    @Override
+    public void save(E e) {
+        var lock = snapshotLock.readLock();
+        lock.lock();
+        writesInProgress.incrementAndGet();
+        try {
+            repo.put(e.id(), e);
+            modifications.incrementAndGet();
+        } finally {
+            writesInProgress.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores or replaces all given entities as a single write.
+     * <p>
+     * The batch costs one acquisition of the lock and one invalidation of the cached snapshot,
+     * instead of one per entity. Lookups by identifier may observe the batch partially applied,
+     * while snapshots observe it either whole or not at all.
+     *
+     * @param entities the entities to save (must not be null)
+     * @throws IllegalArgumentException if {@code entities} is null
+     */
+    @Override
+    public void saveAll(Collection<? extends E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities must not be null");
+        }
+        var lock = snapshotLock.readLock();
+        lock.lock();
+        writesInProgress.incrementAndGet();
+        try {
+            for (var e : entities) {
+                repo.put(e.id(), e);
+            }
+            modifications.incrementAndGet();
+        } finally {
+            writesInProgress.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Attempts to find an entity by its identifier, without blocking.
+     *
+     * @param id the identifier of the entity
+     * @return an {@link Optional} containing the entity if found, or empty if not found.
+     */
+    @Override
+    public Optional<E> findById(ID id) {
+        return Optional.ofNullable(repo.get(id));
+    }
+
+    /**
+     * Finds all entities with the given identifiers, without blocking.
+     *
+     * @param ids the identifiers of the entities (must not be null)
+     * @return entities keyed by identifier, in the order of {@code ids}; identifiers of missing entities are absent
+     * @throws IllegalArgumentException if {@code ids} is null
+     */
+    @Override
+    public Map<ID, E> findAllById(Collection<? extends ID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Identifiers must not be null");
+        }
+        var found = new LinkedHashMap<ID, E>();
+        for (var id : ids) {
+            var e = repo.get(id);
+            if (e != null) {
+                found.put(id, e);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Passes all entities of a consistent snapshot to the given consumer, in consecutive batches.
+     * <p>
+     * Writes made while the batches are consumed are not visible to the scan.
+     *
+     * @param batchSize     the maximum number of entities in a single batch (must be positive)
+     * @param batchConsumer the consumer of batches (must not be null)
+     * @throws IllegalArgumentException if the batch size is not positive or the consumer is null
+     */
+    @Override
+    public void scan(int batchSize, Consumer<? super List<E>> batchConsumer) {
+        Batches.requireValid(batchSize, batchConsumer);
+        Batches.split(findAll(), batchSize, batchConsumer);
+    }
+
+    /**
+     * Returns a consistent snapshot of all stored entities.
+     *
+     * @return an immutable list of all stored entities
+     */
+    public List<E> findAll() {
+        var snapshot = lastSnapshot;
+        if (snapshot.version() == modifications.get()) {
+            return snapshot.entities();
+        }
+        for (var attempt = 0; attempt < OPTIMISTIC_SNAPSHOT_ATTEMPTS; attempt++) {
+            var version = modifications.get();
+            if (writesInProgress.get() != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            var entities = List.copyOf(repo.values());
+            if (writesInProgress.get() == 0 && modifications.get() == version) {
+                return remember(new Snapshot<>(version, entities));
+            }
+        }
+        return snapshotHoldingOffWriters();
+    }
+
+    /**
+     * Returns all entities of a consistent snapshot that match the given predicate.
+     *
+     * @param predicate the filtering predicate
+     * @return an immutable list of matching entities
+     */
+    public List<E> findAllBy(Predicate<E> predicate) {
+        return findAll().stream()
+                        .filter(predicate)
+                        .toList();
+    }
+
+    private List<E> snapshotHoldingOffWriters() {
+        var lock = snapshotLock.writeLock();
+        lock.lock();
+        try {
+            return remember(new Snapshot<>(modifications.get(), List.copyOf(repo.values())));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<E> remember(Snapshot<E> snapshot) {
+        lastSnapshot = snapshot;
+        return snapshot.entities();
+    }
+
+    private record Snapshot<E>(long version, List<E> entities) {
+    }
+}
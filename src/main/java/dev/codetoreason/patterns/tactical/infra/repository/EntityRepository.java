@@ -1,7 +1,12 @@
 package dev.codetoreason.patterns.tactical.infra.repository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * A minimal repository interface for accessing and persisting domain entities.
@@ -9,6 +14,10 @@ import java.util.Optional;
  * Designed for educational and business-oriented code examples,
  * this interface defines only the essential operations for managing entity lifecycle:
  * saving, optional retrieval, and fail-fast access by identifier.
+ * <p>
+ * Bulk operations ({@link #saveAll(Collection)}, {@link #findAllById(Collection)} and {@link #scan(int, Consumer)})
+ * let implementations handle many entities at the cost of a single lock acquisition or I/O round-trip,
+ * instead of one per entity.
  *
  * <p>All entities must implement the {@link Entity} interface to ensure identity semantics.
  *
@@ -27,6 +36,22 @@ public interface EntityRepository<E extends Entity<ID>, ID> {
      */
     void save(E e);
 
+    /**
+     * Saves all given entities.
+     * <p>
+     * The default implementation saves the entities one by one; implementations should override it
+     * to save the whole batch at once.
+     *
+     * @param entities the entities to save (must not be null)
+     * @throws IllegalArgumentException if {@code entities} is null
+     */
+    default void saveAll(Collection<? extends E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities must not be null");
+        }
+        entities.forEach(this::save);
+    }
+
     /**
      * Tries to find an entity by its identifier.
      *
@@ -35,6 +60,38 @@ public interface EntityRepository<E extends Entity<ID>, ID> {
      */
     Optional<E> findById(ID id);
 
+    /**
+     * Finds all entities with the given identifiers.
+     * <p>
+     * The default implementation looks the entities up one by one; implementations should override it
+     * to fetch the whole batch at once.
+     *
+     * @param ids the identifiers of the entities (must not be null)
+     * @return entities keyed by identifier, in the order of {@code ids}; identifiers of missing entities are absent
+     * @throws IllegalArgumentException if {@code ids} is null
+     */
+    default Map<ID, E> findAllById(Collection<? extends ID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Identifiers must not be null");
+        }
+        var found = new LinkedHashMap<ID, E>();
+        for (var id : ids) {
+            findById(id).ifPresent(e -> found.put(id, e));
+        }
+        return found;
+    }
+
+    /**
+     * Passes all stored entities to the given consumer, in consecutive batches.
+     * <p>
+     * Allows processing all entities without loading all of them at once.
+     *
+     * @param batchSize     the maximum number of entities in a single batch (must be positive)
+     * @param batchConsumer the consumer of batches (must not be null)
+     * @throws IllegalArgumentException if the batch size is not positive or the consumer is null
+     */
+    void scan(int batchSize, Consumer<? super List<E>> batchConsumer);
+
     /**
      * Retrieves an entity by its identifier or fails fast if not found.
      * <p>
@@ -0,0 +1,100 @@
+package dev.codetoreason.patterns.tactical.infra.repository;
+
+/**
+ * Approximate, aging counter of how often keys are accessed - a count-min sketch of 4-bit counters.
+ * <p>
+ * Each key increments one counter in each of four rows, and its frequency is estimated as the smallest of them,
+ * so collisions can only overestimate it. Counters saturate at 15. Once the number of increments reaches ten times
+ * the expected number of distinct keys, all counters are halved, so the sketch follows changes in popularity
+ * instead of remembering the whole history.
+ * <p>
+ * The sketch takes a fixed amount of memory, independent of the number of keys counted: a single {@code long}
+ * of sixteen counters per expected key, rounded up to a power of two.
+ * <p><strong>Note:</strong> This class is <em>not thread-safe</em>; callers must synchronize access.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0x97cb3127L, 0xab6d87f1L, 0xd5c8a7b3L, 0x8f1bbcdcL
+    };
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final int MAX_FREQUENCY = 15;
+
+    private final long[] table;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for the given number of distinct keys.
+     *
+     * @param expectedKeys the number of keys expected to be counted at once, e.g. the capacity of a cache
+     */
+    FrequencySketch(int expectedKeys) {
+        var keys = Math.max(2, expectedKeys);
+        this.table = new long[Integer.highestOneBit(keys - 1) << 1];
+        this.sampleSize = 10 * keys;
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the given key.
+     *
+     * @param key the key (must not be null)
+     * @return the estimated frequency, within {@code [0, 15]}
+     */
+    int frequency(Object key) {
+        var hash = spread(key.hashCode());
+        var frequency = MAX_FREQUENCY;
+        for (var row = 0; row < SEEDS.length; row++) {
+            var counter = counterOf(hash, row);
+            frequency = Math.min(frequency, (int) (table[indexOf(counter)] >>> offsetOf(counter)) & MAX_FREQUENCY);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the given key, aging all counters once enough accesses were recorded.
+     *
+     * @param key the key (must not be null)
+     */
+    void increment(Object key) {
+        var hash = spread(key.hashCode());
+        var incremented = false;
+        for (var row = 0; row < SEEDS.length; row++) {
+            var counter = counterOf(hash, row);
+            var index = indexOf(counter);
+            var offset = offsetOf(counter);
+            if (((table[index] >>> offset) & MAX_FREQUENCY) < MAX_FREQUENCY) {
+                table[index] += 1L << offset;
+                incremented = true;
+            }
+        }
+        if (incremented && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (var i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private static long counterOf(int hash, int row) {
+        var h = (hash + SEEDS[row]) * SEEDS[row];
+        return h ^ (h >>> 32);
+    }
+
+    private int indexOf(long counter) {
+        return (int) (counter >>> 4) & (table.length - 1);
+    }
+
+    private static int offsetOf(long counter) {
+        return ((int) counter & 0xF) << 2;
+    }
+
+    private static int spread(int hash) {
+        var h = hash * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
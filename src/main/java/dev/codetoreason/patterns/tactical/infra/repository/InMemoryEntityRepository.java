@@ -1,9 +1,15 @@
 package dev.codetoreason.patterns.tactical.infra.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -11,6 +17,21 @@ import java.util.function.Predicate;
  * <p>
  * Stores entities in a local {@link HashMap} using their {@link Entity#id()} as keys.
  * Intended for showcasing business-oriented code patterns without external persistence.
+ * <p>
+ * Subclasses may declare secondary indexes to answer frequent queries without scanning all entities:
+ * <pre>{@code
+ * class InMemoryWarehouseRepository extends InMemoryEntityRepository<Warehouse, WarehouseId> {
+ *
+ *     private final SecondaryIndex<Warehouse, WarehouseId, String> byRegion = index(Warehouse::region);
+ *     private final SecondaryIndex<Warehouse, WarehouseId, ProductType> byType = indexMany(Warehouse::supportedTypes);
+ *
+ *     List<Warehouse> findAllByRegionSupporting(String region, ProductType type) {
+ *         return where(byRegion, region).and(byType, type)
+ *                                       .list();
+ *     }
+ * }
+ * }</pre>
+ * Indexes are kept up to date on every {@link #save(Entity)}.
  *
  * <p><strong>Note:</strong> This implementation is <em>not thread-safe</em>
  * and should only be used in single-threaded contexts such as unit tests or documentation examples.
@@ -21,15 +42,22 @@ import java.util.function.Predicate;
 public abstract class InMemoryEntityRepository<E extends Entity<ID>, ID> implements EntityRepository<E, ID> {
 
     private final Map<ID, E> repo = new HashMap<>();
+    private final List<SecondaryIndex<E, ID, ?>> indexes = new ArrayList<>();
 
     /**
-     * Stores or replaces the given entity in memory.
+     * Stores or replaces the given entity in memory, updating all secondary indexes.
      *
      * @param e the entity to save
      */
     @Override
     public void save(E e) {
-        repo.put(e.id(), e);
+        var previous = repo.put(e.id(), e);
+        for (var index : indexes) {
+            if (previous != null) {
+                index.remove(previous);
+            }
+            index.add(e);
+        }
     }
 
     /**
@@ -68,4 +96,143 @@ public abstract class InMemoryEntityRepository<E extends Entity<ID>, ID> impleme
                    .filter(predicate)
                    .toList();
     }
+
+    /**
+     * Passes all entities currently stored in memory to the given consumer, in consecutive batches.
+     *
+     * @param batchSize     the maximum number of entities in a single batch (must be positive)
+     * @param batchConsumer the consumer of batches (must not be null)
+     * @throws IllegalArgumentException if the batch size is not positive or the consumer is null
+     */
+    @Override
+    public void scan(int batchSize, Consumer<? super List<E>> batchConsumer) {
+        Batches.requireValid(batchSize, batchConsumer);
+        Batches.split(findAll(), batchSize, batchConsumer);
+    }
+
+    /**
+     * Returns all entities indexed under the given key.
+     * <p>
+     * The lookup takes time proportional to the number of matching entities, not to the size of the repository.
+     *
+     * @param index the index of this repository to look up (must not be null)
+     * @param key   the key to look for
+     * @param <K>   the type of the index key
+     * @return a list of matching entities, in the order they were first indexed under the key
+     * @throws IllegalArgumentException if the index is null or does not belong to this repository
+     */
+    public <K> List<E> findAllBy(SecondaryIndex<E, ID, K> index, K key) {
+        return where(index, key).list();
+    }
+
+    /**
+     * Starts a query for entities indexed under the given key, which may be narrowed down by further indexes.
+     *
+     * @param index the index of this repository to look up (must not be null)
+     * @param key   the key to look for
+     * @param <K>   the type of the index key
+     * @return a query matching entities indexed under {@code key}
+     * @throws IllegalArgumentException if the index is null or does not belong to this repository
+     */
+    public <K> IndexQuery where(SecondaryIndex<E, ID, K> index, K key) {
+        return new IndexQuery().and(index, key);
+    }
+
+    /**
+     * Declares a secondary index with a single key per entity, e.g. {@code index(Warehouse::region)}.
+     * <p>
+     * Meant to be called when initializing a subclass; entities already stored are indexed immediately.
+     *
+     * @param keyExtractor the function extracting the key from an entity (must not be null)
+     * @param <K>          the type of the index key
+     * @return the index, to be used in queries
+     * @throws IllegalArgumentException if {@code keyExtractor} is null
+     */
+    protected <K> SecondaryIndex<E, ID, K> index(Function<? super E, ? extends K> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor must not be null");
+        }
+        return indexMany(e -> {
+            var key = keyExtractor.apply(e);
+            return key != null ? List.of(key) : List.of();
+        });
+    }
+
+    /**
+     * Declares a secondary index with any number of keys per entity, e.g. {@code indexMany(Warehouse::supportedTypes)}.
+     * <p>
+     * Meant to be called when initializing a subclass; entities already stored are indexed immediately.
+     *
+     * @param keysExtractor the function extracting the keys from an entity (must not be null)
+     * @param <K>           the type of the index key
+     * @return the index, to be used in queries
+     * @throws IllegalArgumentException if {@code keysExtractor} is null
+     */
+    protected <K> SecondaryIndex<E, ID, K> indexMany(Function<? super E, ? extends Collection<? extends K>> keysExtractor) {
+        if (keysExtractor == null) {
+            throw new IllegalArgumentException("Keys extractor must not be null");
+        }
+        var index = new SecondaryIndex<E, ID, K>(keysExtractor);
+        repo.values().forEach(index::add);
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Query intersecting lookups of several secondary indexes.
+     * <p>
+     * Matching identifiers are collected from the most selective lookup and checked against the other ones,
+     * so the query takes time proportional to the smallest number of entities matching a single condition.
+     */
+    public final class IndexQuery {
+
+        private final List<Set<ID>> lookups = new ArrayList<>();
+
+        private IndexQuery() {
+        }
+
+        /**
+         * Narrows down this query to entities that are also indexed under the given key.
+         *
+         * @param index the index of this repository to look up (must not be null)
+         * @param key   the key to look for
+         * @param <K>   the type of the index key
+         * @return this query
+         * @throws IllegalArgumentException if the index is null or does not belong to this repository
+         */
+        public <K> IndexQuery and(SecondaryIndex<E, ID, K> index, K key) {
+            if (index == null || !indexes.contains(index)) {
+                throw new IllegalArgumentException("Index must belong to this repository");
+            }
+            lookups.add(index.idsFor(key));
+            return this;
+        }
+
+        /**
+         * Returns all entities matching every condition of this query.
+         *
+         * @return a list of matching entities
+         */
+        public List<E> list() {
+            var mostSelective = lookups.stream()
+                                       .min(Comparator.comparingInt(Set::size))
+                                       .orElseThrow();
+            var matching = new ArrayList<E>(mostSelective.size());
+            for (var id : mostSelective) {
+                if (matchesAll(id)) {
+                    matching.add(repo.get(id));
+                }
+            }
+            return List.copyOf(matching);
+        }
+
+        private boolean matchesAll(ID id) {
+            for (var ids : lookups) {
+                if (!ids.contains(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package dev.codetoreason.patterns.tactical.infra.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Secondary index of an {@link InMemoryEntityRepository}, mapping keys extracted from entities
+ * to the identifiers of the entities holding them.
+ * <p>
+ * An index is created and maintained by its repository; see {@link InMemoryEntityRepository#index(Function)}
+ * and {@link InMemoryEntityRepository#indexMany(Function)}. An entity may be indexed under any number of keys,
+ * e.g. a warehouse under each of the product types it supports. {@code null} keys are not indexed.
+ *
+ * @param <E>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ * @param <K>  the type of the index key
+ */
+public final class SecondaryIndex<E extends Entity<ID>, ID, K> {
+
+    private final Function<? super E, ? extends Collection<? extends K>> keysExtractor;
+    private final Map<K, Set<ID>> postings = new HashMap<>();
+
+    SecondaryIndex(Function<? super E, ? extends Collection<? extends K>> keysExtractor) {
+        this.keysExtractor = keysExtractor;
+    }
+
+    void add(E e) {
+        var keys = keysExtractor.apply(e);
+        if (keys == null) {
+            return;
+        }
+        for (var key : keys) {
+            if (key != null) {
+                postings.computeIfAbsent(key, _ -> new LinkedHashSet<>())
+                        .add(e.id());
+            }
+        }
+    }
+
+    void remove(E e) {
+        var keys = keysExtractor.apply(e);
+        if (keys == null) {
+            return;
+        }
+        for (var key : keys) {
+            var ids = key != null ? postings.get(key) : null;
+            if (ids != null) {
+                ids.remove(e.id());
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    Set<ID> idsFor(K key) {
+        var ids = postings.get(key);
+        return ids != null
+                ? Collections.unmodifiableSet(ids)
+                : Set.of();
+    }
+}
@@ -0,0 +1,45 @@
+package dev.codetoreason.patterns.tactical.infra.repository.mapped;
+
+import dev.codetoreason.patterns.tactical.infra.repository.Entity;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts entities to and from their binary representation stored by {@link MappedEntityRepository}.
+ * <p>
+ * Implementations must be stateless and decode exactly what they encoded.
+ *
+ * @param <E>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ */
+public interface EntityCodec<E extends Entity<ID>, ID> {
+
+    /**
+     * Encodes the given entity.
+     *
+     * @param entity the entity to encode
+     * @return a buffer whose remaining bytes hold the encoded entity
+     */
+    ByteBuffer encode(E entity);
+
+    /**
+     * Decodes an entity from the given payload.
+     *
+     * @param payload the remaining bytes of an encoded entity
+     * @return the decoded entity
+     */
+    E decode(ByteBuffer payload);
+
+    /**
+     * Decodes only the identifier of an entity from the given payload.
+     * <p>
+     * Used to resolve hash collisions and to rebuild the index on recovery. Codecs that encode the identifier
+     * first should override it to skip decoding the whole entity.
+     *
+     * @param payload the remaining bytes of an encoded entity
+     * @return the identifier of the encoded entity
+     */
+    default ID decodeId(ByteBuffer payload) {
+        return decode(payload).id();
+    }
+}
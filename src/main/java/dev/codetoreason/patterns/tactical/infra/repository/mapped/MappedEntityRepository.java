@@ -0,0 +1,374 @@
+package dev.codetoreason.patterns.tactical.infra.repository.mapped;
+
+import dev.codetoreason.patterns.tactical.infra.log.MappedAppendLog;
+import dev.codetoreason.patterns.tactical.infra.repository.Entity;
+import dev.codetoreason.patterns.tactical.infra.repository.EntityRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Persistent implementation of {@link EntityRepository} backed by a memory-mapped {@link MappedAppendLog}.
+ * <p>
+ * Every {@link #save(Entity)} appends the entity, encoded by a pluggable {@link EntityCodec}, to the log
+ * and points an off-heap hash index at the new record; older versions of the entity stay in the log
+ * as garbage until {@link #compact()} rewrites the log with the live records only.
+ * <p>
+ * On startup, the log is recovered (see {@link MappedAppendLog}) and the index is rebuilt by replaying it,
+ * decoding only the identifiers of the entities. Since the log is mapped, a restart mostly costs
+ * reading the file back from the page cache, not reloading entities from their upstream source.
+ * <p>
+ * Saved entities survive a crash of the process; call {@link #flush()} to make them survive
+ * a crash of the operating system as well.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * class MappedWarehouseRepository extends MappedEntityRepository<Warehouse, WarehouseId>
+ *         implements WarehouseRepository {
+ *
+ *     MappedWarehouseRepository(Path file) {
+ *         super(file, new WarehouseCodec());
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * This class is thread-safe: lookups run concurrently, while saves and compaction are exclusive.
+ *
+ * @param <E>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ */
+public abstract class MappedEntityRepository<E extends Entity<ID>, ID> implements EntityRepository<E, ID>, AutoCloseable {
+
+    private static final String COMPACTION_SUFFIX = ".compacting";
+
+    private final Path file;
+    private final EntityCodec<E, ID> codec;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MappedAppendLog log;
+    private OffHeapIndex index;
+
+    /**
+     * Opens the repository stored in the given file, creating the file if it does not exist.
+     *
+     * @param file  the file of the repository (must not be null)
+     * @param codec the codec of stored entities (must not be null)
+     * @throws IllegalArgumentException if any argument is null or the file is not a log file
+     * @throws UncheckedIOException     if the file cannot be opened
+     */
+    protected MappedEntityRepository(Path file, EntityCodec<E, ID> codec) {
+        if (file == null || codec == null) {
+            throw new IllegalArgumentException("File and codec must not be null");
+        }
+        this.file = file;
+        this.codec = codec;
+        deleteLeftoverOfCompaction();
+        this.log = MappedAppendLog.open(file);
+        this.index = replay(log);
+    }
+
+    /**
+     * Appends the given entity to the log and makes it the current version of the entity.
+     *
+     * @param e the entity to save
+     * @throws IllegalStateException if the log exceeds the maximum size of a mapped file
+     * @throws UncheckedIOException  if the log cannot be extended
+     */
+    @Override
+    public void save(E e) {
+        var id = e.id();
+        var payload = codec.encode(e);
+        lock.writeLock().lock();
+        try {
+            var offset = log.append(payload);
+            index.put(hashOf(id), offset, candidate -> isRecordOf(id, candidate));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends all given entities to the log under a single acquisition of the lock.
+     * <p>
+     * Entities are encoded before the lock is taken, so concurrent lookups are held off
+     * only for the time of copying the encoded records into the log.
+     *
+     * @param entities the entities to save (must not be null)
+     * @throws IllegalArgumentException if {@code entities} is null
+     * @throws IllegalStateException    if the log exceeds the maximum size of a mapped file
+     * @throws UncheckedIOException     if the log cannot be extended
+     */
+    @Override
+    public void saveAll(Collection<? extends E> entities) {
+        if (entities == null) {
+            throw new IllegalArgumentException("Entities must not be null");
+        }
+        var ids = new ArrayList<ID>(entities.size());
+        var payloads = new ArrayList<ByteBuffer>(entities.size());
+        for (var e : entities) {
+            ids.add(e.id());
+            payloads.add(codec.encode(e));
+        }
+        lock.writeLock().lock();
+        try {
+            for (var i = 0; i < ids.size(); i++) {
+                var id = ids.get(i);
+                var offset = log.append(payloads.get(i));
+                index.put(hashOf(id), offset, candidate -> isRecordOf(id, candidate));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Attempts to find the current version of an entity by its identifier.
+     *
+     * @param id the identifier of the entity
+     * @return an {@link Optional} containing the entity if found, or empty if not found.
+     */
+    @Override
+    public Optional<E> findById(ID id) {
+        lock.readLock().lock();
+        try {
+            var offset = index.get(hashOf(id), candidate -> isRecordOf(id, candidate));
+            return offset < 0
+                    ? Optional.empty()
+                    : Optional.of(codec.decode(log.read(offset)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the current versions of all entities with the given identifiers under a single acquisition of the lock.
+     *
+     * @param ids the identifiers of the entities (must not be null)
+     * @return entities keyed by identifier, in the order of {@code ids}; identifiers of missing entities are absent
+     * @throws IllegalArgumentException if {@code ids} is null
+     */
+    @Override
+    public Map<ID, E> findAllById(Collection<? extends ID> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Identifiers must not be null");
+        }
+        var found = new LinkedHashMap<ID, E>();
+        lock.readLock().lock();
+        try {
+            for (var id : ids) {
+                var offset = index.get(hashOf(id), candidate -> isRecordOf(id, candidate));
+                if (offset >= 0) {
+                    found.put(id, codec.decode(log.read(offset)));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Passes the current versions of all stored entities to the given consumer, in consecutive batches.
+     * <p>
+     * Only the positions of the records are collected up front; entities are decoded one batch at a time,
+     * so the scan never holds more than a single batch of entities in memory. The lock is not held
+     * while a batch is being consumed, so the consumer may save entities; such saves are not visible to the scan.
+     *
+     * @param batchSize     the maximum number of entities in a single batch (must be positive)
+     * @param batchConsumer the consumer of batches (must not be null)
+     * @throws IllegalArgumentException if the batch size is not positive or the consumer is null
+     * @throws IllegalStateException    if the repository is compacted while being scanned
+     */
+    @Override
+    public void scan(int batchSize, Consumer<? super List<E>> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (batchConsumer == null) {
+            throw new IllegalArgumentException("Batch consumer must not be null");
+        }
+        MappedAppendLog scanned;
+        int[] offsets;
+        lock.readLock().lock();
+        try {
+            scanned = log;
+            offsets = new int[index.size()];
+            var collected = new int[1];
+            index.forEachOffset(offset -> offsets[collected[0]++] = offset);
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (var from = 0; from < offsets.length; from += batchSize) {
+            var batch = decodeBatch(scanned, Arrays.copyOfRange(offsets, from, Math.min(from + batchSize, offsets.length)));
+            batchConsumer.accept(batch);
+        }
+    }
+
+    /**
+     * Returns the current versions of all stored entities.
+     *
+     * @return a list of all stored entities
+     */
+    public List<E> findAll() {
+        return findAllBy(_ -> true);
+    }
+
+    /**
+     * Returns the current versions of all stored entities that match the given predicate.
+     *
+     * @param predicate the filtering predicate
+     * @return a list of matching entities
+     */
+    public List<E> findAllBy(Predicate<E> predicate) {
+        lock.readLock().lock();
+        try {
+            var matching = new ArrayList<E>();
+            index.forEachOffset(offset -> {
+                var entity = codec.decode(log.read(offset));
+                if (predicate.test(entity)) {
+                    matching.add(entity);
+                }
+            });
+            return List.copyOf(matching);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored entities.
+     *
+     * @return the number of distinct identifiers saved so far
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes all saved entities through to the storage device.
+     */
+    public void flush() {
+        lock.readLock().lock();
+        try {
+            log.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log with the current versions of entities only, reclaiming space taken by older versions.
+     * <p>
+     * The live records are copied into a new file which atomically replaces the current one once complete,
+     * so a crash during compaction leaves the repository as it was before.
+     *
+     * @throws UncheckedIOException if the compacted log cannot be written or moved into place
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            var compactedFile = compactionFile();
+            Files.deleteIfExists(compactedFile);
+            var compactedIndex = new OffHeapIndex();
+            try (var compacted = MappedAppendLog.open(compactedFile)) {
+                index.forEach((hash, offset) -> {
+                    var newOffset = compacted.append(log.read(offset));
+                    compactedIndex.put(hash, newOffset, _ -> false);
+                });
+            }
+            Files.move(compactedFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            log.close();
+            log = MappedAppendLog.open(file);
+            index = compactedIndex;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact repository " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes saved entities and closes the underlying file.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            log.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<E> decodeBatch(MappedAppendLog scanned, int[] offsets) {
+        lock.readLock().lock();
+        try {
+            if (log != scanned) {
+                throw new IllegalStateException("Repository " + file + " was compacted while being scanned");
+            }
+            var batch = new ArrayList<E>(offsets.length);
+            for (var offset : offsets) {
+                batch.add(codec.decode(log.read(offset)));
+            }
+            return List.copyOf(batch);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private OffHeapIndex replay(MappedAppendLog log) {
+        var replayed = new OffHeapIndex();
+        log.forEach((offset, payload) -> {
+            var id = codec.decodeId(payload);
+            replayed.put(hashOf(id), offset, candidate -> isRecordOf(id, candidate, log));
+        });
+        return replayed;
+    }
+
+    private boolean isRecordOf(ID id, int offset) {
+        return isRecordOf(id, offset, log);
+    }
+
+    private boolean isRecordOf(ID id, int offset, MappedAppendLog source) {
+        return id.equals(codec.decodeId(source.read(offset)));
+    }
+
+    private void deleteLeftoverOfCompaction() {
+        try {
+            Files.deleteIfExists(compactionFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete leftover of compaction of " + file, e);
+        }
+    }
+
+    private Path compactionFile() {
+        return file.resolveSibling(file.getFileName() + COMPACTION_SUFFIX);
+    }
+
+    private static int hashOf(Object id) {
+        var hash = id.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+}
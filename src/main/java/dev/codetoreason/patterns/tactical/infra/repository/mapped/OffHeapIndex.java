@@ -0,0 +1,128 @@
+package dev.codetoreason.patterns.tactical.infra.repository.mapped;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-addressing hash table from key hashes to record offsets, kept outside of the Java heap.
+ * <p>
+ * Each slot is a single {@code long} packing the key hash and the offset incremented by one, so that
+ * zero marks an empty slot. Keys themselves are not stored; hash collisions are resolved by the caller,
+ * which checks the key of the record at a candidate offset. Linear probing keeps lookups within a few
+ * neighbouring slots, and the table doubles once it is half full.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class OffHeapIndex {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private ByteBuffer slots;
+    private int mask;
+    private int size;
+
+    OffHeapIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the offset stored for the key with the given hash, or {@code -1} if there is none.
+     */
+    int get(int hash, IntPredicate isKeyAt) {
+        for (var slot = hash & mask; ; slot = (slot + 1) & mask) {
+            var entry = slots.getLong(slot * Long.BYTES);
+            if (entry == 0L) {
+                return -1;
+            }
+            if (hashOf(entry) == hash && isKeyAt.test(offsetOf(entry))) {
+                return offsetOf(entry);
+            }
+        }
+    }
+
+    /**
+     * Stores the offset for the key with the given hash, replacing the offset of the same key if present.
+     */
+    void put(int hash, int offset, IntPredicate isKeyAt) {
+        if ((size + 1) * 2 > slots.capacity() / Long.BYTES) {
+            grow();
+        }
+        for (var slot = hash & mask; ; slot = (slot + 1) & mask) {
+            var entry = slots.getLong(slot * Long.BYTES);
+            if (entry == 0L) {
+                slots.putLong(slot * Long.BYTES, entryOf(hash, offset));
+                size++;
+                return;
+            }
+            if (hashOf(entry) == hash && isKeyAt.test(offsetOf(entry))) {
+                slots.putLong(slot * Long.BYTES, entryOf(hash, offset));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Passes the hash and offset of every stored key to the given consumer.
+     */
+    void forEach(EntryConsumer consumer) {
+        for (var slot = 0; slot <= mask; slot++) {
+            var entry = slots.getLong(slot * Long.BYTES);
+            if (entry != 0L) {
+                consumer.accept(hashOf(entry), offsetOf(entry));
+            }
+        }
+    }
+
+    void forEachOffset(IntConsumer consumer) {
+        forEach((_, offset) -> consumer.accept(offset));
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        var previous = slots;
+        allocate(previous.capacity() / Long.BYTES * 2);
+        for (var slot = 0; slot < previous.capacity() / Long.BYTES; slot++) {
+            var entry = previous.getLong(slot * Long.BYTES);
+            if (entry != 0L) {
+                insertUnique(entry);
+            }
+        }
+    }
+
+    private void insertUnique(long entry) {
+        var slot = hashOf(entry) & mask;
+        while (slots.getLong(slot * Long.BYTES) != 0L) {
+            slot = (slot + 1) & mask;
+        }
+        slots.putLong(slot * Long.BYTES, entry);
+        size++;
+    }
+
+    private void allocate(int capacity) {
+        slots = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private static long entryOf(int hash, int offset) {
+        return ((long) hash << Integer.SIZE) | ((offset + 1L) & 0xFFFF_FFFFL);
+    }
+
+    private static int hashOf(long entry) {
+        return (int) (entry >>> Integer.SIZE);
+    }
+
+    private static int offsetOf(long entry) {
+        return (int) entry - 1;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+
+        void accept(int hash, int offset);
+    }
+}
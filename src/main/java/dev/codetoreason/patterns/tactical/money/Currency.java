@@ -6,8 +6,26 @@ package dev.codetoreason.patterns.tactical.money;
  * This enum is used in conjunction with the {@link Money} value object
  * to enforce type-safe and semantically meaningful currency handling.
  * <p>
+ * Each currency declares the number of fraction digits of its minor unit
+ * (e.g. 2 for cents or grosze), which is used by fixed-point representations such as {@link FastMoney}.
+ * <p>
  * Extend this enum as needed when supporting additional currencies.
  */
 public enum Currency {
-    USD, EUR, PLN
+    USD(2), EUR(2), PLN(2);
+
+    private final int fractionDigits;
+
+    Currency(int fractionDigits) {
+        this.fractionDigits = fractionDigits;
+    }
+
+    /**
+     * Returns the number of fraction digits of this currency's minor unit.
+     *
+     * @return the minor-unit scale (e.g. 2 for cents)
+     */
+    public int fractionDigits() {
+        return fractionDigits;
+    }
 }
@@ -0,0 +1,193 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable matrix of exchange rates between every pair of supported currencies.
+ * <p>
+ * Unlike {@link TargetCurrencyRateProvider}, which expresses conversions into a single fixed target,
+ * the matrix answers "from any to any" conversions. Factors are precomputed into a dense array indexed
+ * by {@link Currency#ordinal()}, so a lookup is an index computation and a single array load.
+ * <p>
+ * Rates are defined against a pivot currency; cross rates are triangulated through the pivot
+ * when the matrix is built. Directly quoted pairs take precedence over triangulated ones.
+ * <p>
+ * Rates and quotes given to the builder are stored as they are. Factors triangulated through the pivot,
+ * including the inverted rates converting from the pivot, are quotients of two rates and are rounded
+ * to 34 significant digits ({@link MathContext#DECIMAL128}), so a conversion using them is not exact,
+ * e.g. with rates of 3 the factor converting from the pivot is {@code 0.3333...3}.
+ * Quote such pairs directly when the factor must be exact.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CurrencyRateMatrix rates = CurrencyRateMatrix.pivotedAt(PLN)
+ *                                              .rate(EUR, new BigDecimal("4.25"))
+ *                                              .rate(USD, new BigDecimal("3.95"))
+ *                                              .build();
+ * Money inEur = money.convertUsing(rates, EUR);
+ * }</pre>
+ */
+public final class CurrencyRateMatrix {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final MathContext CROSS_RATE_PRECISION = MathContext.DECIMAL128;
+
+    private final BigDecimal[] factors;
+
+    private CurrencyRateMatrix(BigDecimal[] factors) {
+        this.factors = factors;
+    }
+
+    /**
+     * Starts building a matrix whose rates are expressed against the given pivot currency.
+     *
+     * @param pivot the currency all rates are quoted against (must not be null)
+     * @return a builder expecting the rates
+     * @throws IllegalArgumentException if {@code pivot} is null
+     */
+    public static CurrencyRateMatrixBuilder pivotedAt(Currency pivot) {
+        if (pivot == null) {
+            throw new IllegalArgumentException("Pivot currency must not be null");
+        }
+        return new CurrencyRateMatrixBuilder(pivot);
+    }
+
+    /**
+     * Returns the conversion factor from the source to the target currency.
+     *
+     * @param sourceCurrency the currency to convert from (must not be null)
+     * @param targetCurrency the currency to convert to (must not be null)
+     * @return the multiplication factor ({@code 1} for the same currency)
+     * @throws IllegalArgumentException if any currency is null or the matrix holds no rate for the pair
+     */
+    public BigDecimal factor(Currency sourceCurrency, Currency targetCurrency) {
+        if (sourceCurrency == null || targetCurrency == null) {
+            throw new IllegalArgumentException("Currencies must not be null");
+        }
+        var factor = factors[indexOf(sourceCurrency, targetCurrency)];
+        if (factor == null) {
+            throw new IllegalArgumentException("Missing exchange rate from " + sourceCurrency + " to " + targetCurrency);
+        }
+        return factor;
+    }
+
+    /**
+     * Returns a view of this matrix as a provider of rates into the given target currency.
+     * <p>
+     * Useful for APIs accepting a {@link TargetCurrencyRateProvider}, such as {@link MoneyVector#sumConverted}.
+     *
+     * @param targetCurrency the currency to convert to (must not be null)
+     * @return a rate provider backed by this matrix
+     * @throws IllegalArgumentException if {@code targetCurrency} is null
+     */
+    public TargetCurrencyRateProvider toTarget(Currency targetCurrency) {
+        if (targetCurrency == null) {
+            throw new IllegalArgumentException("Target currency must not be null");
+        }
+        return sourceCurrency -> factor(sourceCurrency, targetCurrency);
+    }
+
+    private static int indexOf(Currency sourceCurrency, Currency targetCurrency) {
+        return sourceCurrency.ordinal() * CURRENCIES.length + targetCurrency.ordinal();
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link CurrencyRateMatrix} instances.
+     */
+    public static final class CurrencyRateMatrixBuilder {
+
+        private final Currency pivot;
+        private final Map<Currency, BigDecimal> toPivot = new EnumMap<>(Currency.class);
+        private final BigDecimal[] quotes = new BigDecimal[CURRENCIES.length * CURRENCIES.length];
+
+        private CurrencyRateMatrixBuilder(Currency pivot) {
+            this.pivot = pivot;
+            this.toPivot.put(pivot, BigDecimal.ONE);
+        }
+
+        /**
+         * Defines the factor converting the given currency into the pivot currency.
+         *
+         * @param currency      the source currency (must not be null)
+         * @param factorToPivot the multiplication factor into the pivot currency (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if any argument is null or the factor is not positive
+         */
+        public CurrencyRateMatrixBuilder rate(Currency currency, BigDecimal factorToPivot) {
+            if (currency == null) {
+                throw new IllegalArgumentException("Currency must not be null");
+            }
+            requirePositive(factorToPivot);
+            if (currency == pivot && factorToPivot.compareTo(BigDecimal.ONE) != 0) {
+                throw new IllegalArgumentException("Rate of pivot currency must be 1");
+            }
+            toPivot.put(currency, factorToPivot);
+            return this;
+        }
+
+        /**
+         * Defines a direct factor for the given pair, overriding the one triangulated through the pivot.
+         *
+         * @param sourceCurrency the currency to convert from (must not be null)
+         * @param targetCurrency the currency to convert to (must not be null and must differ from the source)
+         * @param factor         the multiplication factor (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if any argument is null, the currencies are the same
+         *                                  or the factor is not positive
+         */
+        public CurrencyRateMatrixBuilder quote(Currency sourceCurrency, Currency targetCurrency, BigDecimal factor) {
+            if (sourceCurrency == null || targetCurrency == null) {
+                throw new IllegalArgumentException("Currencies must not be null");
+            }
+            if (sourceCurrency == targetCurrency) {
+                throw new IllegalArgumentException("Quoted currencies must differ");
+            }
+            requirePositive(factor);
+            quotes[indexOf(sourceCurrency, targetCurrency)] = factor;
+            return this;
+        }
+
+        /**
+         * Precomputes factors for every pair of currencies and returns the immutable matrix.
+         * <p>
+         * Pairs that are neither quoted directly nor reachable through the pivot stay undefined.
+         *
+         * @return the composed {@link CurrencyRateMatrix}
+         */
+        public CurrencyRateMatrix build() {
+            var factors = new BigDecimal[CURRENCIES.length * CURRENCIES.length];
+            for (var source : CURRENCIES) {
+                for (var target : CURRENCIES) {
+                    factors[indexOf(source, target)] = resolve(source, target);
+                }
+            }
+            return new CurrencyRateMatrix(factors);
+        }
+
+        private BigDecimal resolve(Currency source, Currency target) {
+            if (source == target) {
+                return BigDecimal.ONE;
+            }
+            var quoted = quotes[indexOf(source, target)];
+            if (quoted != null) {
+                return quoted;
+            }
+            var sourceToPivot = toPivot.get(source);
+            var targetToPivot = toPivot.get(target);
+            if (sourceToPivot == null || targetToPivot == null) {
+                return null;
+            }
+            return sourceToPivot.divide(targetToPivot, CROSS_RATE_PRECISION)
+                                .stripTrailingZeros();
+        }
+
+        private static void requirePositive(BigDecimal factor) {
+            if (factor == null || factor.signum() <= 0) {
+                throw new IllegalArgumentException("Factor must be positive");
+            }
+        }
+    }
+}
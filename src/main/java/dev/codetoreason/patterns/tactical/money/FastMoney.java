@@ -0,0 +1,213 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import dev.codetoreason.patterns.tactical.quantity.Quantity;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Fixed-point Value Object representing a monetary amount as a number of minor units (e.g. cents).
+ * <p>
+ * This is an allocation-friendly counterpart of {@link Money} intended for hot paths such as
+ * summing large numbers of invoice lines. The amount is kept as a scaled {@code long}, where the scale
+ * is defined by {@link Currency#fractionDigits()}.
+ * <p>
+ * This record enforces:
+ * <ul>
+ *     <li>Lossless conversion from and to {@link Money} — amounts finer than the minor unit are rejected</li>
+ *     <li>Currency-aware arithmetic, the same way {@link Money} does</li>
+ *     <li>Overflow detection — arithmetic never silently wraps around</li>
+ * </ul>
+ *
+ * @param minorUnits the amount expressed in minor units of the currency (e.g. 1050 for 10.50 PLN)
+ * @param currency   the currency (must be non-null)
+ */
+public record FastMoney(long minorUnits, Currency currency) {
+
+    private static final FastMoney[] ZEROS = Arrays.stream(Currency.values())
+                                                   .map(currency -> new FastMoney(0L, currency))
+                                                   .toArray(FastMoney[]::new);
+
+    /**
+     * Constructs a {@code FastMoney} instance with the given amount of minor units and currency.
+     *
+     * @throws IllegalArgumentException if {@code currency} is {@code null}
+     */
+    public FastMoney {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+    }
+
+    /**
+     * Returns a zero value of money in the given currency.
+     * <p>
+     * Zero values are cached per currency, so this method does not allocate.
+     *
+     * @param currency the currency (must not be null)
+     * @return a FastMoney object with value 0 and the given currency
+     * @throws IllegalArgumentException if {@code currency} is {@code null}
+     */
+    public static FastMoney zero(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        return ZEROS[currency.ordinal()];
+    }
+
+    /**
+     * Returns a monetary value with the given amount of minor units and currency.
+     *
+     * @param minorUnits the amount in minor units (e.g. cents)
+     * @param currency   the currency (must not be null)
+     * @return a new FastMoney instance
+     */
+    public static FastMoney ofMinorUnits(long minorUnits, Currency currency) {
+        return new FastMoney(minorUnits, currency);
+    }
+
+    /**
+     * Returns a monetary value with the given decimal amount and currency.
+     * <p>
+     * The conversion is lossless: an amount that has more fraction digits than the currency's minor unit,
+     * or one that does not fit into a {@code long} number of minor units, is rejected.
+     *
+     * @param amount   the monetary value (must not be null)
+     * @param currency the currency (must not be null)
+     * @return a new FastMoney instance
+     * @throws IllegalArgumentException if any argument is {@code null}
+     *                                  or the amount cannot be represented exactly in minor units
+     */
+    public static FastMoney of(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount must not be null");
+        }
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        try {
+            var minorUnits = amount.movePointRight(currency.fractionDigits())
+                                   .longValueExact();
+            return new FastMoney(minorUnits, currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    "Amount " + amount.toPlainString() + " cannot be represented in minor units of " + currency
+            );
+        }
+    }
+
+    /**
+     * Converts the given {@link Money} into its fixed-point representation.
+     *
+     * @param money the money to convert (must not be null)
+     * @return an equal amount as {@code FastMoney}
+     * @throws IllegalArgumentException if {@code money} is {@code null}
+     *                                  or its amount cannot be represented exactly in minor units
+     */
+    public static FastMoney from(Money money) {
+        if (money == null) {
+            throw new IllegalArgumentException("Money must not be null");
+        }
+        return of(money.amount(), money.currency());
+    }
+
+    /**
+     * Adds two monetary values of the same currency.
+     *
+     * @param other the other money value
+     * @return a new FastMoney representing the sum
+     * @throws IllegalArgumentException if the currencies don't match
+     * @throws ArithmeticException      if the result overflows a {@code long}
+     */
+    public FastMoney add(FastMoney other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Cannot add different currencies: " + currency + " and " + other.currency);
+        }
+        return new FastMoney(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Subtracts the given monetary value from this one.
+     * <p>
+     * Both amounts must be in the same currency.
+     *
+     * @param other the money value to subtract (must have the same currency)
+     * @return a new {@code FastMoney} instance representing the result of the subtraction
+     * @throws IllegalArgumentException if the currencies do not match
+     * @throws ArithmeticException      if the result overflows a {@code long}
+     */
+    public FastMoney subtract(FastMoney other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Cannot subtract different currencies: " + currency + " and " + other.currency);
+        }
+        return new FastMoney(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Multiplies this amount by the given quantity.
+     *
+     * @param quantity the quantity of items or units (must not be null)
+     * @return a new {@code FastMoney} representing the total value
+     * @throws IllegalArgumentException if {@code quantity} is null
+     * @throws ArithmeticException      if the result overflows a {@code long}
+     */
+    public FastMoney multiply(Quantity quantity) {
+        if (quantity == null) {
+            throw new IllegalArgumentException("Quantity must not be null");
+        }
+        return new FastMoney(Math.multiplyExact(minorUnits, quantity.value()), currency);
+    }
+
+    /**
+     * Checks if this amount is zero.
+     *
+     * @return {@code true} if amount is 0
+     */
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    /**
+     * Checks if this amount is strictly positive (greater than 0).
+     *
+     * @return {@code true} if amount > 0
+     */
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    /**
+     * Checks if this amount is negative.
+     *
+     * @return {@code true} if amount is less than 0
+     */
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    /**
+     * Returns whether this monetary amount is denominated in the given currency.
+     *
+     * @param currency the currency to compare against (must not be {@code null})
+     * @return {@code true} if the currencies match, {@code false} otherwise
+     * @throws IllegalArgumentException if {@code currency} is {@code null}
+     */
+    public boolean matchesCurrency(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        return this.currency == currency;
+    }
+
+    /**
+     * Converts this amount back into a {@link Money} value object without any loss of precision.
+     *
+     * @return an equal amount as {@code Money}
+     */
+    public Money toMoney() {
+        return Money.of(
+                BigDecimal.valueOf(minorUnits, currency.fractionDigits()),
+                currency
+        );
+    }
+}
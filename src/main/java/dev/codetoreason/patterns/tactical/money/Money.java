@@ -1,6 +1,7 @@
 package dev.codetoreason.patterns.tactical.money;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import static java.math.BigDecimal.ZERO;
 
@@ -21,6 +22,10 @@ import static java.math.BigDecimal.ZERO;
  */
 public record Money(BigDecimal amount, Currency currency) {
 
+    private static final Money[] ZEROS = Arrays.stream(Currency.values())
+                                               .map(currency -> new Money(ZERO, currency))
+                                               .toArray(Money[]::new);
+
     /**
      * Constructs a {@code Money} instance with the given amount and currency.
      * <p>
@@ -42,12 +47,18 @@ public record Money(BigDecimal amount, Currency currency) {
 
     /**
      * Returns a zero value of money in the given currency.
+     * <p>
+     * Zero values are cached per currency, so this method does not allocate.
      *
      * @param currency the currency (must not be null)
      * @return a Money object with value 0 and the given currency
+     * @throws IllegalArgumentException if {@code currency} is {@code null}
      */
     public static Money zero(Currency currency) {
-        return new Money(ZERO, currency);
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        return ZEROS[currency.ordinal()];
     }
 
     /**
@@ -167,5 +178,33 @@ public record Money(BigDecimal amount, Currency currency) {
                 targetCurrency
         );
     }
-}
 
+    /**
+     * Converts this monetary amount to the given target currency using a precomputed {@link CurrencyRateMatrix}.
+     * <p>
+     * Unlike {@link #convertTo(Currency, TargetCurrencyRateProvider)}, a single matrix serves conversions
+     * into any target currency, e.g. when the same amount is reported in several currencies.
+     * If the target currency is the same as this money's currency, the method returns {@code this}.
+     *
+     * @param rateMatrix     the matrix of exchange rates (must not be {@code null})
+     * @param targetCurrency the currency to convert to (must not be {@code null})
+     * @return a new {@code Money} instance in the {@code targetCurrency}
+     * @throws IllegalArgumentException if {@code rateMatrix} or {@code targetCurrency} is {@code null},
+     *                                  or if the matrix holds no exchange rate for the pair of currencies
+     */
+    public Money convertUsing(CurrencyRateMatrix rateMatrix, Currency targetCurrency) {
+        if (rateMatrix == null) {
+            throw new IllegalArgumentException("Rate matrix must not be null");
+        }
+        if (targetCurrency == null) {
+            throw new IllegalArgumentException("Target currency must not be null");
+        }
+        if (currency == targetCurrency) {
+            return this;
+        }
+        return Money.of(
+                amount.multiply(rateMatrix.factor(currency, targetCurrency)),
+                targetCurrency
+        );
+    }
+}
@@ -0,0 +1,253 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Columnar container of monetary amounts, designed for bulk aggregation of large numbers of lines.
+ * <p>
+ * Instead of a collection of {@link Money} records, amounts are kept in two primitive columns:
+ * a {@code long[]} of minor units (see {@link FastMoney}) and a {@code byte[]} of currency ordinals.
+ * Aggregations such as {@link #sum(Currency)} or {@link #groupByCurrency()} are then plain loops
+ * over primitive arrays, which the JIT compiles into tight, allocation-free code.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * MoneyVector costs = MoneyVector.withCapacity(items.size());
+ * items.forEach(item -> costs.append(item.cost()));
+ * Money total = costs.sumConverted(PLN, rateProvider);
+ * }</pre>
+ *
+ * <p><strong>Note:</strong> This container is mutable (amounts can be appended) and <em>not thread-safe</em>.
+ * It is meant to be filled and aggregated within a single batch job or request.
+ */
+public final class MoneyVector {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int DEFAULT_CAPACITY = 16;
+
+    static {
+        if (CURRENCIES.length > Byte.MAX_VALUE) {
+            throw new ExceptionInInitializerError("Currency ordinals must fit into a byte");
+        }
+    }
+
+    private long[] minorUnits;
+    private byte[] currencies;
+    private int size;
+
+    private MoneyVector(int capacity) {
+        this.minorUnits = new long[capacity];
+        this.currencies = new byte[capacity];
+    }
+
+    /**
+     * Creates an empty vector with a default initial capacity.
+     *
+     * @return a new, empty {@code MoneyVector}
+     */
+    public static MoneyVector empty() {
+        return new MoneyVector(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty vector able to hold the given number of amounts without growing.
+     *
+     * @param capacity the expected number of amounts (must be ≥ 0)
+     * @return a new, empty {@code MoneyVector}
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public static MoneyVector withCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        return new MoneyVector(capacity);
+    }
+
+    /**
+     * Appends the given amount to this vector.
+     *
+     * @param money the amount to append (must not be null)
+     * @return this vector
+     * @throws IllegalArgumentException if {@code money} is null
+     */
+    public MoneyVector append(FastMoney money) {
+        if (money == null) {
+            throw new IllegalArgumentException("Money must not be null");
+        }
+        return append(money.minorUnits(), money.currency());
+    }
+
+    /**
+     * Appends the given amount to this vector.
+     *
+     * @param money the amount to append (must not be null and must be representable in minor units)
+     * @return this vector
+     * @throws IllegalArgumentException if {@code money} is null or cannot be represented exactly in minor units
+     */
+    public MoneyVector append(Money money) {
+        return append(FastMoney.from(money));
+    }
+
+    /**
+     * Appends the given amount of minor units in the given currency to this vector.
+     *
+     * @param minorUnits the amount in minor units
+     * @param currency   the currency (must not be null)
+     * @return this vector
+     * @throws IllegalArgumentException if {@code currency} is null
+     */
+    public MoneyVector append(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        if (size == this.minorUnits.length) {
+            grow();
+        }
+        this.minorUnits[size] = minorUnits;
+        this.currencies[size] = (byte) currency.ordinal();
+        size++;
+        return this;
+    }
+
+    /**
+     * Returns the number of amounts held by this vector.
+     *
+     * @return the number of amounts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this vector holds no amounts.
+     *
+     * @return {@code true} if the vector is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the amount at the given position.
+     *
+     * @param index the position of the amount (must be within {@code [0, size)})
+     * @return the amount as {@link FastMoney}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public FastMoney get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return FastMoney.ofMinorUnits(minorUnits[index], CURRENCIES[currencies[index]]);
+    }
+
+    /**
+     * Sums all amounts denominated in the given currency, ignoring amounts in other currencies.
+     *
+     * @param currency the currency to sum up (must not be null)
+     * @return the total in the given currency (zero if there are no matching amounts)
+     * @throws IllegalArgumentException if {@code currency} is null
+     * @throws ArithmeticException      if the total overflows a {@code long} number of minor units
+     */
+    public FastMoney sum(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        var ordinal = (byte) currency.ordinal();
+        var total = 0L;
+        for (var i = 0; i < size; i++) {
+            if (currencies[i] == ordinal) {
+                total = Math.addExact(total, minorUnits[i]);
+            }
+        }
+        return FastMoney.ofMinorUnits(total, currency);
+    }
+
+    /**
+     * Sums all amounts, converting them into the target currency.
+     * <p>
+     * Amounts are first summed up per currency in minor units, and only the per-currency totals
+     * are converted. The rate provider is therefore consulted at most once per currency present
+     * in this vector, regardless of the number of amounts.
+     *
+     * @param targetCurrency the currency of the total (must not be null)
+     * @param rateProvider   the exchange rate provider into {@code targetCurrency} (must not be null)
+     * @return the total in the target currency
+     * @throws IllegalArgumentException if any argument is null or an exchange rate is missing
+     * @throws ArithmeticException      if a per-currency total overflows a {@code long} number of minor units
+     * @see Money#convertTo(Currency, TargetCurrencyRateProvider)
+     */
+    public Money sumConverted(Currency targetCurrency, TargetCurrencyRateProvider rateProvider) {
+        if (targetCurrency == null) {
+            throw new IllegalArgumentException("Target currency must not be null");
+        }
+        if (rateProvider == null) {
+            throw new IllegalArgumentException("Rate provider must not be null");
+        }
+        var total = Money.zero(targetCurrency);
+        for (var subtotal : groupByCurrency().values()) {
+            total = total.add(
+                    subtotal.toMoney()
+                            .convertTo(targetCurrency, rateProvider)
+            );
+        }
+        return total;
+    }
+
+    /**
+     * Returns a new vector holding only the amounts denominated in the given currency.
+     *
+     * @param currency the currency to keep (must not be null)
+     * @return a new {@code MoneyVector} with the matching amounts, in their original order
+     * @throws IllegalArgumentException if {@code currency} is null
+     */
+    public MoneyVector filter(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        var ordinal = (byte) currency.ordinal();
+        var filtered = new MoneyVector(size);
+        var filteredSize = 0;
+        for (var i = 0; i < size; i++) {
+            if (currencies[i] == ordinal) {
+                filtered.minorUnits[filteredSize] = minorUnits[i];
+                filtered.currencies[filteredSize] = ordinal;
+                filteredSize++;
+            }
+        }
+        filtered.size = filteredSize;
+        return filtered;
+    }
+
+    /**
+     * Sums the amounts per currency in a single pass.
+     *
+     * @return totals keyed by currency, containing only currencies present in this vector
+     * @throws ArithmeticException if a total overflows a {@code long} number of minor units
+     */
+    public Map<Currency, FastMoney> groupByCurrency() {
+        var totals = new long[CURRENCIES.length];
+        var present = new boolean[CURRENCIES.length];
+        for (var i = 0; i < size; i++) {
+            var ordinal = currencies[i];
+            totals[ordinal] = Math.addExact(totals[ordinal], minorUnits[i]);
+            present[ordinal] = true;
+        }
+        var grouped = new EnumMap<Currency, FastMoney>(Currency.class);
+        for (var ordinal = 0; ordinal < CURRENCIES.length; ordinal++) {
+            if (present[ordinal]) {
+                var currency = CURRENCIES[ordinal];
+                grouped.put(currency, FastMoney.ofMinorUnits(totals[ordinal], currency));
+            }
+        }
+        return grouped;
+    }
+
+    private void grow() {
+        var newCapacity = Math.max(DEFAULT_CAPACITY, minorUnits.length * 2);
+        minorUnits = Arrays.copyOf(minorUnits, newCapacity);
+        currencies = Arrays.copyOf(currencies, newCapacity);
+    }
+}
@@ -3,6 +3,7 @@ package dev.codetoreason.patterns.tactical.money;
 import dev.codetoreason.patterns.tactical.quantity.Quantity;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import static java.math.BigDecimal.ZERO;
 
@@ -23,6 +24,10 @@ import static java.math.BigDecimal.ZERO;
  */
 public record Price(BigDecimal amount, Currency currency) {
 
+    private static final Price[] ZEROS = Arrays.stream(Currency.values())
+                                               .map(currency -> new Price(ZERO, currency))
+                                               .toArray(Price[]::new);
+
     /**
      * Constructs a {@code Price} instance with the given amount and currency.
      * Validates that amount is non-null, non-negative, and normalizes it
@@ -44,13 +49,19 @@ public record Price(BigDecimal amount, Currency currency) {
     }
 
     /**
-     * Creates a zero price in the given currency.
+     * Returns a zero price in the given currency.
+     * <p>
+     * Zero prices are cached per currency, so this method does not allocate.
      *
      * @param currency the currency (must not be null)
      * @return a Price object with value 0 and the given currency
+     * @throws IllegalArgumentException if {@code currency} is {@code null}
      */
     public static Price zero(Currency currency) {
-        return new Price(ZERO, currency);
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency must not be null");
+        }
+        return ZEROS[currency.ordinal()];
     }
 
     /**
@@ -103,4 +114,24 @@ public record Price(BigDecimal amount, Currency currency) {
                 currency
         );
     }
+
+    /**
+     * Multiplies this price by the given quantity, returning the total cost as {@link FastMoney}.
+     * <p>
+     * This is the fixed-point counterpart of {@link #multiply(Quantity)}, intended for bulk calculations
+     * where the total is further summed up in minor units.
+     *
+     * @param quantity the quantity of items or units (must not be null and must be ≥ 0)
+     * @return a {@code FastMoney} object representing the total value
+     * @throws IllegalArgumentException if {@code quantity} is null,
+     *                                  or this price cannot be represented exactly in minor units
+     * @throws ArithmeticException      if the total overflows a {@code long} number of minor units
+     */
+    public FastMoney multiplyFast(Quantity quantity) {
+        if (quantity == null) {
+            throw new IllegalArgumentException("Quantity must not be null");
+        }
+        return FastMoney.of(amount, currency)
+                        .multiply(quantity);
+    }
 }
@@ -0,0 +1,75 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded, thread-safe pool of canonical {@link Price} instances.
+ * <p>
+ * Large catalogs tend to repeat the same handful of prices across many products. Interning them
+ * lets all equal prices share a single instance instead of keeping thousands of identical records on the heap.
+ * <p>
+ * Once the pool reaches its maximum size, new prices are returned as they are, without being pooled,
+ * so a catalog with unexpectedly many distinct prices cannot make the pool grow unbounded.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * PriceInterner interner = PriceInterner.withMaximumSize(10_000);
+ * Price price = interner.intern(Price.of(new BigDecimal("9.99"), PLN));
+ * }</pre>
+ */
+public final class PriceInterner {
+
+    private final ConcurrentMap<Price, Price> pool = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    private PriceInterner(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Creates an empty pool holding at most the given number of distinct prices.
+     *
+     * @param maximumSize the maximum number of pooled prices (must be positive)
+     * @return a new {@code PriceInterner}
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public static PriceInterner withMaximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        return new PriceInterner(maximumSize);
+    }
+
+    /**
+     * Returns the canonical instance equal to the given price.
+     *
+     * @param price the price to intern (must not be null)
+     * @return the pooled instance equal to {@code price}, or {@code price} itself if it is the first one
+     * or the pool is full
+     * @throws IllegalArgumentException if {@code price} is null
+     */
+    public Price intern(Price price) {
+        if (price == null) {
+            throw new IllegalArgumentException("Price must not be null");
+        }
+        var pooled = pool.get(price);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maximumSize) {
+            return price;
+        }
+        var previous = pool.putIfAbsent(price, price);
+        return previous != null ? previous : price;
+    }
+
+    /**
+     * Returns the number of pooled prices.
+     *
+     * @return the number of distinct prices held by this pool
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,222 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caching {@link TargetCurrencyRateProvider} decorator with time-bounded entries and refresh-ahead.
+ * <p>
+ * All rates of the source are captured at once into a {@link SnapshotRateProvider} and served from memory:
+ * <ul>
+ *     <li>while the snapshot is younger than {@code expireAfter - refreshAhead}, lookups never touch the source,</li>
+ *     <li>within the {@code refreshAhead} window, the first lookup triggers a single asynchronous refresh
+ *     and keeps being served from the current snapshot,</li>
+ *     <li>once the snapshot is older than {@code expireAfter}, the next lookup refreshes it synchronously.</li>
+ * </ul>
+ * A failed asynchronous refresh is not retried until the next lookup; if the source keeps failing,
+ * the failure surfaces to callers once the snapshot expires. A refresh rejected by the executor
+ * is attempted again on the next lookup in the window. A snapshot is only replaced by a newer one,
+ * so an asynchronous refresh completing after a synchronous one does not bring older rates back.
+ * <p>
+ * Lookups compare the age of the snapshot in epoch milliseconds, without allocating.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * TargetCurrencyRateProvider rates = RefreshAheadRateProvider.from(remoteRateProvider)
+ *                                                            .expireAfter(Duration.ofHours(1))
+ *                                                            .refreshAhead(Duration.ofMinutes(5))
+ *                                                            .build();
+ * }</pre>
+ */
+public final class RefreshAheadRateProvider implements TargetCurrencyRateProvider {
+
+    private final TargetCurrencyRateProvider source;
+    private final long expireAfterMillis;
+    private final long refreshAfterMillis;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile CachedRates cached;
+
+    private RefreshAheadRateProvider(
+            TargetCurrencyRateProvider source,
+            Duration expireAfter,
+            Duration refreshAhead,
+            Executor refreshExecutor,
+            Clock clock
+    ) {
+        this.source = source;
+        this.expireAfterMillis = expireAfter.toMillis();
+        this.refreshAfterMillis = expireAfter.minus(refreshAhead).toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.cached = capture();
+    }
+
+    /**
+     * Starts building a caching decorator of the given source.
+     *
+     * @param source the slow rate provider to cache (must not be null)
+     * @return a builder expecting the expiration settings
+     * @throws IllegalArgumentException if {@code source} is null
+     */
+    public static RefreshAheadRateProviderBuilder from(TargetCurrencyRateProvider source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Rate provider must not be null");
+        }
+        return new RefreshAheadRateProviderBuilder(source);
+    }
+
+    @Override
+    public BigDecimal factorFrom(Currency sourceCurrency) {
+        var rates = cached;
+        var age = clock.millis() - rates.capturedAtMillis();
+        if (age >= expireAfterMillis) {
+            rates = refreshExpired(rates);
+        } else if (age >= refreshAfterMillis) {
+            refreshAsynchronously();
+        }
+        return rates.snapshot()
+                    .factorFrom(sourceCurrency);
+    }
+
+    private synchronized CachedRates refreshExpired(CachedRates expired) {
+        if (cached != expired) {
+            return cached;
+        }
+        var refreshed = capture();
+        cached = refreshed;
+        return refreshed;
+    }
+
+    private void refreshAsynchronously() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    publishIfNewer(capture());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            throw e;
+        }
+    }
+
+    private synchronized void publishIfNewer(CachedRates refreshed) {
+        if (refreshed.capturedAtMillis() >= cached.capturedAtMillis()) {
+            cached = refreshed;
+        }
+    }
+
+    private CachedRates capture() {
+        var startedAtMillis = clock.millis();
+        return new CachedRates(
+                SnapshotRateProvider.capture(source),
+                startedAtMillis
+        );
+    }
+
+    private record CachedRates(SnapshotRateProvider snapshot, long capturedAtMillis) {
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link RefreshAheadRateProvider} instances.
+     */
+    public static final class RefreshAheadRateProviderBuilder {
+
+        private final TargetCurrencyRateProvider source;
+        private Duration expireAfter = Duration.ofHours(1);
+        private Duration refreshAhead = Duration.ZERO;
+        private Executor refreshExecutor = runnable -> Thread.ofVirtual().start(runnable);
+        private Clock clock = Clock.systemUTC();
+
+        private RefreshAheadRateProviderBuilder(TargetCurrencyRateProvider source) {
+            this.source = source;
+        }
+
+        /**
+         * Sets how long captured rates may be served. Defaults to one hour.
+         *
+         * @param expireAfter the time-to-live of captured rates (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code expireAfter} is null, zero or negative
+         */
+        public RefreshAheadRateProviderBuilder expireAfter(Duration expireAfter) {
+            if (expireAfter == null || expireAfter.isNegative() || expireAfter.isZero()) {
+                throw new IllegalArgumentException("Expiration must be positive");
+            }
+            this.expireAfter = expireAfter;
+            return this;
+        }
+
+        /**
+         * Sets how long before expiration an asynchronous refresh is triggered. Defaults to zero (no refresh-ahead).
+         *
+         * @param refreshAhead the refresh-ahead window (must be non-negative)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code refreshAhead} is null or negative
+         */
+        public RefreshAheadRateProviderBuilder refreshAhead(Duration refreshAhead) {
+            if (refreshAhead == null || refreshAhead.isNegative()) {
+                throw new IllegalArgumentException("Refresh-ahead window must not be negative");
+            }
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        /**
+         * Sets the executor running asynchronous refreshes. Defaults to a new virtual thread per refresh.
+         *
+         * @param refreshExecutor the executor (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code refreshExecutor} is null
+         */
+        public RefreshAheadRateProviderBuilder refreshOn(Executor refreshExecutor) {
+            if (refreshExecutor == null) {
+                throw new IllegalArgumentException("Executor must not be null");
+            }
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to measure the age of captured rates. Defaults to the system UTC clock.
+         *
+         * @param clock the clock (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code clock} is null
+         */
+        public RefreshAheadRateProviderBuilder withClock(Clock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("Clock must not be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Captures the initial rates and returns the caching provider.
+         *
+         * @return a ready-to-use {@link RefreshAheadRateProvider}
+         * @throws IllegalArgumentException if the refresh-ahead window is not shorter than the expiration
+         */
+        public RefreshAheadRateProvider build() {
+            if (refreshAhead.compareTo(expireAfter) >= 0) {
+                throw new IllegalArgumentException("Refresh-ahead window must be shorter than expiration");
+            }
+            return new RefreshAheadRateProvider(source, expireAfter, refreshAhead, refreshExecutor, clock);
+        }
+    }
+}
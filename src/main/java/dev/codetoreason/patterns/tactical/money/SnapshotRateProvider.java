@@ -0,0 +1,104 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable {@link TargetCurrencyRateProvider} holding a point-in-time snapshot of exchange rates.
+ * <p>
+ * Rates are kept in an {@link EnumMap}, so a lookup is an array access by {@link Currency#ordinal()}
+ * instead of a call to a (potentially slow, remote-backed) rate source.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * TargetCurrencyRateProvider rates = SnapshotRateProvider.capture(remoteRateProvider);
+ * Money total = order.calculateCost(PLN, rates);
+ * }</pre>
+ *
+ * @see SwappableRateProvider
+ * @see RefreshAheadRateProvider
+ */
+public final class SnapshotRateProvider implements TargetCurrencyRateProvider {
+
+    private final Map<Currency, BigDecimal> factors;
+
+    private SnapshotRateProvider(Map<Currency, BigDecimal> factors) {
+        this.factors = factors;
+    }
+
+    /**
+     * Creates a snapshot from the given conversion factors.
+     *
+     * @param factors conversion factors keyed by source currency (must not be null or contain null values)
+     * @return a new {@code SnapshotRateProvider}
+     * @throws IllegalArgumentException if {@code factors} is null or contains null keys or values
+     */
+    public static SnapshotRateProvider of(Map<Currency, BigDecimal> factors) {
+        if (factors == null) {
+            throw new IllegalArgumentException("Factors must not be null");
+        }
+        var copy = new EnumMap<Currency, BigDecimal>(Currency.class);
+        factors.forEach((currency, factor) -> {
+            if (currency == null || factor == null) {
+                throw new IllegalArgumentException("Each currency and factor must be non-null");
+            }
+            copy.put(currency, factor);
+        });
+        return new SnapshotRateProvider(Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Captures the current rates of the given provider for every supported {@link Currency}.
+     * <p>
+     * The source is asked exactly once per currency. Currencies the source does not support
+     * (it throws {@link IllegalArgumentException} or returns {@code null}) are left out of the snapshot.
+     *
+     * @param source the provider to take the rates from (must not be null)
+     * @return a new {@code SnapshotRateProvider}
+     * @throws IllegalArgumentException if {@code source} is null
+     */
+    public static SnapshotRateProvider capture(TargetCurrencyRateProvider source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Rate provider must not be null");
+        }
+        var factors = new EnumMap<Currency, BigDecimal>(Currency.class);
+        for (var currency : Currency.values()) {
+            try {
+                var factor = source.factorFrom(currency);
+                if (factor != null) {
+                    factors.put(currency, factor);
+                }
+            } catch (IllegalArgumentException unsupported) {
+                // the source does not support this currency, so neither does the snapshot
+            }
+        }
+        return new SnapshotRateProvider(Collections.unmodifiableMap(factors));
+    }
+
+    /**
+     * Returns the captured conversion factor for the given source currency.
+     *
+     * @param sourceCurrency the currency to convert from
+     * @return the multiplication factor
+     * @throws IllegalArgumentException if the snapshot holds no rate for the currency
+     */
+    @Override
+    public BigDecimal factorFrom(Currency sourceCurrency) {
+        var factor = factors.get(sourceCurrency);
+        if (factor == null) {
+            throw new IllegalArgumentException("No exchange rate captured for " + sourceCurrency);
+        }
+        return factor;
+    }
+
+    /**
+     * Returns the captured conversion factors.
+     *
+     * @return an unmodifiable view of the factors keyed by source currency
+     */
+    public Map<Currency, BigDecimal> factors() {
+        return factors;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.codetoreason.patterns.tactical.money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe {@link TargetCurrencyRateProvider} whose rates can be replaced atomically at runtime.
+ * <p>
+ * Lookups read the current {@link SnapshotRateProvider} without any locking, while a background job
+ * publishes new rates with {@link #swap(SnapshotRateProvider)} or {@link #refreshFrom(TargetCurrencyRateProvider)}.
+ * A single conversion always sees a consistent set of rates.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * SwappableRateProvider rates = SwappableRateProvider.initializedWith(SnapshotRateProvider.capture(remote));
+ * scheduler.scheduleAtFixedRate(() -> rates.refreshFrom(remote), 1, 1, HOURS);
+ * }</pre>
+ */
+public final class SwappableRateProvider implements TargetCurrencyRateProvider {
+
+    private final AtomicReference<SnapshotRateProvider> current;
+
+    private SwappableRateProvider(SnapshotRateProvider initial) {
+        this.current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Creates a provider serving the given snapshot until it is swapped.
+     *
+     * @param initial the initial rates (must not be null)
+     * @return a new {@code SwappableRateProvider}
+     * @throws IllegalArgumentException if {@code initial} is null
+     */
+    public static SwappableRateProvider initializedWith(SnapshotRateProvider initial) {
+        if (initial == null) {
+            throw new IllegalArgumentException("Snapshot must not be null");
+        }
+        return new SwappableRateProvider(initial);
+    }
+
+    /**
+     * Atomically replaces the served rates.
+     *
+     * @param snapshot the new rates (must not be null)
+     * @return the previously served rates
+     * @throws IllegalArgumentException if {@code snapshot} is null
+     */
+    public SnapshotRateProvider swap(SnapshotRateProvider snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot must not be null");
+        }
+        return current.getAndSet(snapshot);
+    }
+
+    /**
+     * Captures the current rates of the given source and atomically starts serving them.
+     *
+     * @param source the provider to take the rates from (must not be null)
+     * @return the previously served rates
+     * @throws IllegalArgumentException if {@code source} is null
+     */
+    public SnapshotRateProvider refreshFrom(TargetCurrencyRateProvider source) {
+        return swap(SnapshotRateProvider.capture(source));
+    }
+
+    /**
+     * Returns the currently served rates.
+     *
+     * @return the current snapshot
+     */
+    public SnapshotRateProvider snapshot() {
+        return current.get();
+    }
+
+    @Override
+    public BigDecimal factorFrom(Currency sourceCurrency) {
+        return current.get()
+                      .factorFrom(sourceCurrency);
+    }
+}
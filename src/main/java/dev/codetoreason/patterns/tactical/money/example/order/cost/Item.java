@@ -1,5 +1,6 @@
 package dev.codetoreason.patterns.tactical.money.example.order.cost;
 
+import dev.codetoreason.patterns.tactical.money.FastMoney;
 import dev.codetoreason.patterns.tactical.money.Money;
 import dev.codetoreason.patterns.tactical.money.Price;
 import dev.codetoreason.patterns.tactical.quantity.Quantity;
@@ -13,4 +14,8 @@ record Item(
     Money calculateCost() {
         return price.multiply(quantity);
     }
+
+    FastMoney calculateFastCost() {
+        return price.multiplyFast(quantity);
+    }
 }
@@ -1,7 +1,9 @@
 package dev.codetoreason.patterns.tactical.money.example.order.cost;
 
 import dev.codetoreason.patterns.tactical.money.Currency;
+import dev.codetoreason.patterns.tactical.money.FastMoney;
 import dev.codetoreason.patterns.tactical.money.Money;
+import dev.codetoreason.patterns.tactical.money.MoneyVector;
 import dev.codetoreason.patterns.tactical.money.TargetCurrencyRateProvider;
 
 import java.util.Collection;
@@ -21,4 +23,17 @@ record Order(Collection<Item> items) {
                     .map(money -> money.convertTo(currency, rateProvider))
                     .reduce(Money.zero(currency), Money::add);
     }
+
+    FastMoney calculateFastCost(Currency currency) {
+        return items.stream()
+                    .map(Item::calculateFastCost)
+                    .filter(money -> money.matchesCurrency(currency))
+                    .reduce(FastMoney.zero(currency), FastMoney::add);
+    }
+
+    Money calculateCostInBulk(Currency currency, TargetCurrencyRateProvider rateProvider) {
+        var costs = MoneyVector.withCapacity(items.size());
+        items.forEach(item -> costs.append(item.calculateFastCost()));
+        return costs.sumConverted(currency, rateProvider);
+    }
 }
@@ -1,5 +1,7 @@
 package dev.codetoreason.patterns.tactical.quantity;
 
+import java.util.stream.IntStream;
+
 /**
  * Represents a non-negative quantity of items, used to express stock levels, order sizes,
  * and other discrete measurable amounts in the system.
@@ -33,6 +35,11 @@ public record Quantity(int value) {
      */
     public static final Quantity ZERO = new Quantity(0);
 
+    private static final int CACHE_HIGH = 1024;
+    private static final Quantity[] CACHE = IntStream.rangeClosed(0, CACHE_HIGH)
+                                                     .mapToObj(value -> value == 0 ? ZERO : new Quantity(value))
+                                                     .toArray(Quantity[]::new);
+
     /**
      * Creates a new quantity with the given value.
      *
@@ -46,13 +53,18 @@ public record Quantity(int value) {
     }
 
     /**
-     * Creates a new {@code Quantity} instance from the given value.
+     * Returns a {@code Quantity} instance for the given value.
+     * <p>
+     * Small quantities (from 0 to 1024) are cached, so requesting them does not allocate.
      *
      * @param value number of units
      * @return a validated {@code Quantity}
      * @throws IllegalArgumentException if {@code value} is negative
      */
     public static Quantity of(int value) {
+        if (value >= 0 && value <= CACHE_HIGH) {
+            return CACHE[value];
+        }
         return new Quantity(value);
     }
 
@@ -1,6 +1,7 @@
 package dev.codetoreason.patterns.tactical.result;
 
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
 
 /**
  * Represents the result of an operation that does not produce a return value.
@@ -8,38 +9,34 @@ import java.util.Objects;
  * This is a tactical pattern used to replace traditional exception-based control flow
  * for operations where the outcome is either success or failure, and only a descriptive message is needed.
  * <p>
- * This class is immutable, null-safe, and semantically explicit.
+ * An {@code OperationResult} is either a {@link Success}, carrying nothing, or a {@link Failure},
+ * carrying the reason of the failure. The hierarchy is sealed, so results can be dispatched
+ * with an exhaustive {@code switch}:
+ * <pre>{@code
+ * switch (validator.validate(profile)) {
+ *     case OperationResult.Success _ -> approve(profile);
+ *     case OperationResult.Failure failure -> log.info(failure.message());
+ * }
+ * }</pre>
+ * With just two final implementations, call sites see at most two receiver types,
+ * and {@link #isSuccess()} and {@link #isFailure()} are plain type checks.
+ * <p>
+ * Results are immutable, null-safe, and semantically explicit.
  * Use {@link #successful()} for success, and {@link #failed(String)} for failure cases.
+ * <p>
+ * Failures created with {@link #failed(String, Object...)} keep the template and its arguments,
+ * and render the message only when {@link Failure#message()} is called. Callers checking just
+ * {@link #isFailure()} never pay for formatting. Fixed failure messages can be preallocated as constants.
  */
-public class OperationResult {
-
-    private final boolean isSuccess;
-    private final String message;
-
-    private static final OperationResult SUCCESSFUL = new OperationResult(true, "OK");
-
-    /**
-     * Private constructor to enforce usage of static factory methods.
-     *
-     * @param isSuccess whether the operation succeeded
-     * @param message   the descriptive message (must not be null or blank)
-     * @throws IllegalArgumentException if message is null or blank
-     */
-    private OperationResult(boolean isSuccess, String message) {
-        if (message == null || message.isBlank()) {
-            throw new IllegalArgumentException("Message cannot be null or empty");
-        }
-        this.isSuccess = isSuccess;
-        this.message = message;
-    }
+public sealed interface OperationResult permits OperationResult.Success, OperationResult.Failure {
 
     /**
      * Returns the singleton instance representing a successful result.
      *
      * @return an {@code OperationResult} indicating success
      */
-    public static OperationResult successful() {
-        return SUCCESSFUL;
+    static OperationResult successful() {
+        return Success.INSTANCE;
     }
 
     /**
@@ -49,20 +46,26 @@ public class OperationResult {
      * @return a new {@code OperationResult} representing failure
      * @throws IllegalArgumentException if message is null or blank
      */
-    public static OperationResult failed(String message) {
-        return new OperationResult(false, message);
+    static OperationResult failed(String message) {
+        return new Failure(message, null);
     }
 
     /**
      * Creates a new failure result with a formatted message.
+     * <p>
+     * The template and the arguments are kept as given and formatted only when {@link Failure#message()} is called,
+     * so creating the failure neither scans the template nor copies the arguments. As a consequence, a template
+     * not matching its arguments fails only when the message is read, and the arguments are rendered in their state
+     * at that moment, so neither the array nor mutable arguments should be changed in between.
+     * Failures are compared by template and arguments, so comparing and hashing them never formats anything.
      *
      * @param messageTemplate a format string (e.g. "Error: %s")
      * @param args            arguments to fill into the format string
      * @return a new {@code OperationResult} representing failure
-     * @throws IllegalArgumentException if the resulting message is null or blank
+     * @throws IllegalArgumentException if the template is null or blank
      */
-    public static OperationResult failed(String messageTemplate, Object... args) {
-        return failed(messageTemplate.formatted(args));
+    static OperationResult failed(String messageTemplate, Object... args) {
+        return new Failure(messageTemplate, args != null ? args : new Object[0]);
     }
 
     /**
@@ -70,8 +73,8 @@ public class OperationResult {
      *
      * @return {@code true} if the result is success; {@code false} otherwise
      */
-    public boolean isSuccess() {
-        return isSuccess;
+    default boolean isSuccess() {
+        return this instanceof Success;
     }
 
     /**
@@ -79,41 +82,90 @@ public class OperationResult {
      *
      * @return {@code true} if the result is failure; {@code false} otherwise
      */
-    public boolean isFailure() {
-        return !isSuccess;
+    default boolean isFailure() {
+        return this instanceof Failure;
     }
 
     /**
-     * Returns the message associated with this result.
-     * For success, this is typically "OK".
-     * For failure, this should describe the reason for failure.
-     *
-     * @return the message (never null or blank)
+     * Successful result. It carries no message; use {@link #successful()} to obtain the shared instance.
      */
-    public String message() {
-        return message;
-    }
+    record Success() implements OperationResult {
 
-    @Override
-    public boolean equals(Object o) {
-        if (!(o instanceof OperationResult that)) return false;
-        return isSuccess == that.isSuccess && Objects.equals(message, that.message);
-    }
+        private static final Success INSTANCE = new Success();
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(isSuccess, message);
+        /**
+         * Returns a human-readable representation of the result.
+         * Example: {@code OperationResult{isSuccess=true}}
+         */
+        @Override
+        public String toString() {
+            return "OperationResult{isSuccess=true}";
+        }
     }
 
     /**
-     * Returns a human-readable representation of the result.
-     * Example: {@code OperationResult{isSuccess=false, message='Validation error'}}
+     * Failed result, holding the reason of the failure as a message or as a template with its arguments.
+     *
+     * @param messageTemplate the message, or the format string of the message if arguments are present
+     *                        (never null or blank)
+     * @param messageArgs     the arguments to fill into the template, or {@code null} for a plain message
      */
-    @Override
-    public String toString() {
-        return "OperationResult{" +
-                "isSuccess=" + isSuccess +
-                ", message='" + message + '\'' +
-                '}';
+    record Failure(String messageTemplate, Object[] messageArgs) implements OperationResult {
+
+        /**
+         * @throws IllegalArgumentException if the message template is null or blank
+         */
+        public Failure {
+            if (messageTemplate == null || messageTemplate.isBlank()) {
+                throw new IllegalArgumentException("Message cannot be null or empty");
+            }
+        }
+
+        /**
+         * Returns the reason of the failure.
+         * <p>
+         * A templated message is formatted on every call, so callers reading it repeatedly should keep it.
+         *
+         * @return the message (never null)
+         * @throws java.util.IllegalFormatException if the template does not match its arguments
+         */
+        public String message() {
+            return messageArgs != null ? messageTemplate.formatted(messageArgs) : messageTemplate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Failure that)) return false;
+            return messageTemplate.equals(that.messageTemplate) && Arrays.equals(messageArgs, that.messageArgs);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * messageTemplate.hashCode() + Arrays.hashCode(messageArgs);
+        }
+
+        /**
+         * Returns a human-readable representation of the result.
+         * Example: {@code OperationResult{isSuccess=false, message='Validation error'}}
+         */
+        @Override
+        public String toString() {
+            return "OperationResult{" +
+                    "isSuccess=false" +
+                    ", message='" + messageOrTemplate() + '\'' +
+                    '}';
+        }
+
+        /**
+         * Renders the message for {@link #toString()}, falling back to the template and its arguments
+         * if they do not match, so that logging a failure never throws.
+         */
+        private String messageOrTemplate() {
+            try {
+                return message();
+            } catch (IllegalFormatException e) {
+                return messageTemplate + " " + Arrays.toString(messageArgs);
+            }
+        }
     }
 }
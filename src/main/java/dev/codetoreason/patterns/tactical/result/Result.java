@@ -1,7 +1,10 @@
 package dev.codetoreason.patterns.tactical.result;
 
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Represents the outcome of an operation that returns a value upon success, or a descriptive message upon failure.
@@ -11,57 +14,57 @@ import java.util.Optional;
  * <p>
  * A {@code Result<T>} is either:
  * <ul>
- *     <li>{@code success}, holding a non-null {@code value}, and a default message "OK"</li>
- *     <li>{@code failure}, holding a {@code null} value, and a descriptive message of the error</li>
+ *     <li>a {@link Success}, holding a non-null {@code value} and no message</li>
+ *     <li>a {@link Failure}, holding no value and a descriptive message of the error</li>
  * </ul>
+ * The hierarchy is sealed, so results can be dispatched with an exhaustive {@code switch}:
+ * <pre>{@code
+ * String description = switch (warehouseSelector.selectFor(order)) {
+ *     case Result.Success<Warehouse>(var warehouse) -> "Shipped from " + warehouse.id();
+ *     case Result.Failure<Warehouse> failure -> "Rejected: " + failure.message();
+ * };
+ * }</pre>
+ * With just two final implementations, call sites see at most two receiver types,
+ * and {@link #isSuccess()} and {@link #isFailure()} are plain type checks.
  *
- * <p>This class is:
+ * <p>Results are:
  * <ul>
  *     <li>Immutable</li>
- *     <li>Null-safe (validated via constructor)</li>
+ *     <li>Null-safe (validated on creation)</li>
  *     <li>Semantically explicit</li>
  *     <li>Aligned with the principle of Business-Oriented Programming</li>
  * </ul>
  *
+ * <p>Failures created with {@link #failed(String, Object...)} render their message lazily,
+ * the same way {@link OperationResult} does.
+ *
+ * <p>Results can be chained with {@link #map}, {@link #flatMap}, {@link #zip}, {@link #recover}
+ * and consumed with {@link #fold}, without unwrapping the value through {@link Optional}.
+ * Along a chain of failures, the very same failed instance is passed through instead of being reallocated:
+ * <pre>{@code
+ * Event event = warehouseSelector.selectFor(order)
+ *                                .map(warehouse -> dispatch(order, warehouse))
+ *                                .fold(
+ *                                        shipment -> new OrderFulfilledEvent(...),
+ *                                        reason -> new OrderRejectedEvent(order.id(), reason)
+ *                                );
+ * }</pre>
+ *
  * @param <T> the type of the value returned on success
  * @see dev.codetoreason.patterns.tactical.result.OperationResult for operations that do not return a value
  */
-public class Result<T> {
-
-    private final T value;
-    private final String message;
-
-    /**
-     * Creates a new {@code Result<T>} with the given value and message.
-     * <p>
-     * Private to enforce use of static factory methods.
-     *
-     * @param value   the value (can be {@code null} in failure case)
-     * @param message the message (never null or blank)
-     * @throws IllegalArgumentException if the message is null or blank
-     */
-    private Result(T value, String message) {
-        if (message == null || message.isBlank()) {
-            throw new IllegalArgumentException("Message cannot be null or empty");
-        }
-        this.value = value;
-        this.message = message;
-    }
+public sealed interface Result<T> permits Result.Success, Result.Failure {
 
     /**
      * Creates a successful result with the provided non-null value.
-     * The message is set to "OK".
      *
      * @param value the non-null value to return
      * @param <T>   the type of the value
      * @return a {@code Result<T>} indicating success
      * @throws IllegalArgumentException if the value is null
      */
-    public static <T> Result<T> successful(T value) {
-        if (value == null) {
-            throw new IllegalArgumentException("Value cannot be null for successful result");
-        }
-        return new Result<>(value, "OK");
+    static <T> Result<T> successful(T value) {
+        return new Success<>(value);
     }
 
     /**
@@ -72,21 +75,27 @@ public class Result<T> {
      * @return a {@code Result<T>} indicating failure
      * @throws IllegalArgumentException if the message is null or blank
      */
-    public static <T> Result<T> failed(String message) {
-        return new Result<>(null, message);
+    static <T> Result<T> failed(String message) {
+        return new Failure<>(message, null);
     }
 
     /**
      * Creates a failed result with a formatted message.
+     * <p>
+     * The template and the arguments are kept as given and formatted only when {@link Failure#message()} is called,
+     * so creating the failure neither scans the template nor copies the arguments. As a consequence, a template
+     * not matching its arguments fails only when the message is read, and the arguments are rendered in their state
+     * at that moment, so neither the array nor mutable arguments should be changed in between.
+     * Failures are compared by template and arguments, so comparing and hashing them never formats anything.
      *
      * @param messageTemplate a format string (e.g. "Invalid input: %s")
      * @param args            arguments to fill into the format string
      * @param <T>             the result type (will hold no value)
      * @return a {@code Result<T>} indicating failure
-     * @throws IllegalArgumentException if the resulting message is null or blank
+     * @throws IllegalArgumentException if the template is null or blank
      */
-    public static <T> Result<T> failed(String messageTemplate, Object... args) {
-        return failed(messageTemplate.formatted(args));
+    static <T> Result<T> failed(String messageTemplate, Object... args) {
+        return new Failure<>(messageTemplate, args != null ? args : new Object[0]);
     }
 
     /**
@@ -96,67 +105,236 @@ public class Result<T> {
      *
      * @return an {@link Optional} containing the value, or empty if failure
      */
-    public Optional<T> value() {
-        return Optional.ofNullable(value);
+    default Optional<T> toOptional() {
+        return switch (this) {
+            case Success<T>(var value) -> Optional.of(value);
+            case Failure<T> _ -> Optional.empty();
+        };
     }
 
     /**
      * Indicates whether the result is a success.
      *
-     * @return {@code true} if the result has a non-null value
+     * @return {@code true} if the result holds a value
      */
-    public boolean isSuccess() {
-        return value != null;
+    default boolean isSuccess() {
+        return this instanceof Success;
     }
 
     /**
      * Indicates whether the result is a failure.
      *
-     * @return {@code true} if the result has a null value
+     * @return {@code true} if the result holds a message of the error
      */
-    public boolean isFailure() {
-        return !isSuccess();
+    default boolean isFailure() {
+        return this instanceof Failure;
     }
 
     /**
-     * Returns the descriptive message associated with this result.
+     * Transforms the value of a successful result.
      * <p>
-     * For success, this is typically "OK".
-     * For failure, this is the reason for failure.
+     * A failure is returned as it is, without calling the mapper.
      *
-     * @return a non-null, non-blank message
+     * @param mapper the function applied to the value (must not be null and must not return null)
+     * @param <U>    the type of the transformed value
+     * @return a successful result holding the mapped value, or this failure
+     * @throws IllegalArgumentException if the mapper is null or returns null
      */
-    public String message() {
-        return message;
+    default <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("Mapper must not be null");
+        }
+        return switch (this) {
+            case Success<T>(var value) -> successful(mapper.apply(value));
+            case Failure<T> failure -> failure.cast();
+        };
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (!(o instanceof Result<?> result)) return false;
-        return Objects.equals(value, result.value) && Objects.equals(message, result.message);
+    /**
+     * Chains another operation producing a {@code Result} on the value of a successful result.
+     * <p>
+     * A failure is returned as it is, without calling the mapper.
+     *
+     * @param mapper the operation applied to the value (must not be null and must not return null)
+     * @param <U>    the type of the value of the chained result
+     * @return the result of the chained operation, or this failure
+     * @throws IllegalArgumentException if the mapper is null or returns null
+     */
+    default <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("Mapper must not be null");
+        }
+        return switch (this) {
+            case Success<T>(var value) -> {
+                var result = mapper.apply(value);
+                if (result == null) {
+                    throw new IllegalArgumentException("Mapper must not return null");
+                }
+                yield result;
+            }
+            case Failure<T> failure -> failure.cast();
+        };
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(value, message);
+    /**
+     * Reduces this result to a single value, handling both success and failure.
+     *
+     * @param onSuccess the function applied to the value of a success (must not be null)
+     * @param onFailure the function applied to the message of a failure (must not be null)
+     * @param <R>       the type of the outcome
+     * @return the outcome of the function matching this result
+     * @throws IllegalArgumentException if any function is null
+     */
+    default <R> R fold(Function<? super T, ? extends R> onSuccess, Function<String, ? extends R> onFailure) {
+        if (onSuccess == null || onFailure == null) {
+            throw new IllegalArgumentException("Both success and failure functions must be non-null");
+        }
+        return switch (this) {
+            case Success<T>(var value) -> onSuccess.apply(value);
+            case Failure<T> failure -> onFailure.apply(failure.message());
+        };
     }
 
     /**
-     * Returns a readable string representation of this result, useful for logging and debugging.
-     * Example:
-     * <pre>
-     * Result{result=SUCCESS, value=User123, message='OK'}
-     * Result{result=FAILURE, value=null, message='Validation error'}
-     * </pre>
+     * Turns a failure into a success with a fallback value computed from the failure message.
+     * <p>
+     * A success is returned as it is, without calling the recovery function.
+     *
+     * @param recovery the function computing the fallback value (must not be null and must not return null)
+     * @return this success, or a successful result holding the fallback value
+     * @throws IllegalArgumentException if the recovery function is null or returns null
+     */
+    default Result<T> recover(Function<String, ? extends T> recovery) {
+        if (recovery == null) {
+            throw new IllegalArgumentException("Recovery function must not be null");
+        }
+        return switch (this) {
+            case Success<T> success -> success;
+            case Failure<T> failure -> successful(recovery.apply(failure.message()));
+        };
+    }
+
+    /**
+     * Combines the values of this and another successful result.
+     * <p>
+     * If any of the results is a failure, the first failure (this one, then the other one) is returned as it is.
      *
-     * @return a formatted string describing the result
+     * @param other    the result to combine with (must not be null)
+     * @param combiner the function combining both values (must not be null and must not return null)
+     * @param <U>      the type of the value of the other result
+     * @param <R>      the type of the combined value
+     * @return a successful result holding the combined value, or the first failure
+     * @throws IllegalArgumentException if any argument is null or the combiner returns null
      */
-    @Override
-    public String toString() {
-        return "Result{" +
-                "result=" + (isSuccess() ? "SUCCESS" : "FAILURE") + ", " +
-                "value=" + (value != null ? value.toString() : "null") + ", " +
-                "message='" + message + '\'' +
-                '}';
+    default <U, R> Result<R> zip(Result<U> other, BiFunction<? super T, ? super U, ? extends R> combiner) {
+        if (other == null || combiner == null) {
+            throw new IllegalArgumentException("Other result and combiner must be non-null");
+        }
+        return switch (this) {
+            case Failure<T> failure -> failure.cast();
+            case Success<T>(var value) -> switch (other) {
+                case Failure<U> failure -> failure.cast();
+                case Success<U>(var otherValue) -> successful(combiner.apply(value, otherValue));
+            };
+        };
+    }
+
+    /**
+     * Successful result, holding the value of the operation.
+     *
+     * @param value the value (never null)
+     * @param <T>   the type of the value
+     */
+    record Success<T>(T value) implements Result<T> {
+
+        /**
+         * @throws IllegalArgumentException if the value is null
+         */
+        public Success {
+            if (value == null) {
+                throw new IllegalArgumentException("Value cannot be null for successful result");
+            }
+        }
+
+        /**
+         * Returns a readable string representation of this result, useful for logging and debugging.
+         * Example: {@code Result{result=SUCCESS, value=User123}}
+         */
+        @Override
+        public String toString() {
+            return "Result{result=SUCCESS, value=" + value + '}';
+        }
+    }
+
+    /**
+     * Failed result, holding the reason of the failure as a message or as a template with its arguments.
+     *
+     * @param messageTemplate the message, or the format string of the message if arguments are present
+     *                        (never null or blank)
+     * @param messageArgs     the arguments to fill into the template, or {@code null} for a plain message
+     * @param <T>             the type of the value the operation would have returned
+     */
+    record Failure<T>(String messageTemplate, Object[] messageArgs) implements Result<T> {
+
+        /**
+         * @throws IllegalArgumentException if the message template is null or blank
+         */
+        public Failure {
+            if (messageTemplate == null || messageTemplate.isBlank()) {
+                throw new IllegalArgumentException("Message cannot be null or empty");
+            }
+        }
+
+        /**
+         * Returns the reason of the failure.
+         * <p>
+         * A templated message is formatted on every call, so callers reading it repeatedly should keep it.
+         *
+         * @return a non-null message
+         * @throws java.util.IllegalFormatException if the template does not match its arguments
+         */
+        public String message() {
+            return messageArgs != null ? messageTemplate.formatted(messageArgs) : messageTemplate;
+        }
+
+        /**
+         * Reuses this failed instance as a failure of any type, since a failure holds no value.
+         */
+        @SuppressWarnings("unchecked")
+        <U> Result<U> cast() {
+            return (Result<U>) this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Failure<?> that)) return false;
+            return messageTemplate.equals(that.messageTemplate) && Arrays.equals(messageArgs, that.messageArgs);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * messageTemplate.hashCode() + Arrays.hashCode(messageArgs);
+        }
+
+        /**
+         * Returns a readable string representation of this result, useful for logging and debugging.
+         * Example: {@code Result{result=FAILURE, message='Validation error'}}
+         */
+        @Override
+        public String toString() {
+            return "Result{result=FAILURE, message='" + messageOrTemplate() + "'}";
+        }
+
+        /**
+         * Renders the message for {@link #toString()}, falling back to the template and its arguments
+         * if they do not match, so that logging a failure never throws.
+         */
+        private String messageOrTemplate() {
+            try {
+                return message();
+            } catch (IllegalFormatException e) {
+                return messageTemplate + " " + Arrays.toString(messageArgs);
+            }
+        }
     }
 }
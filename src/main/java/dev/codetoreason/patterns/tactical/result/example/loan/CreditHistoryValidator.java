@@ -6,17 +6,21 @@ class CreditHistoryValidator implements ApplicantValidator {
 
     private static final int MAX_ALLOWED_MISSED_PAYMENTS = 2;
 
+    private static final OperationResult RECENT_BANKRUPTCY = OperationResult.failed("Applicant declared bankruptcy recently");
+    private static final OperationResult ACTIVE_COLLECTION_CASES = OperationResult.failed("Applicant has active debt collection cases");
+    private static final OperationResult TOO_MANY_MISSED_PAYMENTS = OperationResult.failed("More than 2 missed payments in the last 12 months");
+
     @Override
     public OperationResult validate(ApplicantProfile profile) {
         var history = profile.creditHistory();
         if (history.hasRecentBankruptcy()) {
-            return OperationResult.failed("Applicant declared bankruptcy recently");
+            return RECENT_BANKRUPTCY;
         }
         if (history.hasActiveCollectionCases()) {
-            return OperationResult.failed("Applicant has active debt collection cases");
+            return ACTIVE_COLLECTION_CASES;
         }
         if (history.missedPaymentsLast12Months() > MAX_ALLOWED_MISSED_PAYMENTS) {
-            return OperationResult.failed("More than 2 missed payments in the last 12 months");
+            return TOO_MANY_MISSED_PAYMENTS;
         }
         return OperationResult.successful();
     }
@@ -9,17 +9,21 @@ class DebtBurdenValidator implements ApplicantValidator {
     private static final BigDecimal MAX_TOTAL_DEBT = new BigDecimal("10000"); // np. 10 000 PLN
     private static final int MAX_NUMBER_OF_ACTIVE_LOANS = 5;
 
+    private static final OperationResult EXCESSIVE_MONTHLY_DEBT = OperationResult.failed("Total monthly debt exceeds safe threshold");
+    private static final OperationResult OVERDUE_INSTALLMENTS = OperationResult.failed("Applicant has overdue loan installments");
+    private static final OperationResult TOO_MANY_ACTIVE_LOANS = OperationResult.failed("Too many active loans");
+
     @Override
     public OperationResult validate(ApplicantProfile profile) {
         var debt = profile.debtProfile();
         if (debt.totalMonthlyDebt().compareTo(MAX_TOTAL_DEBT) > 0) {
-            return OperationResult.failed("Total monthly debt exceeds safe threshold");
+            return EXCESSIVE_MONTHLY_DEBT;
         }
         if (debt.hasOverdueInstallments()) {
-            return OperationResult.failed("Applicant has overdue loan installments");
+            return OVERDUE_INSTALLMENTS;
         }
         if (debt.numberOfActiveLoans() > MAX_NUMBER_OF_ACTIVE_LOANS) {
-            return OperationResult.failed("Too many active loans");
+            return TOO_MANY_ACTIVE_LOANS;
         }
         return OperationResult.successful();
     }
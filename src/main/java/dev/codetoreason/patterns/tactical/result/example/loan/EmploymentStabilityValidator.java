@@ -9,17 +9,21 @@ class EmploymentStabilityValidator implements ApplicantValidator {
     private static final int MINIMUM_MONTHS_EMPLOYED = 12;
     private static final BigDecimal MINIMUM_AVERAGE_INCOME = BigDecimal.valueOf(2000);
 
+    private static final OperationResult TOO_SHORT_WORK_HISTORY = OperationResult.failed("Less than 12 months of work history");
+    private static final OperationResult NOT_EMPLOYED = OperationResult.failed("Applicant is not currently employed");
+    private static final OperationResult INSUFFICIENT_INCOME = OperationResult.failed("Average income below minimum threshold");
+
     @Override
     public OperationResult validate(ApplicantProfile profile) {
         var history = profile.employmentHistory();
         if (history.monthsEmployed() < MINIMUM_MONTHS_EMPLOYED) {
-            return OperationResult.failed("Less than 12 months of work history");
+            return TOO_SHORT_WORK_HISTORY;
         }
         if (!history.isCurrentlyEmployed()) {
-            return OperationResult.failed("Applicant is not currently employed");
+            return NOT_EMPLOYED;
         }
         if (history.averageIncome().compareTo(MINIMUM_AVERAGE_INCOME) < 0) {
-            return OperationResult.failed("Average income below minimum threshold");
+            return INSUFFICIENT_INCOME;
         }
         return OperationResult.successful();
     }
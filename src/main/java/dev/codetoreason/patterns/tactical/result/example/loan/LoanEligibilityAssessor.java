@@ -1,6 +1,7 @@
 package dev.codetoreason.patterns.tactical.result.example.loan;
 
 import dev.codetoreason.patterns.tactical.money.Money;
+import dev.codetoreason.patterns.tactical.result.OperationResult;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
@@ -25,9 +26,8 @@ class LoanEligibilityAssessor {
 
     Money assess(ApplicantProfile profile) {
         for (var validator : validators) {
-            var result = validator.validate(profile);
-            if (result.isFailure()) {
-                log.info(result.message());
+            if (validator.validate(profile) instanceof OperationResult.Failure failure) {
+                log.info(failure.message());
                 return ZERO;
             }
         }
@@ -1,5 +1,7 @@
 package dev.codetoreason.patterns.tactical.result.example.loan;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public class LoanEligibilityFacade {
@@ -20,5 +22,16 @@ public class LoanEligibilityFacade {
                                   .map(loanEligibilityAssessor::assess)
                                   .map(loanEligibility -> new LoanEligibilityResult(id, loanEligibility));
     }
+
+    public List<LoanEligibilityResult> assessEligibility(Collection<ApplicantId> ids) {
+        return applicantRepository.findAllById(ids)
+                                  .entrySet()
+                                  .stream()
+                                  .map(applicant -> new LoanEligibilityResult(
+                                          applicant.getKey(),
+                                          loanEligibilityAssessor.assess(applicant.getValue())
+                                  ))
+                                  .toList();
+    }
 }
 
@@ -1,5 +1,6 @@
 package dev.codetoreason.patterns.tactical.result.example.order.fulfillment;
 
+import dev.codetoreason.patterns.tactical.infra.event.Event;
 import dev.codetoreason.patterns.tactical.infra.event.EventPublisher;
 
 public class OrderFulfillmentFacade {
@@ -33,22 +34,18 @@ public class OrderFulfillmentFacade {
             return;
         }
         var order = maybeOrder.get();
-        var selectionResult = warehouseSelector.selectFor(order);
-        if (selectionResult.isFailure()) {
-            eventPublisher.publish(
-                    new OrderRejectedEvent(orderId, selectionResult.message())
-            );
-            return;
-        }
-        var warehouse = selectionResult.value()
-                                       .orElseThrow(() -> new IllegalStateException(
-                                               "Warehouse selection result is successful but has no value"
-                                       ));
+        Event event = warehouseSelector.selectFor(order)
+                                       .fold(
+                                               warehouse -> fulfill(orderId, warehouse),
+                                               reason -> new OrderRejectedEvent(orderId, reason)
+                                       );
+        eventPublisher.publish(event);
+    }
+
+    private OrderFulfilledEvent fulfill(OrderId orderId, Warehouse warehouse) {
         var warehouseId = warehouse.id();
         var shipmentId = shippingService.dispatch(orderId, warehouseId);
-        eventPublisher.publish(
-                new OrderFulfilledEvent(orderId, warehouseId, shipmentId)
-        );
+        return new OrderFulfilledEvent(orderId, warehouseId, shipmentId);
     }
 }
 
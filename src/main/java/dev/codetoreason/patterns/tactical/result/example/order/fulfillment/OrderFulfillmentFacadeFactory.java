@@ -8,15 +8,13 @@ public class OrderFulfillmentFacadeFactory {
             ShippingService shippingService,
             EventPublisher eventPublisher,
             OrderRepository orderRepository,
-            WarehouseRepository warehouseRepository
+            WarehouseSelectionIndex warehouseSelectionIndex
     ) {
         return new OrderFulfillmentFacade(
                 shippingService,
                 eventPublisher,
                 orderRepository,
-                new WarehouseSelector(
-                        warehouseRepository
-                )
+                new WarehouseSelector(warehouseSelectionIndex)
         );
     }
 }
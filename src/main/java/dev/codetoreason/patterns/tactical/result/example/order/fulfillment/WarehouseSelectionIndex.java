@@ -0,0 +1,295 @@
+package dev.codetoreason.patterns.tactical.result.example.order.fulfillment;
+
+import dev.codetoreason.patterns.tactical.quantity.Quantity;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static dev.codetoreason.patterns.tactical.quantity.Quantity.ZERO;
+
+/**
+ * {@link WarehouseRepository} decorator indexing warehouses for selection: region, then product type,
+ * then product, down to a tree of stock levels keyed by the order in which warehouses were indexed.
+ * <p>
+ * Finding a warehouse able to ship an order costs a few hash lookups and a single descent of that tree
+ * instead of scanning every warehouse of the region. Among warehouses with enough stock, the one indexed
+ * first is selected - the same one a scan of the region in the order of storing would find. Orders of zero
+ * quantity go to the first warehouse supporting the product type.
+ * <p>
+ * Warehouses stored before the index was created are indexed once, on creation, in the order the repository
+ * returns them; later ones are indexed incrementally when saved through the index, so stock level changes must
+ * be saved through it as well. Both selecting and re-indexing a warehouse take time logarithmic in the number
+ * of indexed warehouses for every product it stocks.
+ * <p>
+ * This class is thread-safe.
+ */
+class WarehouseSelectionIndex implements WarehouseRepository {
+
+    private static final int SCAN_BATCH_SIZE = 512;
+    private static final Comparator<Stocked> BY_SEQUENCE = Comparator.comparingLong(Stocked::sequence);
+
+    private final WarehouseRepository delegate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<WarehouseId, Indexed> indexed = new HashMap<>();
+    private final Map<String, Region> regions = new HashMap<>();
+    private long nextSequence;
+
+    private WarehouseSelectionIndex(WarehouseRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    static WarehouseSelectionIndex over(WarehouseRepository delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Repository must not be null");
+        }
+        var index = new WarehouseSelectionIndex(delegate);
+        delegate.scan(SCAN_BATCH_SIZE, batch -> batch.forEach(index::upsert));
+        return index;
+    }
+
+    @Override
+    public void save(Warehouse warehouse) {
+        delegate.save(warehouse);
+        upsert(warehouse);
+    }
+
+    @Override
+    public void saveAll(Collection<? extends Warehouse> warehouses) {
+        delegate.saveAll(warehouses);
+        warehouses.forEach(this::upsert);
+    }
+
+    @Override
+    public Optional<Warehouse> findById(WarehouseId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void scan(int batchSize, Consumer<? super List<Warehouse>> batchConsumer) {
+        delegate.scan(batchSize, batchConsumer);
+    }
+
+    @Override
+    public List<Warehouse> findAllByRegion(String region) {
+        return delegate.findAllByRegion(region);
+    }
+
+    boolean hasWarehousesIn(String region) {
+        return withReadLock(() -> regions.containsKey(region));
+    }
+
+    boolean hasWarehousesIn(String region, ProductType productType) {
+        return withReadLock(() -> {
+            var regionIndex = regions.get(region);
+            return regionIndex != null && regionIndex.capabilities.containsKey(productType);
+        });
+    }
+
+    Optional<Warehouse> findFirstStocking(String region, Product product, Quantity quantity) {
+        return withReadLock(() -> {
+            var regionIndex = regions.get(region);
+            var capability = regionIndex != null ? regionIndex.capabilities.get(product.type()) : null;
+            if (capability == null) {
+                return Optional.empty();
+            }
+            if (quantity.isZero()) {
+                return Optional.of(capability.warehouses.first().warehouse());
+            }
+            var stocking = capability.stocks.get(product.id());
+            var found = stocking != null ? stocking.firstWithAtLeast(quantity.value()) : null;
+            return Optional.ofNullable(found).map(Stocked::warehouse);
+        });
+    }
+
+    void upsert(Warehouse warehouse) {
+        if (warehouse == null) {
+            throw new IllegalArgumentException("Warehouse must not be null");
+        }
+        var supportedTypes = Set.copyOf(warehouse.supportedTypes());
+        var stockLevels = Map.copyOf(warehouse.stockLevels());
+        lock.writeLock().lock();
+        try {
+            var previous = indexed.get(warehouse.id());
+            if (previous != null) {
+                remove(previous);
+            }
+            var sequence = previous != null ? previous.sequence() : nextSequence++;
+            var current = new Indexed(warehouse, sequence, supportedTypes, stockLevels);
+            indexed.put(warehouse.id(), current);
+            add(current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Indexed entry) {
+        var region = entry.warehouse().region();
+        if (region == null) {
+            return;
+        }
+        var regionIndex = regions.computeIfAbsent(region, _ -> new Region());
+        regionIndex.warehouses++;
+        for (var type : entry.supportedTypes()) {
+            var capability = regionIndex.capabilities.computeIfAbsent(type, _ -> new Capability());
+            capability.warehouses.add(entry.stocking(ZERO));
+            entry.stockLevels().forEach((productId, stockLevel) ->
+                    capability.stocks.computeIfAbsent(productId, _ -> new Stocking())
+                                     .add(entry.stocking(stockLevel)));
+        }
+    }
+
+    private void remove(Indexed entry) {
+        var region = entry.warehouse().region();
+        var regionIndex = region != null ? regions.get(region) : null;
+        if (regionIndex == null) {
+            return;
+        }
+        for (var type : entry.supportedTypes()) {
+            var capability = regionIndex.capabilities.get(type);
+            capability.warehouses.remove(entry.stocking(ZERO));
+            entry.stockLevels().forEach((productId, stockLevel) -> {
+                var stocking = capability.stocks.get(productId);
+                stocking.remove(entry.stocking(stockLevel));
+                if (stocking.isEmpty()) {
+                    capability.stocks.remove(productId);
+                }
+            });
+            if (capability.warehouses.isEmpty()) {
+                regionIndex.capabilities.remove(type);
+            }
+        }
+        if (--regionIndex.warehouses == 0) {
+            regions.remove(region);
+        }
+    }
+
+    private <T> T withReadLock(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Indexed(
+            Warehouse warehouse,
+            long sequence,
+            Set<ProductType> supportedTypes,
+            Map<ProductId, Quantity> stockLevels
+    ) {
+
+        Stocked stocking(Quantity stockLevel) {
+            return new Stocked(warehouse, stockLevel.value(), sequence);
+        }
+    }
+
+    private record Stocked(Warehouse warehouse, int stockLevel, long sequence) {
+    }
+
+    private static final class Region {
+
+        private final Map<ProductType, Capability> capabilities = new EnumMap<>(ProductType.class);
+        private int warehouses;
+    }
+
+    private static final class Capability {
+
+        private final NavigableSet<Stocked> warehouses = new TreeSet<>(BY_SEQUENCE);
+        private final Map<ProductId, Stocking> stocks = new HashMap<>();
+    }
+
+    /**
+     * Warehouses stocking a single product, as leaves of a tree keyed by sequence in which every node holds
+     * the highest stock level below it. The first warehouse with enough stock is found by descending to the
+     * leftmost child holding at least the ordered quantity. Empty subtrees are pruned; the tree doubles
+     * its range whenever a sequence falls outside of it.
+     */
+    private static final class Stocking {
+
+        private static final int NO_STOCK = Integer.MIN_VALUE;
+
+        private Node root;
+        private long range = 1;
+
+        Stocked firstWithAtLeast(int quantity) {
+            if (root == null || root.highestStockLevel < quantity) {
+                return null;
+            }
+            var node = root;
+            for (var span = range; span > 1; span >>>= 1) {
+                node = node.left != null && node.left.highestStockLevel >= quantity ? node.left : node.right;
+            }
+            return node.stocked;
+        }
+
+        void add(Stocked stocked) {
+            while (stocked.sequence() >= range) {
+                if (root != null) {
+                    var grown = new Node();
+                    grown.left = root;
+                    grown.highestStockLevel = root.highestStockLevel;
+                    root = grown;
+                }
+                range <<= 1;
+            }
+            root = update(root, 0, range, stocked.sequence(), stocked);
+        }
+
+        void remove(Stocked stocked) {
+            if (stocked.sequence() < range) {
+                root = update(root, 0, range, stocked.sequence(), null);
+            }
+        }
+
+        boolean isEmpty() {
+            return root == null;
+        }
+
+        private static Node update(Node node, long from, long span, long sequence, Stocked stocked) {
+            if (node == null) {
+                if (stocked == null) {
+                    return null;
+                }
+                node = new Node();
+            }
+            if (span == 1) {
+                node.stocked = stocked;
+                node.highestStockLevel = stocked != null ? stocked.stockLevel() : NO_STOCK;
+            } else {
+                var half = span >>> 1;
+                if (sequence < from + half) {
+                    node.left = update(node.left, from, half, sequence, stocked);
+                } else {
+                    node.right = update(node.right, from + half, half, sequence, stocked);
+                }
+                node.highestStockLevel = Math.max(highestStockLevel(node.left), highestStockLevel(node.right));
+            }
+            return node.highestStockLevel != NO_STOCK ? node : null;
+        }
+
+        private static int highestStockLevel(Node node) {
+            return node != null ? node.highestStockLevel : NO_STOCK;
+        }
+    }
+
+    private static final class Node {
+
+        private Node left;
+        private Node right;
+        private Stocked stocked;
+        private int highestStockLevel = Stocking.NO_STOCK;
+    }
+}
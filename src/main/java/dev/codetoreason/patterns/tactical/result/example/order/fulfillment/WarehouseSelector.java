@@ -4,36 +4,30 @@ import dev.codetoreason.patterns.tactical.result.Result;
 
 class WarehouseSelector {
 
-    private final WarehouseRepository warehouseRepository;
+    private final WarehouseSelectionIndex selectionIndex;
 
-    WarehouseSelector(WarehouseRepository warehouseRepository) {
-        this.warehouseRepository = warehouseRepository;
+    WarehouseSelector(WarehouseSelectionIndex selectionIndex) {
+        this.selectionIndex = selectionIndex;
     }
 
     Result<Warehouse> selectFor(Order order) {
         var destinationRegion = order.destinationRegion();
-        var regionWarehouses = warehouseRepository.findAllByRegion(destinationRegion);
-        if (regionWarehouses.isEmpty()) {
+        var product = order.product();
+        var quantity = order.quantity();
+        var warehouseWithStock = selectionIndex.findFirstStocking(destinationRegion, product, quantity);
+        if (warehouseWithStock.isPresent()) {
+            return Result.successful(warehouseWithStock.get());
+        }
+        if (!selectionIndex.hasWarehousesIn(destinationRegion)) {
             return Result.failed("No warehouses available in region: " + destinationRegion);
         }
-        var product = order.product();
         var productType = product.type();
-        var capableWarehouses = regionWarehouses.stream()
-                                                .filter(w -> w.supports(productType))
-                                                .toList();
-        if (capableWarehouses.isEmpty()) {
+        if (!selectionIndex.hasWarehousesIn(destinationRegion, productType)) {
             return Result.failed("No warehouse capable of handling product type: " + productType);
         }
-        var quantity = order.quantity();
-        var warehouseWithStock = capableWarehouses.stream()
-                                                  .filter(w -> w.hasProduct(product, quantity))
-                                                  .findFirst();
-        return warehouseWithStock.map(Result::successful)
-                                 .orElseGet(() -> Result.failed(
-                                         "Insufficient stock for product '%s' x%d in region: %s"
-                                                 .formatted(product.name(), quantity.value(), destinationRegion)
-                                 ));
-
+        return Result.failed(
+                "Insufficient stock for product '%s' x%d in region: %s"
+                        .formatted(product.name(), quantity.value(), destinationRegion)
+        );
     }
 }
-
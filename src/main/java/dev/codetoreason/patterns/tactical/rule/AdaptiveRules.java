@@ -0,0 +1,298 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Self-tuning evaluator of {@link Rules}, created with {@link Rules#adaptive()}.
+ * <p>
+ * Records how often each rule fails and how long it takes, and periodically reorders the rules so that
+ * the ones most likely to reject a value at the lowest cost run first. Rules are ranked by their average
+ * evaluation time divided by their failure probability, lowest first; a rule that never fails goes last.
+ * <p>
+ * Reordering never changes <em>whether</em> a value passes. By default, it may change <em>which</em> failure
+ * is reported when several rules fail. With {@link AdaptiveRulesBuilder#strictOrdering()}, the reported
+ * failure is always the one {@link Rules#examine(Object)} would report: once a rule fails, the rules declared
+ * before it that have not been evaluated yet are checked as well.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * RulesExaminer<ProfessorEmploymentContext> rules = Rules.when(new YearsOfExperience())
+ *                                                        .and(new FieldsOfStudy())
+ *                                                        .compose()
+ *                                                        .adaptive()
+ *                                                        .strictOrdering()
+ *                                                        .build();
+ * }</pre>
+ * <p>
+ * Statistics are sampled: only about one in {@link AdaptiveRulesBuilder#sampleEvery(int) sampleEvery}
+ * examinations is timed and counted, chosen at random per thread, so the remaining ones cost no more than
+ * evaluating the predicates in the learned order. Rankings depend on ratios only, so sampling does not bias them.
+ * <p>
+ * This class is thread-safe. Statistics are collected with {@link LongAdder}s, the shared counter of examinations
+ * is only touched by sampled ones, and each reordering publishes a new immutable evaluation order,
+ * so concurrent examinations never block each other.
+ *
+ * @param <T> the type being validated
+ */
+public final class AdaptiveRules<T> implements RulesExaminer<T> {
+
+    private final Predicate<T>[] predicates;
+    private final FailureReasonFactory<T>[] failureReasonFactories;
+    private final RuleStatistics[] statistics;
+    private final int sampleEvery;
+    private final long reorderEverySamples;
+    private final boolean strictOrdering;
+    private final LongSupplier ticker;
+    private final AtomicLong sampledExaminations = new AtomicLong();
+
+    private volatile EvaluationOrder order;
+
+    @SuppressWarnings("unchecked")
+    private AdaptiveRules(
+            List<Rule<T>> rules,
+            long reorderEvery,
+            int sampleEvery,
+            boolean strictOrdering,
+            LongSupplier ticker
+    ) {
+        this.predicates = rules.stream()
+                               .map(Rule::predicate)
+                               .toArray(Predicate[]::new);
+        this.failureReasonFactories = rules.stream()
+                                           .map(Rule::failureReasonFactory)
+                                           .toArray(FailureReasonFactory[]::new);
+        this.statistics = IntStream.range(0, rules.size())
+                                   .mapToObj(_ -> new RuleStatistics())
+                                   .toArray(RuleStatistics[]::new);
+        this.sampleEvery = sampleEvery;
+        this.reorderEverySamples = Math.max(1, reorderEvery / sampleEvery);
+        this.strictOrdering = strictOrdering;
+        this.ticker = ticker;
+        this.order = EvaluationOrder.declared(rules.size());
+    }
+
+    /**
+     * Applies the rules to the given value, in the currently learned order, until one fails.
+     *
+     * @param t the value to validate
+     * @return a successful result or the failure of a failing rule
+     * (the first one in declaration order, if strict ordering is enabled)
+     */
+    @Override
+    public OperationResult examine(T t) {
+        var current = order;
+        var sequence = current.sequence();
+        var sampled = sampleEvery == 1 || ThreadLocalRandom.current().nextInt(sampleEvery) == 0;
+        var failed = -1;
+        for (var position = 0; position < sequence.length; position++) {
+            var index = sequence[position];
+            if (!evaluate(index, t, sampled)) {
+                failed = strictOrdering
+                        ? firstDeclaredFailure(index, position, current, t, sampled)
+                        : index;
+                break;
+            }
+        }
+        if (sampled && sampledExaminations.incrementAndGet() % reorderEverySamples == 0) {
+            reorder();
+        }
+        return failed < 0
+                ? OperationResult.successful()
+                : OperationResult.failed(failureReasonFactories[failed].create(t));
+    }
+
+    /**
+     * Returns the order in which rules are currently evaluated.
+     *
+     * @return indexes of the rules in declaration order (starting at 0), listed in evaluation order
+     */
+    public List<Integer> evaluationOrder() {
+        return Arrays.stream(order.sequence())
+                     .boxed()
+                     .toList();
+    }
+
+    private int firstDeclaredFailure(int failedIndex, int failedPosition, EvaluationOrder current, T t, boolean sampled) {
+        for (var index = 0; index < failedIndex; index++) {
+            var alreadyPassed = current.positionOf(index) < failedPosition;
+            if (!alreadyPassed && !evaluate(index, t, sampled)) {
+                return index;
+            }
+        }
+        return failedIndex;
+    }
+
+    private boolean evaluate(int index, T t, boolean sampled) {
+        if (!sampled) {
+            return predicates[index].test(t);
+        }
+        var start = ticker.getAsLong();
+        var passed = predicates[index].test(t);
+        statistics[index].record(ticker.getAsLong() - start, passed);
+        return passed;
+    }
+
+    private void reorder() {
+        var ranks = Arrays.stream(statistics)
+                          .mapToDouble(RuleStatistics::rank)
+                          .toArray();
+        var sequence = IntStream.range(0, ranks.length)
+                                .boxed()
+                                .sorted(Comparator.comparingDouble(index -> ranks[index]))
+                                .mapToInt(Integer::intValue)
+                                .toArray();
+        order = EvaluationOrder.of(sequence);
+    }
+
+    private record EvaluationOrder(int[] sequence, int[] positions) {
+
+        static EvaluationOrder declared(int size) {
+            return of(IntStream.range(0, size).toArray());
+        }
+
+        static EvaluationOrder of(int[] sequence) {
+            var positions = new int[sequence.length];
+            for (var position = 0; position < sequence.length; position++) {
+                positions[sequence[position]] = position;
+            }
+            return new EvaluationOrder(sequence, positions);
+        }
+
+        int positionOf(int index) {
+            return positions[index];
+        }
+    }
+
+    private static final class RuleStatistics {
+
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder elapsed = new LongAdder();
+
+        void record(long elapsedTicks, boolean passed) {
+            evaluations.increment();
+            elapsed.add(elapsedTicks);
+            if (!passed) {
+                failures.increment();
+            }
+        }
+
+        /**
+         * Expected cost of rejecting a value with this rule: average cost divided by failure probability.
+         * Failure probability is smoothed, so that rules with few evaluations are neither
+         * favoured nor sent to the end of the chain too eagerly.
+         */
+        double rank() {
+            var evaluated = evaluations.sum();
+            if (evaluated == 0) {
+                return 0.0;
+            }
+            var failed = failures.sum();
+            if (failed == 0) {
+                return Double.MAX_VALUE;
+            }
+            var averageCost = Math.max(1.0, (double) elapsed.sum() / evaluated);
+            var failureProbability = (failed + 1.0) / (evaluated + 2.0);
+            return averageCost / failureProbability;
+        }
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link AdaptiveRules} instances.
+     *
+     * @param <T> the type being validated
+     */
+    public static final class AdaptiveRulesBuilder<T> {
+
+        private static final long DEFAULT_REORDER_EVERY = 1024;
+        private static final int DEFAULT_SAMPLE_EVERY = 16;
+
+        private final List<Rule<T>> rules;
+        private long reorderEvery = DEFAULT_REORDER_EVERY;
+        private int sampleEvery = DEFAULT_SAMPLE_EVERY;
+        private boolean strictOrdering;
+        private LongSupplier ticker = System::nanoTime;
+
+        AdaptiveRulesBuilder(List<Rule<T>> rules) {
+            this.rules = rules;
+        }
+
+        /**
+         * Sets how many examinations pass between two reorderings. Defaults to 1024.
+         * <p>
+         * With sampling, the period is counted in sampled examinations, so it is kept on average.
+         *
+         * @param examinations the reordering period (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code examinations} is not positive
+         */
+        public AdaptiveRulesBuilder<T> reorderEvery(long examinations) {
+            if (examinations <= 0) {
+                throw new IllegalArgumentException("Reordering period must be positive");
+            }
+            this.reorderEvery = examinations;
+            return this;
+        }
+
+        /**
+         * Sets how often examinations are sampled: about one in {@code examinations} is timed and counted
+         * towards the statistics. Defaults to 16; 1 samples every examination.
+         *
+         * @param examinations the average sampling period (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code examinations} is not positive
+         */
+        public AdaptiveRulesBuilder<T> sampleEvery(int examinations) {
+            if (examinations <= 0) {
+                throw new IllegalArgumentException("Sampling period must be positive");
+            }
+            this.sampleEvery = examinations;
+            return this;
+        }
+
+        /**
+         * Makes the evaluator report the same failure as {@link Rules#examine(Object)} would,
+         * at the cost of evaluating some earlier-declared rules after a failure.
+         *
+         * @return this builder instance
+         */
+        public AdaptiveRulesBuilder<T> strictOrdering() {
+            this.strictOrdering = true;
+            return this;
+        }
+
+        /**
+         * Sets the time source used to measure the cost of rules. Defaults to {@link System#nanoTime()}.
+         *
+         * @param ticker the time source (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code ticker} is null
+         */
+        public AdaptiveRulesBuilder<T> withTicker(LongSupplier ticker) {
+            if (ticker == null) {
+                throw new IllegalArgumentException("Ticker must be non-null");
+            }
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Finalizes the configuration and returns the evaluator, starting in declaration order.
+         *
+         * @return the composed {@link AdaptiveRules} object
+         */
+        public AdaptiveRules<T> build() {
+            return new AdaptiveRules<>(rules, reorderEvery, sampleEvery, strictOrdering, ticker);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compact outcome of examining a batch of values, created with {@link Rules#examineBatch(List)}.
+ * <p>
+ * Instead of one {@link OperationResult} per value, the outcome is kept as a bitset of failed positions
+ * and the index of the failed rule for each of them. Failure messages are rendered only when asked for,
+ * so screening a batch of which only a few values fail pays for just those few messages.
+ * <p>
+ * Per value, the outcome is the same as of {@link Rules#examine(Object)}: the reported failure
+ * is the first failing rule in declaration order.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * BatchExamination<Applicant> examination = eligibilityRules.examineBatch(applicants);
+ * examination.failures()
+ *            .stream()
+ *            .forEach(i -> log.info("Applicant {} rejected: {}", i, examination.message(i)));
+ * }</pre>
+ *
+ * <p><strong>Note:</strong> Rendered messages are cached, so this class is <em>not thread-safe</em>.
+ *
+ * @param <T> the type being validated
+ */
+public final class BatchExamination<T> {
+
+    private static final int PASSED = -1;
+
+    private final List<T> values;
+    private final FailureReasonFactory<T>[] failureReasonFactories;
+    private final BitSet failures;
+    private final int[] failedRules;
+    private String[] messages;
+
+    private BatchExamination(
+            List<T> values,
+            FailureReasonFactory<T>[] failureReasonFactories,
+            BitSet failures,
+            int[] failedRules
+    ) {
+        this.values = values;
+        this.failureReasonFactories = failureReasonFactories;
+        this.failures = failures;
+        this.failedRules = failedRules;
+    }
+
+    /**
+     * Evaluates the rules column-at-a-time: each predicate is applied to all values still passing,
+     * and values failing it are removed from the survivors before the next predicate runs.
+     */
+    static <T> BatchExamination<T> evaluate(
+            Predicate<T>[] predicates,
+            FailureReasonFactory<T>[] failureReasonFactories,
+            List<T> inputs
+    ) {
+        if (inputs == null) {
+            throw new IllegalArgumentException("Values must be non-null");
+        }
+        var values = new ArrayList<T>(inputs);
+        var size = values.size();
+        var survivors = new BitSet(size);
+        survivors.set(0, size);
+        var failedRules = new int[size];
+        for (var rule = 0; rule < predicates.length && !survivors.isEmpty(); rule++) {
+            var predicate = predicates[rule];
+            for (var i = survivors.nextSetBit(0); i >= 0; i = survivors.nextSetBit(i + 1)) {
+                if (!predicate.test(values.get(i))) {
+                    survivors.clear(i);
+                    failedRules[i] = rule;
+                }
+            }
+        }
+        var failures = new BitSet(size);
+        failures.set(0, size);
+        failures.andNot(survivors);
+        for (var i = survivors.nextSetBit(0); i >= 0; i = survivors.nextSetBit(i + 1)) {
+            failedRules[i] = PASSED;
+        }
+        return new BatchExamination<>(values, failureReasonFactories, failures, failedRules);
+    }
+
+    /**
+     * Returns the number of examined values.
+     *
+     * @return the size of the batch
+     */
+    public int size() {
+        return failedRules.length;
+    }
+
+    /**
+     * Returns the positions of the values that failed any rule.
+     *
+     * @return a copy of the bitset of failed positions
+     */
+    public BitSet failures() {
+        return (BitSet) failures.clone();
+    }
+
+    /**
+     * Returns the number of values that failed any rule.
+     *
+     * @return the number of failures
+     */
+    public int failureCount() {
+        return failures.cardinality();
+    }
+
+    /**
+     * Checks if the value at the given position passed all rules.
+     *
+     * @param index the position of the value in the batch
+     * @return {@code true} if the value passed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isSuccess(int index) {
+        return failedRule(index) == PASSED;
+    }
+
+    /**
+     * Checks if the value at the given position failed any rule.
+     *
+     * @param index the position of the value in the batch
+     * @return {@code true} if the value failed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isFailure(int index) {
+        return !isSuccess(index);
+    }
+
+    /**
+     * Returns the index, in declaration order, of the rule the value at the given position failed.
+     *
+     * @param index the position of the value in the batch
+     * @return the index of the failed rule (starting at 0), or {@code -1} if the value passed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int failedRule(int index) {
+        if (index < 0 || index >= failedRules.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + failedRules.length);
+        }
+        return failedRules[index];
+    }
+
+    /**
+     * Returns the failure reason for the value at the given position, rendering it on first access.
+     *
+     * @param index the position of the value in the batch
+     * @return the reason of the failed rule, or {@code null} if the value passed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String message(int index) {
+        return result(index) instanceof OperationResult.Failure failure ? failure.message() : null;
+    }
+
+    /**
+     * Returns the result for the value at the given position.
+     *
+     * @param index the position of the value in the batch
+     * @return the same result {@link Rules#examine(Object)} would return for the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public OperationResult result(int index) {
+        var rule = failedRule(index);
+        if (rule == PASSED) {
+            return OperationResult.successful();
+        }
+        if (messages == null) {
+            messages = new String[failedRules.length];
+        }
+        if (messages[index] == null) {
+            messages[index] = failureReasonFactories[rule].create(values.get(index));
+        }
+        return OperationResult.failed(messages[index]);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Fused, hot-path evaluator of {@link Rules}, created with {@link Rules#compile()}.
+ * <p>
+ * Predicates and failure reason factories of all rules are unpacked into two flat arrays,
+ * so examination is a single loop over the predicates:
+ * <ul>
+ *     <li>no per-rule {@link OperationResult} is created while rules pass,
+ *     so the all-pass path does not allocate at all,</li>
+ *     <li>only the first failing rule's reason is created, once the loop stops.</li>
+ * </ul>
+ * The semantics are the same as of {@link Rules#examine(Object)}: rules are evaluated in order
+ * of declaration and the first failure is returned.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CompiledRules<Applicant> eligibility = Rules.when(hasIncome)
+ *                                             .and(hasNoDebts)
+ *                                             .compose()
+ *                                             .compile();
+ * OperationResult result = eligibility.examine(applicant);
+ * }</pre>
+ *
+ * @param <T> the type being validated
+ */
+public final class CompiledRules<T> implements RulesExaminer<T> {
+
+    private final Predicate<T>[] predicates;
+    private final FailureReasonFactory<T>[] failureReasonFactories;
+
+    @SuppressWarnings("unchecked")
+    CompiledRules(List<Rule<T>> rules) {
+        this.predicates = rules.stream()
+                               .map(Rule::predicate)
+                               .toArray(Predicate[]::new);
+        this.failureReasonFactories = rules.stream()
+                                           .map(Rule::failureReasonFactory)
+                                           .toArray(FailureReasonFactory[]::new);
+    }
+
+    /**
+     * Applies the rules to the given value until one fails.
+     *
+     * @param t the value to validate
+     * @return a successful result or the failure of the first failing rule
+     */
+    @Override
+    public OperationResult examine(T t) {
+        var failed = firstFailedIndex(t);
+        return failed < 0
+                ? OperationResult.successful()
+                : OperationResult.failed(failureReasonFactories[failed].create(t));
+    }
+
+    /**
+     * Checks whether the given value passes all rules, without creating any failure reason.
+     *
+     * @param t the value to validate
+     * @return {@code true} if all rules pass
+     */
+    public boolean test(T t) {
+        return firstFailedIndex(t) < 0;
+    }
+
+    /**
+     * Examines a whole batch of values, rule by rule.
+     *
+     * @param values the values to validate (must not be null)
+     * @return the compact outcome of the batch
+     * @throws IllegalArgumentException if {@code values} is null
+     * @see Rules#examineBatch(List)
+     */
+    public BatchExamination<T> examineBatch(List<T> values) {
+        return BatchExamination.evaluate(predicates, failureReasonFactories, values);
+    }
+
+    private int firstFailedIndex(T t) {
+        var predicates = this.predicates;
+        for (var i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(t)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
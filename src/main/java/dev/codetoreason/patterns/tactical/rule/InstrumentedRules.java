@@ -0,0 +1,101 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluator reporting evaluations to a {@link RuleInstrumentation}.
+ * <p>
+ * It comes in two flavours:
+ * <ul>
+ *     <li>created with {@link Rules#instrumentedWith(RuleInstrumentation)}, it reports every single rule evaluation.
+ *     Semantics are the same as of {@link Rules#examine(Object)}. Rules without a {@link Rule#named(String) name}
+ *     are reported as {@code "rule #<index>"}, where the index is the position of the rule in declaration order,</li>
+ *     <li>created with {@link #instrument(RulesExaminer, String, RuleInstrumentation)}, it decorates any
+ *     {@link RulesExaminer} - e.g. {@link CompiledRules}, {@link AdaptiveRules} or {@link MemoizingRules} -
+ *     and reports every whole examination under the given name, keeping the optimizations of the decorated one.</li>
+ * </ul>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * RuleMetrics metrics = RuleMetrics.create();
+ * metrics.registerMBean("professor-employment");
+ * RulesExaminer<ProfessorEmploymentContext> rules = InstrumentedRules.instrument(
+ *         employmentRules.adaptive().build(), "professor-employment", metrics);
+ * }</pre>
+ *
+ * @param <T> the type being validated
+ */
+public final class InstrumentedRules<T> implements RulesExaminer<T> {
+
+    private final RulesExaminer<T> examiner;
+
+    private InstrumentedRules(RulesExaminer<T> examiner) {
+        this.examiner = examiner;
+    }
+
+    InstrumentedRules(List<Rule<T>> rules, RuleInstrumentation instrumentation) {
+        this(perRule(rules, instrumentation));
+    }
+
+    /**
+     * Decorates the given examiner, reporting each of its examinations as a single evaluation.
+     *
+     * @param examiner        the examiner to instrument (must not be null)
+     * @param name            the name the examinations are reported under (must not be null)
+     * @param instrumentation the receiver of evaluation metrics, e.g. {@link RuleMetrics} (must not be null)
+     * @param <T>             the type being validated
+     * @return the instrumented examiner
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public static <T> InstrumentedRules<T> instrument(
+            RulesExaminer<T> examiner,
+            String name,
+            RuleInstrumentation instrumentation
+    ) {
+        if (examiner == null || name == null || instrumentation == null) {
+            throw new IllegalArgumentException("Examiner, name and instrumentation must be non-null");
+        }
+        return new InstrumentedRules<>(t -> {
+            var start = System.nanoTime();
+            var result = examiner.examine(t);
+            instrumentation.recordEvaluation(name, System.nanoTime() - start, result);
+            return result;
+        });
+    }
+
+    /**
+     * Examines the given value, reporting the evaluations.
+     *
+     * @param t the value to validate
+     * @return a successful result or the result of the first failing rule
+     */
+    @Override
+    public OperationResult examine(T t) {
+        return examiner.examine(t);
+    }
+
+    private static <T> RulesExaminer<T> perRule(List<Rule<T>> rules, RuleInstrumentation instrumentation) {
+        var names = IntStream.range(0, rules.size())
+                             .mapToObj(index -> nameOf(rules.get(index), index))
+                             .toArray(String[]::new);
+        return t -> {
+            for (var index = 0; index < names.length; index++) {
+                var start = System.nanoTime();
+                var result = rules.get(index).check(t);
+                instrumentation.recordEvaluation(names[index], System.nanoTime() - start, result);
+                if (result instanceof OperationResult.Failure failure) {
+                    return failure;
+                }
+            }
+            return OperationResult.successful();
+        };
+    }
+
+    private static String nameOf(Rule<?> rule, int index) {
+        var name = rule.name();
+        return name != null ? name : "rule #" + index;
+    }
+}
@@ -0,0 +1,363 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in caching decorator of a {@link RulesExaminer}, remembering the results of recently examined values.
+ * <p>
+ * Useful when the same value is examined repeatedly within a short time, e.g. on retries or re-submitted forms.
+ * A hit returns the very same {@link OperationResult} instance, so neither predicates nor failure messages
+ * are evaluated again.
+ * <p>
+ * The cache is:
+ * <ul>
+ *     <li>keyed by a user-supplied key extractor (the value itself by default),</li>
+ *     <li>bounded in size, evicting the least recently used entries first - exactly in caches of fewer than 128 entries,
+ *     approximately (per segment) in larger ones,</li>
+ *     <li>bounded in time, treating entries older than the expiration as absent,</li>
+ *     <li>cleared whenever the version object supplied by {@link MemoizingRulesBuilder#invalidatedBy(Supplier)}
+ *     changes, e.g. when the rules are reconfigured.</li>
+ * </ul>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * RulesExaminer<ProfessorEmploymentContext> rules = MemoizingRules.memoize(employmentRules)
+ *                                                                 .keyedBy(ProfessorEmploymentContext::application)
+ *                                                                 .maximumSize(10_000)
+ *                                                                 .expireAfter(Duration.ofMinutes(10))
+ *                                                                 .invalidatedBy(configRepository::current)
+ *                                                                 .build();
+ * }</pre>
+ * <p>
+ * This class is thread-safe. Larger caches are split into up to 16 segments guarded by separate locks,
+ * so concurrent hits of different keys rarely contend. Rules are evaluated outside the locks, so concurrent
+ * misses of the same key may evaluate the rules more than once; a result examined before the cache was
+ * invalidated is never cached after it.
+ *
+ * @param <T> the type being validated
+ */
+public final class MemoizingRules<T> implements RulesExaminer<T> {
+
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int MAX_SEGMENTS = 16;
+
+    private final RulesExaminer<T> rules;
+    private final Function<? super T, ?> keyExtractor;
+    private final long expireAfterMillis;
+    private final Supplier<?> version;
+    private final Clock clock;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile Generation generation;
+
+    private MemoizingRules(
+            RulesExaminer<T> rules,
+            Function<? super T, ?> keyExtractor,
+            int maximumSize,
+            Duration expireAfter,
+            Supplier<?> version,
+            Clock clock
+    ) {
+        this.rules = rules;
+        this.keyExtractor = keyExtractor;
+        this.expireAfterMillis = expireAfter.toMillis();
+        this.version = version;
+        this.clock = clock;
+        this.generation = new Generation(version.get());
+        var segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        for (var i = 0; i < segmentCount; i++) {
+            var capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity, evictions);
+        }
+    }
+
+    /**
+     * Starts building a caching decorator of the given rules.
+     *
+     * @param rules the rules to memoize (must not be null)
+     * @param <T>   the type being validated
+     * @return a builder expecting the cache settings
+     * @throws IllegalArgumentException if {@code rules} is null
+     */
+    public static <T> MemoizingRulesBuilder<T> memoize(RulesExaminer<T> rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Rules must be non-null");
+        }
+        return new MemoizingRulesBuilder<>(rules);
+    }
+
+    /**
+     * Returns the cached result for the given value, examining it with the decorated rules on a miss.
+     *
+     * @param t the value to validate
+     * @return the result of the decorated rules
+     */
+    @Override
+    public OperationResult examine(T t) {
+        var key = keyExtractor.apply(t);
+        var observed = currentGeneration();
+        var now = clock.millis();
+        var segment = segmentFor(key);
+        synchronized (segment) {
+            var cached = segment.get(key);
+            if (cached != null && now - cached.cachedAtMillis() < expireAfterMillis) {
+                hits.increment();
+                return cached.result();
+            }
+        }
+        misses.increment();
+        var result = rules.examine(t);
+        synchronized (segment) {
+            if (generation == observed) {
+                segment.put(key, new CachedResult(result, now));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of cached results, including expired ones not evicted yet.
+     *
+     * @return the current size of the cache
+     */
+    public int size() {
+        var size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Discards all cached results. Results of examinations still in progress are not cached.
+     */
+    public void invalidateAll() {
+        invalidate(generation.version());
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics collected so far.
+     *
+     * @return the current statistics
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Generation currentGeneration() {
+        var current = generation;
+        var currentVersion = version.get();
+        if (Objects.equals(current.version(), currentVersion)) {
+            return current;
+        }
+        synchronized (segments) {
+            if (Objects.equals(generation.version(), currentVersion)) {
+                return generation;
+            }
+            return invalidate(currentVersion);
+        }
+    }
+
+    private Generation invalidate(Object currentVersion) {
+        synchronized (segments) {
+            var next = new Generation(currentVersion);
+            generation = next;
+            for (var segment : segments) {
+                synchronized (segment) {
+                    segment.clear();
+                }
+            }
+            return next;
+        }
+    }
+
+    private Segment segmentFor(Object key) {
+        var hash = Objects.hashCode(key);
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private record CachedResult(OperationResult result, long cachedAtMillis) {
+    }
+
+    /**
+     * Identity of a cache lifetime: replaced on every invalidation, so a miss can tell
+     * whether the cache was invalidated while the rules were examined.
+     */
+    private static final class Generation {
+
+        private final Object version;
+
+        private Generation(Object version) {
+            this.version = version;
+        }
+
+        private Object version() {
+            return version;
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, CachedResult> {
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, CachedResult> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     *
+     * @param hits      the number of examinations served from the cache
+     * @param misses    the number of examinations delegated to the decorated rules
+     * @param evictions the number of results evicted because the cache was full
+     */
+    public record Statistics(long hits, long misses, long evictions) {
+
+        /**
+         * Returns the ratio of hits to all examinations.
+         *
+         * @return the hit rate within {@code [0, 1]}, or {@code 0} if nothing was examined yet
+         */
+        public double hitRate() {
+            var requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * A fluent DSL builder for constructing {@link MemoizingRules} instances.
+     *
+     * @param <T> the type being validated
+     */
+    public static final class MemoizingRulesBuilder<T> {
+
+        private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+        private static final Duration DEFAULT_EXPIRATION = Duration.ofMinutes(5);
+
+        private final RulesExaminer<T> rules;
+        private Function<? super T, ?> keyExtractor = Function.identity();
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private Duration expireAfter = DEFAULT_EXPIRATION;
+        private Supplier<?> version = () -> null;
+        private Clock clock = Clock.systemUTC();
+
+        private MemoizingRulesBuilder(RulesExaminer<T> rules) {
+            this.rules = rules;
+        }
+
+        /**
+         * Sets the function extracting the cache key from an examined value. Defaults to the value itself.
+         * <p>
+         * Two values with equal keys must be examined to the same result.
+         *
+         * @param keyExtractor the key extractor (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code keyExtractor} is null
+         */
+        public MemoizingRulesBuilder<T> keyedBy(Function<? super T, ?> keyExtractor) {
+            if (keyExtractor == null) {
+                throw new IllegalArgumentException("Key extractor must be non-null");
+            }
+            this.keyExtractor = keyExtractor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results. Defaults to 1024.
+         *
+         * @param maximumSize the maximum size of the cache (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public MemoizingRulesBuilder<T> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached result may be served. Defaults to five minutes.
+         *
+         * @param expireAfter the time-to-live of cached results (must be positive)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code expireAfter} is null, zero or negative
+         */
+        public MemoizingRulesBuilder<T> expireAfter(Duration expireAfter) {
+            if (expireAfter == null || expireAfter.isNegative() || expireAfter.isZero()) {
+                throw new IllegalArgumentException("Expiration must be positive");
+            }
+            this.expireAfter = expireAfter;
+            return this;
+        }
+
+        /**
+         * Sets the supplier of a version object, such as the configuration the rules were created from.
+         * The cache is cleared whenever the supplied object is no longer equal to the previous one.
+         *
+         * @param version the supplier of the current version (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code version} is null
+         */
+        public MemoizingRulesBuilder<T> invalidatedBy(Supplier<?> version) {
+            if (version == null) {
+                throw new IllegalArgumentException("Version supplier must be non-null");
+            }
+            this.version = version;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to measure the age of cached results. Defaults to the system UTC clock.
+         *
+         * @param clock the clock (must not be null)
+         * @return this builder instance
+         * @throws IllegalArgumentException if {@code clock} is null
+         */
+        public MemoizingRulesBuilder<T> withClock(Clock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("Clock must be non-null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Finalizes the configuration and returns the caching decorator.
+         *
+         * @return the composed {@link MemoizingRules} object
+         */
+        public MemoizingRules<T> build() {
+            return new MemoizingRules<>(rules, keyExtractor, maximumSize, expireAfter, version, clock);
+        }
+    }
+}
@@ -13,8 +13,10 @@ import java.util.function.Predicate;
  * Rules should be created via the fluent API:
  * <pre>{@code
  * Rule<String> emailRule = Rule.when(email -> email.contains("@"))
- *                              .orElse("Missing @ symbol");
+ *                              .orElse("Missing @ symbol")
+ *                              .named("email");
  * }</pre>
+ * A name is optional; it identifies the rule in metrics collected by {@link RuleInstrumentation}.
  *
  * @param <T> the type being validated
  */
@@ -22,6 +24,7 @@ public class Rule<T> {
 
     private final Predicate<T> predicate;
     private final FailureReasonFactory<T> failureReasonFactory;
+    private final String name;
 
     /**
      * Creates a new rule with the given predicate and failure reason factory.
@@ -29,14 +32,16 @@ public class Rule<T> {
      *
      * @param predicate            the predicate to evaluate
      * @param failureReasonFactory the factory to generate failure messages
-     * @throws IllegalArgumentException if any argument is null
+     * @param name                 the name of the rule, or {@code null} if unnamed
+     * @throws IllegalArgumentException if the predicate or the failure reason factory is null
      */
-    private Rule(Predicate<T> predicate, FailureReasonFactory<T> failureReasonFactory) {
+    private Rule(Predicate<T> predicate, FailureReasonFactory<T> failureReasonFactory, String name) {
         if (predicate == null || failureReasonFactory == null) {
             throw new IllegalArgumentException("predicate and failureReasonFactory must not be null");
         }
         this.predicate = predicate;
         this.failureReasonFactory = failureReasonFactory;
+        this.name = name;
     }
 
     /**
@@ -63,6 +68,32 @@ public class Rule<T> {
                 : OperationResult.failed(failureReasonFactory.create(t));
     }
 
+    /**
+     * Returns a copy of this rule with the given name.
+     *
+     * @param name the name identifying the rule (must be non-null and non-blank)
+     * @return a named rule with the same predicate and failure reason
+     * @throws IllegalArgumentException if the name is null or blank
+     */
+    public Rule<T> named(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name must be non-null and non-blank");
+        }
+        return new Rule<>(predicate, failureReasonFactory, name);
+    }
+
+    String name() {
+        return name;
+    }
+
+    Predicate<T> predicate() {
+        return predicate;
+    }
+
+    FailureReasonFactory<T> failureReasonFactory() {
+        return failureReasonFactory;
+    }
+
     /**
      * A fluent DSL builder for constructing {@link Rule} instances.
      *
@@ -102,7 +133,7 @@ public class Rule<T> {
          * @return a complete {@link Rule} instance
          */
         public Rule<T> orElse(FailureReasonFactory<T> failureReasonFactory) {
-            return new Rule<>(predicate, failureReasonFactory);
+            return new Rule<>(predicate, failureReasonFactory, null);
         }
     }
 }
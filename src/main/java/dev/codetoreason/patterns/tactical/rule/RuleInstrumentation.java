@@ -0,0 +1,26 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+/**
+ * Service provider interface notified about evaluations of {@link InstrumentedRules} - of every single rule,
+ * or of every whole examination of an instrumented {@link RulesExaminer}.
+ * <p>
+ * Implementations are called on the validating thread, right after a rule is evaluated,
+ * so they must be thread-safe and cheap. {@link RuleMetrics} is the built-in implementation.
+ */
+@FunctionalInterface
+public interface RuleInstrumentation {
+
+    /**
+     * Records a single rule evaluation.
+     * <p>
+     * The message of a failed {@code result} may be rendered lazily; implementations should call
+     * {@link OperationResult#message()} only when they actually need it.
+     *
+     * @param ruleName     the name of the evaluated rule
+     * @param elapsedNanos the time the evaluation took, in nanoseconds
+     * @param result       the result of the evaluation
+     */
+    void recordEvaluation(String ruleName, long elapsedNanos, OperationResult result);
+}
@@ -0,0 +1,264 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Built-in {@link RuleInstrumentation} collecting per-rule counters, latency histograms and sampled failure reasons.
+ * <p>
+ * For each rule, it records:
+ * <ul>
+ *     <li>the number of evaluations, passes and failures,</li>
+ *     <li>a lock-free latency histogram (see {@link RuleSnapshot#medianNanos()} and {@link RuleSnapshot#p99Nanos()}),</li>
+ *     <li>the most recent reasons of every {@code n}-th failure. Only sampled failures have their
+ *     {@link OperationResult#message()} read, but {@link Rule#check(Object)} creates the failure reason of every
+ *     failure, so this saves formatting only for results with lazily rendered messages.</li>
+ * </ul>
+ * Metrics can be pulled with {@link #snapshot()} or exposed through JMX with {@link #registerMBean(String)}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * RuleMetrics metrics = RuleMetrics.create();
+ * RulesExaminer<ProfessorEmploymentContext> rules = employmentRules.instrumentedWith(metrics);
+ * ...
+ * RuleSnapshot slowest = metrics.snapshot().getFirst();
+ * }</pre>
+ * <p>
+ * This class is thread-safe; recording never blocks.
+ */
+public final class RuleMetrics implements RuleInstrumentation, RuleMetricsMXBean {
+
+    private static final int DEFAULT_SAMPLE_EVERY = 100;
+    private static final int DEFAULT_RETAINED_SAMPLES = 10;
+    private static final String MBEAN_NAME_PATTERN = "dev.codetoreason.patterns.tactical.rule:type=RuleMetrics,name=%s";
+
+    private final ConcurrentMap<String, RuleStatistics> statistics = new ConcurrentHashMap<>();
+    private final int sampleEvery;
+    private final int retainedSamples;
+
+    private RuleMetrics(int sampleEvery, int retainedSamples) {
+        this.sampleEvery = sampleEvery;
+        this.retainedSamples = retainedSamples;
+    }
+
+    /**
+     * Creates metrics sampling the reason of every 100th failure of a rule and retaining the last 10 of them.
+     *
+     * @return new, empty metrics
+     */
+    public static RuleMetrics create() {
+        return new RuleMetrics(DEFAULT_SAMPLE_EVERY, DEFAULT_RETAINED_SAMPLES);
+    }
+
+    /**
+     * Creates metrics with the given sampling of failure reasons.
+     *
+     * @param sampleEvery     how many failures of a rule pass between two sampled reasons (must be positive)
+     * @param retainedSamples how many most recent reasons are retained per rule (must be positive)
+     * @return new, empty metrics
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public static RuleMetrics withFailureSampling(int sampleEvery, int retainedSamples) {
+        if (sampleEvery <= 0 || retainedSamples <= 0) {
+            throw new IllegalArgumentException("Sampling rate and number of retained samples must be positive");
+        }
+        return new RuleMetrics(sampleEvery, retainedSamples);
+    }
+
+    @Override
+    public void recordEvaluation(String ruleName, long elapsedNanos, OperationResult result) {
+        var ruleStatistics = statistics.get(ruleName);
+        if (ruleStatistics == null) {
+            ruleStatistics = statistics.computeIfAbsent(ruleName, _ -> new RuleStatistics(retainedSamples));
+        }
+        ruleStatistics.record(elapsedNanos, result, sampleEvery);
+    }
+
+    /**
+     * Returns the current metrics of all rules evaluated so far.
+     *
+     * @return snapshots of all rules, ordered by total latency, the most time-consuming rule first
+     */
+    public List<RuleSnapshot> snapshot() {
+        return statistics.entrySet()
+                         .stream()
+                         .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                         .sorted(Comparator.comparingLong(RuleSnapshot::totalNanos).reversed())
+                         .toList();
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server as
+     * {@code dev.codetoreason.patterns.tactical.rule:type=RuleMetrics,name=<name>}.
+     *
+     * @param name the name distinguishing these metrics from other registered ones (must be non-blank)
+     * @return the name under which the MBean was registered
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException    if the registration fails, e.g. the name is already taken
+     */
+    public ObjectName registerMBean(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name must be non-null and non-blank");
+        }
+        try {
+            var objectName = new ObjectName(MBEAN_NAME_PATTERN.formatted(ObjectName.quote(name)));
+            ManagementFactory.getPlatformMBeanServer()
+                             .registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register rule metrics " + name, e);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getEvaluationCounts() {
+        return collect(RuleSnapshot::evaluations);
+    }
+
+    @Override
+    public Map<String, Long> getPassCounts() {
+        return collect(RuleSnapshot::passes);
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        return collect(RuleSnapshot::failures);
+    }
+
+    @Override
+    public Map<String, Long> getTotalLatencies() {
+        return collect(RuleSnapshot::totalNanos);
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencies() {
+        return collect(RuleSnapshot::medianNanos);
+    }
+
+    @Override
+    public Map<String, Long> getP99Latencies() {
+        return collect(RuleSnapshot::p99Nanos);
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencies() {
+        return collect(RuleSnapshot::maxNanos);
+    }
+
+    @Override
+    public Map<String, List<String>> getSampledFailureReasons() {
+        return snapshot().stream()
+                         .collect(Collectors.toMap(RuleSnapshot::ruleName, RuleSnapshot::sampledFailureReasons));
+    }
+
+    private Map<String, Long> collect(ToLongFunction<RuleSnapshot> metric) {
+        return snapshot().stream()
+                         .collect(Collectors.toMap(RuleSnapshot::ruleName, metric::applyAsLong));
+    }
+
+    /**
+     * Point-in-time metrics of a single rule.
+     *
+     * @param ruleName              the name of the rule
+     * @param evaluations           the number of evaluations
+     * @param passes                the number of evaluations that passed
+     * @param failures              the number of evaluations that failed
+     * @param totalNanos            the time spent in all evaluations
+     * @param medianNanos           the median latency (upper bound of its histogram bucket, within 1%)
+     * @param p99Nanos              the 99th percentile latency (upper bound of its histogram bucket, within 1%)
+     * @param maxNanos              the maximum latency
+     * @param sampledFailureReasons the most recently sampled failure reasons, oldest first
+     */
+    public record RuleSnapshot(
+            String ruleName,
+            long evaluations,
+            long passes,
+            long failures,
+            long totalNanos,
+            long medianNanos,
+            long p99Nanos,
+            long maxNanos,
+            List<String> sampledFailureReasons
+    ) {
+
+        /**
+         * Returns the mean latency of the rule.
+         *
+         * @return the mean latency in nanoseconds, or {@code 0} if the rule was not evaluated
+         */
+        public long meanNanos() {
+            return evaluations == 0 ? 0L : totalNanos / evaluations;
+        }
+    }
+
+    private static final class RuleStatistics {
+
+        private final LongAdder passes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final AtomicLong failureSequence = new AtomicLong();
+        private final AtomicLong sampled = new AtomicLong();
+        private final AtomicReferenceArray<String> samples;
+
+        RuleStatistics(int retainedSamples) {
+            this.samples = new AtomicReferenceArray<>(retainedSamples);
+        }
+
+        void record(long elapsedNanos, OperationResult result, int sampleEvery) {
+            latencies.record(elapsedNanos);
+            switch (result) {
+                case OperationResult.Success _ -> passes.increment();
+                case OperationResult.Failure failure -> {
+                    failures.increment();
+                    if (failureSequence.getAndIncrement() % sampleEvery == 0) {
+                        var slot = sampled.getAndIncrement() % samples.length();
+                        samples.set((int) slot, failure.message());
+                    }
+                }
+            }
+        }
+
+        RuleSnapshot snapshot(String ruleName) {
+            var passed = passes.sum();
+            var failed = failures.sum();
+            return new RuleSnapshot(
+                    ruleName,
+                    passed + failed,
+                    passed,
+                    failed,
+                    latencies.total(),
+                    latencies.percentile(50),
+                    latencies.percentile(99),
+                    latencies.max(),
+                    sampledReasons()
+            );
+        }
+
+        private List<String> sampledReasons() {
+            var count = sampled.get();
+            var length = samples.length();
+            var reasons = new ArrayList<String>(length);
+            for (var sequence = Math.max(0L, count - length); sequence < count; sequence++) {
+                var reason = samples.get((int) (sequence % length));
+                if (reason != null) {
+                    reasons.add(reason);
+                }
+            }
+            return List.copyOf(reasons);
+        }
+    }
+}
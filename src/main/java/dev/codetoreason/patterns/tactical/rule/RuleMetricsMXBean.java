@@ -0,0 +1,28 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of {@link RuleMetrics}, keyed by rule name.
+ * <p>
+ * Latencies are expressed in nanoseconds.
+ */
+public interface RuleMetricsMXBean {
+
+    Map<String, Long> getEvaluationCounts();
+
+    Map<String, Long> getPassCounts();
+
+    Map<String, Long> getFailureCounts();
+
+    Map<String, Long> getTotalLatencies();
+
+    Map<String, Long> getMedianLatencies();
+
+    Map<String, Long> getP99Latencies();
+
+    Map<String, Long> getMaxLatencies();
+
+    Map<String, List<String>> getSampledFailureReasons();
+}
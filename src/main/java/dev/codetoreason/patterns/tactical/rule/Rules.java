@@ -7,6 +7,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * A composite of multiple {@link Rule} instances that are applied sequentially to a given value.
@@ -15,11 +21,16 @@ import java.util.Objects;
  * the first failure is encountered.
  * <p>
  * Use static factory methods {@link #of(Collection)}, {@link #of(Rule[])} or the fluent DSL via
- * {@link #when(Rule)} to create an instance.
+ * {@link #when(Rule)} to create an instance. For hot paths, use {@link #compile()} to obtain
+ * an equivalent evaluator that does not allocate while rules pass.
+ * <p>
+ * When rules are expensive and independent of each other, they can also be evaluated concurrently:
+ * {@link #examineAll(Object)} collects every failure, while {@link #firstFailure(Object)} stops
+ * as soon as any rule fails. Rules evaluated this way must be safe to call from multiple threads.
  *
  * @param <T> the type being validated
  */
-public class Rules<T> {
+public class Rules<T> implements RulesExaminer<T> {
 
     private final List<Rule<T>> all;
 
@@ -121,16 +132,187 @@ public class Rules<T> {
      * @param t the value to validate
      * @return a successful result or the result of the first failing rule
      */
+    @Override
     public OperationResult examine(T t) {
         for (var rule : all) {
-            var result = rule.check(t);
-            if (result.isFailure()) {
-                return result;
+            if (rule.check(t) instanceof OperationResult.Failure failure) {
+                return failure;
             }
         }
         return OperationResult.successful();
     }
 
+    /**
+     * Examines a whole batch of values, rule by rule instead of value by value.
+     * <p>
+     * Each rule is applied to all values that passed the previous rules, so a single predicate runs
+     * over the batch in a tight loop before the next one starts. Values that fail a rule drop out of
+     * the batch and are not evaluated against subsequent rules.
+     *
+     * @param values the values to validate (must not be null)
+     * @return the compact outcome of the batch, with the same per-value outcome as {@link #examine(Object)}
+     * @throws IllegalArgumentException if {@code values} is null
+     */
+    public BatchExamination<T> examineBatch(List<T> values) {
+        return compile().examineBatch(values);
+    }
+
+    /**
+     * Evaluates all rules concurrently, each on its own virtual thread, and collects every failure.
+     * <p>
+     * The examination takes as long as the slowest rule, instead of the sum of all rules.
+     *
+     * @param t the value to validate
+     * @return the examination holding the reasons of all failed rules, in declaration order
+     * @throws IllegalStateException if the calling thread is interrupted while waiting for the rules
+     */
+    public RulesExamination examineAll(T t) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return examineAll(t, executor);
+        }
+    }
+
+    /**
+     * Evaluates all rules concurrently on the given executor and collects every failure.
+     * <p>
+     * Results are awaited in declaration order. An exception thrown by a rule is rethrown to the caller
+     * as soon as that rule is awaited; rules not awaited yet are cancelled (interrupted) and their outcome is discarded.
+     *
+     * @param t        the value to validate
+     * @param executor the executor evaluating the rules (must not be null)
+     * @return the examination holding the reasons of all failed rules, in declaration order
+     * @throws IllegalArgumentException if {@code executor} is null
+     * @throws IllegalStateException    if the calling thread is interrupted while waiting for the rules
+     */
+    public RulesExamination examineAll(T t, ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must be non-null");
+        }
+        var futures = new ArrayList<Future<OperationResult>>(all.size());
+        try {
+            for (var rule : all) {
+                futures.add(executor.submit(() -> rule.check(t)));
+            }
+            var failureReasons = new ArrayList<String>();
+            for (var future : futures) {
+                if (await(future) instanceof OperationResult.Failure failure) {
+                    failureReasons.add(failure.message());
+                }
+            }
+            return new RulesExamination(failureReasons);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Evaluates all rules concurrently, each on its own virtual thread, until any of them fails.
+     *
+     * @param t the value to validate
+     * @return a successful result or the failure of the rule that failed first in time
+     * @throws IllegalStateException if the calling thread is interrupted while waiting for the rules
+     * @see #firstFailure(Object, ExecutorService)
+     */
+    public OperationResult firstFailure(T t) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return firstFailure(t, executor);
+        }
+    }
+
+    /**
+     * Evaluates all rules concurrently on the given executor until any of them fails.
+     * <p>
+     * As soon as a failure arrives, the rules still running are cancelled (interrupted) and the failure is returned.
+     * Unlike {@link #examine(Object)}, the returned failure is the one that completed first,
+     * not necessarily the first one in declaration order.
+     *
+     * @param t        the value to validate
+     * @param executor the executor evaluating the rules (must not be null)
+     * @return a successful result or the failure of the rule that failed first in time
+     * @throws IllegalArgumentException if {@code executor} is null
+     * @throws IllegalStateException    if the calling thread is interrupted while waiting for the rules
+     */
+    public OperationResult firstFailure(T t, ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must be non-null");
+        }
+        var completion = new ExecutorCompletionService<OperationResult>(executor);
+        var futures = new ArrayList<Future<OperationResult>>(all.size());
+        try {
+            for (var rule : all) {
+                futures.add(completion.submit(() -> rule.check(t)));
+            }
+            for (var i = 0; i < futures.size(); i++) {
+                if (await(takeNext(completion)) instanceof OperationResult.Failure failure) {
+                    return failure;
+                }
+            }
+            return OperationResult.successful();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static Future<OperationResult> takeNext(ExecutorCompletionService<OperationResult> completion) {
+        try {
+            return completion.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while examining rules", e);
+        }
+    }
+
+    private static OperationResult await(Future<OperationResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while examining rules", e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Rule evaluation was cancelled", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Rule evaluation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Fuses these rules into a {@link CompiledRules} evaluator with the same semantics as {@link #examine(Object)}.
+     *
+     * @return the compiled rules
+     */
+    public CompiledRules<T> compile() {
+        return new CompiledRules<>(all);
+    }
+
+    /**
+     * Starts building an {@link AdaptiveRules} evaluator that learns the cheapest order of these rules.
+     *
+     * @return a builder of the adaptive evaluator
+     */
+    public AdaptiveRules.AdaptiveRulesBuilder<T> adaptive() {
+        return new AdaptiveRules.AdaptiveRulesBuilder<>(all);
+    }
+
+    /**
+     * Returns an evaluator of these rules that reports every rule evaluation to the given instrumentation.
+     *
+     * @param instrumentation the receiver of evaluation metrics, e.g. {@link RuleMetrics} (must not be null)
+     * @return the instrumented rules
+     * @throws IllegalArgumentException if {@code instrumentation} is null
+     */
+    public InstrumentedRules<T> instrumentedWith(RuleInstrumentation instrumentation) {
+        if (instrumentation == null) {
+            throw new IllegalArgumentException("Instrumentation must be non-null");
+        }
+        return new InstrumentedRules<>(all, instrumentation);
+    }
+
     /**
      * A fluent DSL builder for composing multiple rules into a {@link Rules} object.
      *
@@ -0,0 +1,60 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of examining a value against all rules, holding every failure reason instead of just the first one.
+ * <p>
+ * Produced by {@link Rules#examineAll(Object)}. Failure reasons are kept in the order the rules were declared,
+ * regardless of the order in which the rules completed.
+ *
+ * @param failureReasons the reasons of all failed rules, in declaration order (empty if all rules passed)
+ */
+public record RulesExamination(List<String> failureReasons) {
+
+    private static final String REASON_SEPARATOR = "; ";
+
+    /**
+     * Constructs a {@code RulesExamination} with an immutable copy of the given reasons.
+     *
+     * @throws IllegalArgumentException if {@code failureReasons} is null or contains null elements
+     */
+    public RulesExamination {
+        if (failureReasons == null || failureReasons.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Failure reasons must be non-null");
+        }
+        failureReasons = List.copyOf(failureReasons);
+    }
+
+    /**
+     * Checks if all rules passed.
+     *
+     * @return {@code true} if there are no failure reasons
+     */
+    public boolean isSuccess() {
+        return failureReasons.isEmpty();
+    }
+
+    /**
+     * Checks if any rule failed.
+     *
+     * @return {@code true} if there is at least one failure reason
+     */
+    public boolean isFailure() {
+        return !isSuccess();
+    }
+
+    /**
+     * Converts this examination into a single {@link OperationResult}.
+     *
+     * @return a successful result, or a failure whose message joins all reasons with {@code "; "}
+     */
+    public OperationResult toOperationResult() {
+        return isSuccess()
+                ? OperationResult.successful()
+                : OperationResult.failed(String.join(REASON_SEPARATOR, failureReasons));
+    }
+}
@@ -0,0 +1,23 @@
+package dev.codetoreason.patterns.tactical.rule;
+
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+
+/**
+ * Examines a value against a set of business rules.
+ * <p>
+ * Implemented by {@link Rules} and its optimized counterparts, so that callers can depend on
+ * the examination itself rather than on a particular evaluation strategy.
+ *
+ * @param <T> the type being validated
+ */
+@FunctionalInterface
+public interface RulesExaminer<T> {
+
+    /**
+     * Examines the given value.
+     *
+     * @param t the value to validate
+     * @return a successful result or the result describing the failed rule
+     */
+    OperationResult examine(T t);
+}
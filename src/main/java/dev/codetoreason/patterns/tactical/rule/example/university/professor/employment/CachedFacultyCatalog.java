@@ -0,0 +1,11 @@
+package dev.codetoreason.patterns.tactical.rule.example.university.professor.employment;
+
+import dev.codetoreason.patterns.tactical.infra.repository.CachingEntityRepository;
+import dev.codetoreason.patterns.tactical.infra.repository.CachingEntityRepository.CachingEntityRepositoryBuilder;
+
+class CachedFacultyCatalog extends CachingEntityRepository<FacultyCatalogEntry, FacultyId> implements FacultyCatalog {
+
+    CachedFacultyCatalog(CachingEntityRepositoryBuilder<FacultyCatalogEntry, FacultyId> settings) {
+        super(settings);
+    }
+}
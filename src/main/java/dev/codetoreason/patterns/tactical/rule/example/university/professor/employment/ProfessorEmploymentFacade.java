@@ -2,7 +2,8 @@ package dev.codetoreason.patterns.tactical.rule.example.university.professor.emp
 
 import dev.codetoreason.patterns.tactical.capacity.Capacity;
 import dev.codetoreason.patterns.tactical.quantity.Quantity;
-import dev.codetoreason.patterns.tactical.rule.Rules;
+import dev.codetoreason.patterns.tactical.result.OperationResult;
+import dev.codetoreason.patterns.tactical.rule.RulesExaminer;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +19,7 @@ import static lombok.AccessLevel.PRIVATE;
 public class ProfessorEmploymentFacade {
 
     ProfessorEmploymentConfig config;
-    Rules<ProfessorEmploymentContext> employmentRules;
+    RulesExaminer<ProfessorEmploymentContext> employmentRules;
     FacultyCatalog facultyCatalog;
     ProfessorCatalog professorCatalog;
     ProfessorEmployment professorEmployment;
@@ -28,9 +29,8 @@ public class ProfessorEmploymentFacade {
         var facultyId = application.facultyId();
         var faculty = facultyCatalog.getById(facultyId);
         var context = new ProfessorEmploymentContext(application, faculty);
-        var result = employmentRules.examine(context);
-        if (result.isFailure()) {
-            log.info(result.message());
+        if (employmentRules.examine(context) instanceof OperationResult.Failure failure) {
+            log.info(failure.message());
             return Optional.empty();
         }
         var professorCapacity = Capacity.with(Quantity.of(
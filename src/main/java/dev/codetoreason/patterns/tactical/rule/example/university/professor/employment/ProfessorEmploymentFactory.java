@@ -1,8 +1,12 @@
 package dev.codetoreason.patterns.tactical.rule.example.university.professor.employment;
 
+import dev.codetoreason.patterns.tactical.infra.repository.CachingEntityRepository.CachingEntityRepositoryBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
+import java.util.function.UnaryOperator;
+
+import static dev.codetoreason.patterns.tactical.infra.repository.CachingEntityRepository.readThrough;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor
@@ -15,6 +19,29 @@ public class ProfessorEmploymentFactory {
     ProfessorEmployment professorEmployment;
 
     public ProfessorEmploymentFacade professorEmploymentFacade() {
+        return professorEmploymentFacade(facultyCatalog);
+    }
+
+    /**
+     * Creates the facade reading faculties through a cache in front of the faculty catalog,
+     * configured by the caller, e.g. {@code cache -> cache.expireAfter(Duration.ofHours(1))}.
+     *
+     * @param facultyCacheSettings the configuration of the faculty cache (must not be null)
+     * @return the facade using the cached faculty catalog
+     * @throws IllegalArgumentException if {@code facultyCacheSettings} is null
+     */
+    public ProfessorEmploymentFacade professorEmploymentFacade(
+            UnaryOperator<CachingEntityRepositoryBuilder<FacultyCatalogEntry, FacultyId>> facultyCacheSettings
+    ) {
+        if (facultyCacheSettings == null) {
+            throw new IllegalArgumentException("Faculty cache settings must not be null");
+        }
+        return professorEmploymentFacade(
+                new CachedFacultyCatalog(facultyCacheSettings.apply(readThrough(facultyCatalog)))
+        );
+    }
+
+    private ProfessorEmploymentFacade professorEmploymentFacade(FacultyCatalog facultyCatalog) {
         return new ProfessorEmploymentFacade(
                 professorEmploymentConfig,
                 ProfessorEmploymentRulesFactory.from(professorEmploymentConfig)
@@ -1,5 +1,6 @@
 package dev.codetoreason.patterns.tactical.rule.example.university.professor.employment;
 
+import dev.codetoreason.patterns.tactical.rule.AdaptiveRules;
 import dev.codetoreason.patterns.tactical.rule.Rule;
 import dev.codetoreason.patterns.tactical.rule.RuleFactory;
 import dev.codetoreason.patterns.tactical.rule.Rules;
@@ -16,10 +17,13 @@ class ProfessorEmploymentRulesFactory {
         return new ProfessorEmploymentRulesFactory(config);
     }
 
-    Rules<ProfessorEmploymentContext> createRules() {
+    AdaptiveRules<ProfessorEmploymentContext> createRules() {
         return Rules.when(new YearsOfExperience())
                     .and(new FieldsOfStudy())
-                    .compose();
+                    .compose()
+                    .adaptive()
+                    .strictOrdering()
+                    .build();
     }
 
     private abstract static class ProfessorEmploymentRuleFactory implements RuleFactory<ProfessorEmploymentContext> {
@@ -27,7 +31,8 @@ class ProfessorEmploymentRulesFactory {
         @Override
         public Rule<ProfessorEmploymentContext> create() {
             return Rule.when(this::conditionIsMet)
-                       .orElse(this::buildFailureMessage);
+                       .orElse(this::buildFailureMessage)
+                       .named(getClass().getSimpleName());
         }
 
         abstract boolean conditionIsMet(ProfessorEmploymentContext context);
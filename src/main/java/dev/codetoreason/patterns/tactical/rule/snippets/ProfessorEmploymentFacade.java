@@ -2,6 +2,7 @@ package dev.codetoreason.patterns.tactical.rule.snippets;
 
 import dev.codetoreason.patterns.tactical.capacity.Capacity;
 import dev.codetoreason.patterns.tactical.quantity.Quantity;
+import dev.codetoreason.patterns.tactical.result.OperationResult;
 import dev.codetoreason.patterns.tactical.rule.Rules;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -28,9 +29,8 @@ class ProfessorEmploymentFacade {
         var facultyId = application.facultyId();
         var faculty = facultyCatalog.getById(facultyId);
         var context = new ProfessorEmploymentContext(application, faculty);
-        var result = employmentRules.examine(context);
-        if (result.isFailure()) {
-            log.info(result.message());
+        if (employmentRules.examine(context) instanceof OperationResult.Failure failure) {
+            log.info(failure.message());
             return Optional.empty();
         }
         var professorCapacity = Capacity.with(Quantity.of(
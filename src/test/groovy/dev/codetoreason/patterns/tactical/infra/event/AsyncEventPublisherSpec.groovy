@@ -0,0 +1,218 @@
+package dev.codetoreason.patterns.tactical.infra.event
+
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import static dev.codetoreason.patterns.tactical.infra.event.AsyncEventPublisher.BackPressure.BLOCK
+import static dev.codetoreason.patterns.tactical.infra.event.AsyncEventPublisher.BackPressure.DROP_OLDEST
+import static dev.codetoreason.patterns.tactical.infra.event.AsyncEventPublisher.BackPressure.FAIL
+
+class AsyncEventPublisherSpec extends Specification {
+
+    def received = new CopyOnWriteArrayList<Event>()
+    def batches = new CopyOnWriteArrayList<List<Event>>()
+    def firstDelivery = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+
+    def "should deliver events to all subscribers in publication order"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(8)
+                                               .subscribe { received << it }
+                                               .subscribeToBatches { batches << it }
+                                               .build()
+
+        when:
+            (1..100).each { publisher.publish(new Signal(it)) }
+            publisher.close()
+
+        then:
+            received == (1..100).collect { new Signal(it) }
+            batches.flatten() == received
+    }
+
+    def "should deliver events in batches of limited size"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(16)
+                                               .subscribeToBatches(blockingOnFirstBatch())
+                                               .maxBatchSize(3)
+                                               .build()
+
+        when:
+            publisher.publish(new Signal(1))
+            firstDelivery.await(5, TimeUnit.SECONDS)
+            (2..8).each { publisher.publish(new Signal(it)) }
+            release.countDown()
+            publisher.close()
+
+        then:
+            batches*.size() == [1, 3, 3, 1]
+            batches.flatten() == (1..8).collect { new Signal(it) }
+    }
+
+    def "should drop oldest buffered event when buffer is full"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(2)
+                                               .subscribeToBatches(blockingOnFirstBatch())
+                                               .onFull(DROP_OLDEST)
+                                               .build()
+
+        when:
+            publisher.publish(new Signal(1))
+            firstDelivery.await(5, TimeUnit.SECONDS)
+            (2..4).each { publisher.publish(new Signal(it)) }
+            release.countDown()
+            publisher.close()
+
+        then:
+            batches.flatten() == [new Signal(1), new Signal(3), new Signal(4)]
+            publisher.dropped() == 1
+    }
+
+    def "should fail to publish when buffer is full"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(2)
+                                               .subscribeToBatches(blockingOnFirstBatch())
+                                               .onFull(FAIL)
+                                               .build()
+            publisher.publish(new Signal(1))
+            firstDelivery.await(5, TimeUnit.SECONDS)
+            (2..3).each { publisher.publish(new Signal(it)) }
+
+        when:
+            publisher.publish(new Signal(4))
+
+        then:
+            def ex = thrown(IllegalStateException)
+            ex.message == "Event buffer is full"
+            publisher.backlog() == 2
+
+        cleanup:
+            release.countDown()
+            publisher.close()
+    }
+
+    def "should block publisher until buffer has space"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(1)
+                                               .subscribeToBatches(blockingOnFirstBatch())
+                                               .onFull(BLOCK)
+                                               .build()
+            publisher.publish(new Signal(1))
+            firstDelivery.await(5, TimeUnit.SECONDS)
+            publisher.publish(new Signal(2))
+
+        when:
+            def blocked = CompletableFuture.runAsync { publisher.publish(new Signal(3)) }
+            Thread.sleep(100)
+
+        then:
+            !blocked.isDone()
+
+        when:
+            release.countDown()
+            blocked.get(5, TimeUnit.SECONDS)
+            publisher.close()
+
+        then:
+            batches.flatten() == (1..3).collect { new Signal(it) }
+    }
+
+    def "should keep delivering to other subscribers when one fails"() {
+        given:
+            def failures = new CopyOnWriteArrayList<RuntimeException>()
+            def publisher = AsyncEventPublisher.withCapacity(4)
+                                               .subscribe { throw new IllegalStateException("broken") }
+                                               .subscribe { received << it }
+                                               .onSubscriberFailure { _, e -> failures << e }
+                                               .build()
+
+        when:
+            publisher.publish(new Signal(1))
+            publisher.close()
+
+        then:
+            received == [new Signal(1)]
+            failures*.message == ["broken"]
+    }
+
+    def "should report only the failed event and deliver the rest of its batch"() {
+        given:
+            def failures = new CopyOnWriteArrayList<List<Event>>()
+            def publisher = AsyncEventPublisher.withCapacity(8)
+                                               .subscribeToBatches(blockingOnFirstBatch())
+                                               .subscribe {
+                                                   if (it.value() == 3) throw new IllegalStateException("broken")
+                                                   received << it
+                                               }
+                                               .onSubscriberFailure { events, _ -> failures << events }
+                                               .build()
+
+        when:
+            publisher.publish(new Signal(1))
+            firstDelivery.await(5, TimeUnit.SECONDS)
+            (2..4).each { publisher.publish(new Signal(it)) }
+            release.countDown()
+            publisher.close()
+
+        then:
+            batches == [[new Signal(1)], [new Signal(2), new Signal(3), new Signal(4)]]
+            received == [new Signal(1), new Signal(2), new Signal(4)]
+            failures == [[new Signal(3)]]
+    }
+
+    def "should keep delivering when failure handler fails"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(4)
+                                               .subscribe { if (it.value() == 1) throw new IllegalStateException("broken") }
+                                               .subscribe { received << it }
+                                               .onSubscriberFailure { _, e -> throw e }
+                                               .build()
+
+        when:
+            publisher.publish(new Signal(1))
+            publisher.publish(new Signal(2))
+            publisher.close()
+
+        then:
+            received == [new Signal(1), new Signal(2)]
+    }
+
+    def "should reject events published after close"() {
+        given:
+            def publisher = AsyncEventPublisher.withCapacity(4)
+                                               .subscribe { received << it }
+                                               .build()
+            publisher.close()
+
+        when:
+            publisher.publish(new Signal(1))
+
+        then:
+            def ex = thrown(IllegalStateException)
+            ex.message == "Publisher is closed"
+    }
+
+    def "should require at least one subscriber"() {
+        when:
+            AsyncEventPublisher.withCapacity(4).build()
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "At least one subscriber must be added"
+    }
+
+    private Closure<Void> blockingOnFirstBatch() {
+        return { List<Event> batch ->
+            batches << batch
+            firstDelivery.countDown()
+            release.await(5, TimeUnit.SECONDS)
+        }
+    }
+
+    record Signal(int value) implements Event {
+    }
+}
@@ -0,0 +1,103 @@
+package dev.codetoreason.patterns.tactical.infra.event
+
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+
+class EventBusSpec extends Specification {
+
+    def received = []
+
+    def "should deliver event to subscribers of its class in subscription order"() {
+        given:
+            def bus = EventBus.builder()
+                              .subscribe(Shipped) { received << "first $it.parcel()".toString() }
+                              .subscribe(Shipped) { received << "second $it.parcel()".toString() }
+                              .build()
+
+        when:
+            bus.publish(new Shipped("P-1"))
+
+        then:
+            received == ["first P-1", "second P-1"]
+    }
+
+    def "should deliver event to subscribers of its supertypes"() {
+        given:
+            def bus = EventBus.builder()
+                              .subscribe(Event) { received << "any" }
+                              .subscribe(ParcelEvent) { received << "parcel" }
+                              .subscribe(Shipped) { received << "shipped" }
+                              .subscribe(Lost) { received << "lost" }
+                              .build()
+
+        when:
+            bus.publish(new Shipped("P-1"))
+
+        then:
+            received == ["any", "parcel", "shipped"]
+            bus.subscribersOf(Shipped) == 3
+            bus.subscribersOf(Lost) == 3
+            bus.subscribersOf(Unrelated) == 1
+    }
+
+    def "should ignore events without subscribers"() {
+        given:
+            def bus = EventBus.builder()
+                              .subscribe(Shipped) { received << it }
+                              .build()
+
+        when:
+            bus.publish(new Unrelated())
+
+        then:
+            received.isEmpty()
+    }
+
+    def "should run asynchronous subscribers on the executor"() {
+        given:
+            def tasks = []
+            def bus = EventBus.builder()
+                              .subscribeAsync(Shipped) { received << "async" }
+                              .subscribe(Shipped) { received << "inline" }
+                              .asyncExecutor({ tasks << it } as Executor)
+                              .build()
+
+        when:
+            bus.publish(new Shipped("P-1"))
+
+        then:
+            received == ["inline"]
+            tasks.size() == 1
+
+        when:
+            tasks.each { it.run() }
+
+        then:
+            received == ["inline", "async"]
+    }
+
+    def "should not accept null event"() {
+        given:
+            def bus = EventBus.builder().build()
+
+        when:
+            bus.publish(null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Event must not be null"
+    }
+
+    interface ParcelEvent extends Event {
+    }
+
+    record Shipped(String parcel) implements ParcelEvent {
+    }
+
+    record Lost(String parcel) implements ParcelEvent {
+    }
+
+    record Unrelated() implements Event {
+    }
+}
@@ -0,0 +1,158 @@
+package dev.codetoreason.patterns.tactical.infra.event
+
+import dev.codetoreason.patterns.tactical.result.example.order.fulfillment.OrderFulfilledEvent
+import dev.codetoreason.patterns.tactical.result.example.order.fulfillment.OrderId
+import dev.codetoreason.patterns.tactical.result.example.order.fulfillment.OrderRejectedEvent
+import dev.codetoreason.patterns.tactical.result.example.order.fulfillment.ShipmentId
+import dev.codetoreason.patterns.tactical.result.example.order.fulfillment.WarehouseId
+import spock.lang.Specification
+
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import java.time.Instant
+
+class RecordEventCodecSpec extends Specification {
+
+    def codec = RecordEventCodec.builder()
+                                .register(1, OrderFulfilledEvent)
+                                .register(2, OrderRejectedEvent)
+                                .register(300, Measured)
+                                .internStrings(OrderRejectedEvent, "reason")
+                                .build()
+
+    def "should decode what it encoded"() {
+        expect:
+            codec.decode(codec.encode(event)) == event
+
+        where:
+            event << [
+                    new OrderFulfilledEvent(new OrderId("order-1"), new WarehouseId("warehouse-1"), new ShipmentId("shipment-1")),
+                    new OrderRejectedEvent(new OrderId("order-2"), "Insufficient stock"),
+                    new OrderRejectedEvent(new OrderId("order-3"), null),
+                    new Measured(-1, Long.MAX_VALUE, 2.5d, true, "zażółć", Unit.KG, new BigDecimal("-1234567890123456789.01"),
+                            UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), Instant.parse("2025-01-01T10:15:30.5Z"),
+                            new Measurement(7, null)),
+                    new Measured(0, 0, 0d, false, null, null, null, null, null, null)
+            ]
+    }
+
+    def "should encode small event compactly"() {
+        expect:
+            codec.encode(new OrderRejectedEvent(new OrderId("o-1"), "No stock")).remaining() == 1 + 1 + 1 + 3 + 1 + 8
+    }
+
+    def "should share decoded strings between events"() {
+        given:
+            def payload = ByteBuffer.allocate(64).put(codec.encode(new OrderRejectedEvent(new OrderId("o-1"), "No stock"))).flip()
+
+        when:
+            def first = codec.decode(payload) as OrderRejectedEvent
+            def second = codec.decode(payload) as OrderRejectedEvent
+
+        then:
+            first.reason().is(second.reason())
+            !first.orderId().value().is(second.orderId().value())
+    }
+
+    def "should reject interning of unknown component"() {
+        when:
+            RecordEventCodec.builder().internStrings(OrderRejectedEvent, "status")
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Record ${OrderRejectedEvent.name} has no String component status"
+    }
+
+    def "should reuse encoding buffer on the same thread"() {
+        expect:
+            codec.encode(new OrderRejectedEvent(new OrderId("o-1"), "a"))
+                 .is(codec.encode(new OrderRejectedEvent(new OrderId("o-2"), "b")))
+    }
+
+    def "should grow encoding buffer for large events"() {
+        given:
+            def event = new OrderRejectedEvent(new OrderId("o-1"), "x" * 10_000)
+
+        expect:
+            codec.decode(codec.encode(event)) == event
+    }
+
+    def "should leave target buffer position unchanged when event does not fit"() {
+        given:
+            def target = ByteBuffer.allocate(4)
+
+        when:
+            codec.encode(new OrderRejectedEvent(new OrderId("o-1"), "No stock"), target)
+
+        then:
+            thrown(BufferOverflowException)
+            target.position() == 0
+    }
+
+    def "should reject unregistered event class"() {
+        when:
+            codec.encode(new Unregistered())
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Event class ${Unregistered.name} is not registered"
+    }
+
+    def "should reject payload of unknown type id"() {
+        when:
+            codec.decode(ByteBuffer.wrap([9] as byte[]))
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Unknown type id 9"
+    }
+
+    def "should reject truncated payload"() {
+        given:
+            def payload = codec.encode(new OrderRejectedEvent(new OrderId("o-1"), "No stock"))
+
+        when:
+            codec.decode(payload.limit(payload.limit() - 1))
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Payload is truncated"
+    }
+
+    def "should reject record with component of unsupported type"() {
+        when:
+            RecordEventCodec.builder().register(1, Listed)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Unsupported component type java.util.List of record ${Listed.name}"
+    }
+
+    def "should reject type id registered twice"() {
+        when:
+            RecordEventCodec.builder()
+                            .register(1, OrderFulfilledEvent)
+                            .register(1, OrderRejectedEvent)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Type id 1 is already registered"
+    }
+
+    enum Unit {
+        KG, LB
+    }
+
+    record Measurement(int value, String label) {
+    }
+
+    record Measured(int delta, long total, double ratio, boolean exact, String note, Unit unit, BigDecimal amount,
+                    UUID sensor, Instant at, Measurement measurement) implements Event {
+    }
+
+    record Listed(List<String> values) implements Event {
+    }
+
+    record Unregistered() implements Event {
+    }
+}
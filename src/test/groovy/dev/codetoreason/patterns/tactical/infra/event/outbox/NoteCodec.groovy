@@ -0,0 +1,23 @@
+package dev.codetoreason.patterns.tactical.infra.event.outbox
+
+import dev.codetoreason.patterns.tactical.infra.event.Event
+import dev.codetoreason.patterns.tactical.infra.event.EventCodec
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class NoteCodec implements EventCodec {
+
+    @Override
+    ByteBuffer encode(Event event) {
+        ByteBuffer.wrap((event as Note).text().getBytes(StandardCharsets.UTF_8))
+    }
+
+    @Override
+    Event decode(ByteBuffer payload) {
+        new Note(StandardCharsets.UTF_8.decode(payload.duplicate()).toString())
+    }
+
+    record Note(String text) implements Event {
+    }
+}
@@ -0,0 +1,93 @@
+package dev.codetoreason.patterns.tactical.infra.event.outbox
+
+import dev.codetoreason.patterns.tactical.infra.event.outbox.NoteCodec.Note
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class OutboxEventPublisherSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    def "should store published event durably before returning"() {
+        given:
+            def outbox = OutboxEventPublisher.at(directory.resolve("outbox.log"), new NoteCodec())
+                                             .syncAfter(Duration.ofMillis(1))
+                                             .build()
+
+        when:
+            outbox.publish(new Note("shipped"))
+
+        then:
+            outbox.durableEnd() == outbox.log().end()
+            decoded(outbox) == [new Note("shipped")]
+
+        cleanup:
+            outbox.close()
+    }
+
+    def "should commit events published concurrently in groups"() {
+        given:
+            def outbox = OutboxEventPublisher.at(directory.resolve("outbox.log"), new NoteCodec())
+                                             .syncEvery(8)
+                                             .syncAfter(Duration.ofMillis(5))
+                                             .build()
+            def executor = Executors.newFixedThreadPool(8)
+
+        when:
+            (1..8).each { thread ->
+                executor.submit { (1..50).each { outbox.publish(new Note("$thread-$it".toString())) } }
+            }
+            executor.shutdown()
+            executor.awaitTermination(30, TimeUnit.SECONDS)
+
+        then:
+            decoded(outbox).size() == 400
+            outbox.durableEnd() == outbox.log().end()
+
+        cleanup:
+            outbox.close()
+    }
+
+    def "should keep events after reopening"() {
+        given:
+            def file = directory.resolve("outbox.log")
+            def outbox = OutboxEventPublisher.at(file, new NoteCodec()).build()
+            outbox.publish(new Note("first"))
+            outbox.publish(new Note("second"))
+            outbox.close()
+
+        when:
+            def reopened = OutboxEventPublisher.at(file, new NoteCodec()).build()
+
+        then:
+            decoded(reopened) == [new Note("first"), new Note("second")]
+
+        cleanup:
+            reopened.close()
+    }
+
+    def "should reject events published after close"() {
+        given:
+            def outbox = OutboxEventPublisher.at(directory.resolve("outbox.log"), new NoteCodec()).build()
+            outbox.close()
+
+        when:
+            outbox.publish(new Note("late"))
+
+        then:
+            def ex = thrown(IllegalStateException)
+            ex.message == "Outbox is closed"
+    }
+
+    private static List<Note> decoded(OutboxEventPublisher outbox) {
+        def notes = []
+        outbox.log().forEach { offset, payload -> notes << outbox.codec().decode(payload) }
+        notes
+    }
+}
@@ -0,0 +1,172 @@
+package dev.codetoreason.patterns.tactical.infra.event.outbox
+
+import dev.codetoreason.patterns.tactical.infra.event.EventPublisher
+import dev.codetoreason.patterns.tactical.infra.event.outbox.NoteCodec.Note
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static java.nio.file.StandardOpenOption.WRITE
+
+class OutboxRelaySpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    OutboxEventPublisher outbox
+    def received = new CopyOnWriteArrayList<Note>()
+
+    def setup() {
+        outbox = OutboxEventPublisher.at(directory.resolve("outbox.log"), new NoteCodec()).build()
+    }
+
+    def cleanup() {
+        outbox.close()
+    }
+
+    def "should deliver pending events in publication order"() {
+        given:
+            def relay = relayTo { received << it }
+            ["a", "b", "c"].each { outbox.publish(new Note(it)) }
+
+        when:
+            def delivered = relay.relayPending()
+
+        then:
+            delivered == 3
+            received == [new Note("a"), new Note("b"), new Note("c")]
+            relay.relayPending() == 0
+
+        cleanup:
+            relay.close()
+    }
+
+    def "should resume delivery at remembered offset after restart"() {
+        given:
+            def relay = relayTo { received << it }
+            outbox.publish(new Note("a"))
+            relay.relayPending()
+            relay.close()
+            outbox.publish(new Note("b"))
+
+        when:
+            def restarted = relayTo { received << it }
+            restarted.relayPending()
+
+        then:
+            received == [new Note("a"), new Note("b")]
+
+        cleanup:
+            restarted.close()
+    }
+
+    def "should deliver failed event again on the next attempt"() {
+        given:
+            def failing = true
+            def relay = relayTo {
+                if (it.text() == "b" && failing) {
+                    failing = false
+                    throw new IllegalStateException("broker unavailable")
+                }
+                received << it
+            }
+            ["a", "b", "c"].each { outbox.publish(new Note(it)) }
+
+        when:
+            relay.relayPending()
+
+        then:
+            thrown(IllegalStateException)
+            received == [new Note("a")]
+
+        when:
+            relay.relayPending()
+
+        then:
+            received == [new Note("a"), new Note("b"), new Note("c")]
+
+        cleanup:
+            relay.close()
+    }
+
+    def "should delete outbox segments holding only delivered events"() {
+        given:
+            def small = OutboxEventPublisher.at(directory.resolve("small.log"), new NoteCodec())
+                                            .segmentSize(64)
+                                            .build()
+            def relay = OutboxRelay.from(small)
+                                   .to { received << it }
+                                   .trackingOffsetIn(directory.resolve("small.offset"))
+                                   .build()
+            (1..20).each { small.publish(new Note("note-$it".toString())) }
+            def segments = small.log().segmentCount()
+
+        when:
+            relay.relayPending()
+
+        then:
+            received.size() == 20
+            small.log().segmentCount() < segments
+            relay.relayPending() == 0
+
+        cleanup:
+            relay.close()
+            small.close()
+    }
+
+    def "should start over when remembered offset is torn"() {
+        given:
+            def relay = relayTo { received << it }
+            ["a", "b"].each { outbox.publish(new Note(it)) }
+            relay.relayPending()
+            relay.close()
+            FileChannel.open(directory.resolve("outbox.offset"), WRITE).withCloseable {
+                it.write(ByteBuffer.wrap([0x7F] as byte[]), 2)
+            }
+
+        when:
+            def restarted = relayTo { received << it }
+            restarted.relayPending()
+
+        then:
+            received == [new Note("a"), new Note("b"), new Note("a"), new Note("b")]
+
+        cleanup:
+            restarted.close()
+    }
+
+    def "should relay events continuously once started"() {
+        given:
+            def relay = OutboxRelay.from(outbox)
+                                   .to { received << it }
+                                   .trackingOffsetIn(directory.resolve("outbox.offset"))
+                                   .pollEvery(Duration.ofMillis(1))
+                                   .build()
+                                   .start()
+
+        when:
+            outbox.publish(new Note("a"))
+            def deadline = System.currentTimeMillis() + 5_000
+            while (received.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5)
+            }
+
+        then:
+            received == [new Note("a")]
+
+        cleanup:
+            relay.close()
+    }
+
+    private OutboxRelay relayTo(Closure<?> subscriber) {
+        OutboxRelay.from(outbox)
+                   .to(subscriber as EventPublisher)
+                   .trackingOffsetIn(directory.resolve("outbox.offset"))
+                   .build()
+    }
+}
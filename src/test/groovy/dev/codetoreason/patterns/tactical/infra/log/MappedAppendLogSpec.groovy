@@ -0,0 +1,177 @@
+package dev.codetoreason.patterns.tactical.infra.log
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.Path
+
+import static java.nio.file.StandardOpenOption.WRITE
+
+class MappedAppendLogSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    def "should read appended records by offset"() {
+        given:
+            def log = MappedAppendLog.open(directory.resolve("test.log"))
+
+        when:
+            def first = log.append(bytes("first"))
+            def second = log.append(bytes("second"))
+
+        then:
+            text(log.read(first)) == "first"
+            text(log.read(second)) == "second"
+
+        cleanup:
+            log.close()
+    }
+
+    def "should replay records after reopening"() {
+        given:
+            def file = directory.resolve("test.log")
+            def log = MappedAppendLog.open(file)
+            ["a", "b", "c"].each { log.append(bytes(it)) }
+            log.close()
+
+        when:
+            def reopened = MappedAppendLog.open(file)
+            def records = []
+            reopened.forEach { offset, payload -> records << text(payload) }
+
+        then:
+            records == ["a", "b", "c"]
+
+        cleanup:
+            reopened.close()
+    }
+
+    def "should grow beyond initial capacity"() {
+        given:
+            def log = MappedAppendLog.open(directory.resolve("test.log"), 64)
+
+        when:
+            def offsets = (1..100).collect { log.append(bytes("record-$it")) }
+
+        then:
+            text(log.read(offsets.last())) == "record-100"
+
+        cleanup:
+            log.close()
+    }
+
+    def "should replay records between offsets"() {
+        given:
+            def log = MappedAppendLog.open(directory.resolve("test.log"))
+            def offsets = ["a", "b", "c", "d"].collect { log.append(bytes(it)) }
+
+        when:
+            def records = []
+            log.forEachBetween(offsets[1], offsets[3]) { offset, payload -> records << text(payload) }
+
+        then:
+            records == ["b", "c"]
+
+        cleanup:
+            log.close()
+    }
+
+    def "should discard torn record and everything after it on recovery"() {
+        given:
+            def file = directory.resolve("test.log")
+            def log = MappedAppendLog.open(file)
+            log.append(bytes("kept"))
+            def torn = log.append(bytes("torn"))
+            log.append(bytes("lost"))
+            log.close()
+            corrupt(file, torn + 9)
+
+        when:
+            def recovered = MappedAppendLog.open(file)
+            def records = []
+            recovered.forEach { offset, payload -> records << text(payload) }
+
+        then:
+            records == ["kept"]
+            recovered.end() == torn
+
+        when:
+            recovered.append(bytes("appended"))
+            recovered.close()
+            def reopened = MappedAppendLog.open(file)
+            records = []
+            reopened.forEach { offset, payload -> records << text(payload) }
+
+        then:
+            records == ["kept", "appended"]
+
+        cleanup:
+            reopened?.close()
+    }
+
+    def "should reject empty payload"() {
+        given:
+            def log = MappedAppendLog.open(directory.resolve("test.log"))
+
+        when:
+            log.append(ByteBuffer.allocate(0))
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Payload must not be null or empty"
+
+        cleanup:
+            log.close()
+    }
+
+    def "should reject reading where no record starts"() {
+        given:
+            def log = MappedAppendLog.open(directory.resolve("test.log"))
+            log.append(bytes("record"))
+
+        when:
+            log.read(log.end())
+
+        then:
+            thrown(IllegalArgumentException)
+
+        cleanup:
+            log.close()
+    }
+
+    def "should reject replaying from an offset inside a record"() {
+        given:
+            def log = MappedAppendLog.open(directory.resolve("test.log"))
+            def offset = log.append(bytes("record"))
+
+        when:
+            log.forEachBetween(offset + 1, log.end()) { recordOffset, payload -> }
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "No record at offset ${offset + 1}"
+            !log.hasRecordAt(offset + 1)
+            log.hasRecordAt(offset)
+
+        cleanup:
+            log.close()
+    }
+
+    private static ByteBuffer bytes(String text) {
+        ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))
+    }
+
+    private static String text(ByteBuffer payload) {
+        StandardCharsets.UTF_8.decode(payload).toString()
+    }
+
+    private static void corrupt(Path file, long position) {
+        FileChannel.open(file, WRITE).withCloseable {
+            it.write(ByteBuffer.wrap([0x7F] as byte[]), position)
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.codetoreason.patterns.tactical.infra.log
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+
+class SegmentedAppendLogSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    def "should roll over to a new segment once the segment is full"() {
+        given:
+            def log = SegmentedAppendLog.open(directory.resolve("test.log"), 64)
+
+        when:
+            (1..20).each { log.append(bytes("record-$it")) }
+
+        then:
+            log.segmentCount() > 1
+            records(log) == (1..20).collect { "record-$it" as String }
+
+        cleanup:
+            log.close()
+    }
+
+    def "should replay records of all segments after reopening"() {
+        given:
+            def file = directory.resolve("test.log")
+            def log = SegmentedAppendLog.open(file, 64)
+            (1..20).each { log.append(bytes("record-$it")) }
+            log.close()
+
+        when:
+            def reopened = SegmentedAppendLog.open(file, 64)
+
+        then:
+            records(reopened) == (1..20).collect { "record-$it" as String }
+
+        cleanup:
+            reopened.close()
+    }
+
+    def "should delete segments holding only records before the given position"() {
+        given:
+            def log = SegmentedAppendLog.open(directory.resolve("test.log"), 64)
+            def positions = (1..20).collect { log.append(bytes("record-$it")) }
+            def segments = log.segmentCount()
+
+        when:
+            def deleted = log.deleteBefore(positions[10])
+
+        then:
+            deleted > 0
+            log.segmentCount() == segments - deleted
+            Files.list(directory).count() == log.segmentCount()
+            records(log).contains("record-11")
+            !records(log).contains("record-1")
+            log.isRecordBoundary(positions[10])
+            !log.isRecordBoundary(positions[0])
+
+        cleanup:
+            log.close()
+    }
+
+    def "should never delete the last segment"() {
+        given:
+            def log = SegmentedAppendLog.open(directory.resolve("test.log"), 64)
+            log.append(bytes("record"))
+
+        when:
+            log.deleteBefore(log.end())
+
+        then:
+            log.segmentCount() == 1
+            records(log) == ["record"]
+
+        cleanup:
+            log.close()
+    }
+
+    def "should reject segment size smaller than 64 bytes"() {
+        when:
+            SegmentedAppendLog.open(directory.resolve("test.log"), 32)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Segment size must be at least 64 bytes"
+    }
+
+    private static List<String> records(SegmentedAppendLog log) {
+        def records = []
+        log.forEach { position, payload -> records << StandardCharsets.UTF_8.decode(payload).toString() }
+        records
+    }
+
+    private static ByteBuffer bytes(String text) {
+        ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))
+    }
+}
@@ -0,0 +1,385 @@
+package dev.codetoreason.patterns.tactical.infra.repository
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class CachingEntityRepositorySpec extends Specification {
+
+    def clock = new MutableClock()
+    def delegate = new CountingProductRepository()
+
+    def "should load entity from decorated repository only once"() {
+        given:
+            delegate.save(new Product(1, "chair"))
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            def first = repository.findById(1)
+            def second = repository.findById(1)
+
+        then:
+            first.get() == new Product(1, "chair")
+            second.get() == first.get()
+            delegate.lookups == 1
+            repository.statistics().hits() == 1
+            repository.statistics().misses() == 1
+    }
+
+    def "should reload entity after expiration"() {
+        given:
+            delegate.save(new Product(1, "chair"))
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .expireAfter(Duration.ofMinutes(1))
+                                                    .withClock(clock)
+                                                    .build()
+            repository.findById(1)
+
+        when:
+            clock.advance(Duration.ofSeconds(59))
+            repository.findById(1)
+
+        then:
+            delegate.lookups == 1
+
+        when:
+            clock.advance(Duration.ofSeconds(1))
+            repository.findById(1)
+
+        then:
+            delegate.lookups == 2
+    }
+
+    def "should keep frequently used entity when full"() {
+        given:
+            (1..3).each { delegate.save(new Product(it, "product $it".toString())) }
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .maximumSize(2)
+                                                    .withClock(clock)
+                                                    .build()
+            repository.findById(1)
+            repository.findById(2)
+            repository.findById(1)
+
+        when:
+            repository.findById(3)
+            repository.findById(1)
+            repository.findById(2)
+
+        then:
+            delegate.lookups == 4
+            repository.statistics().evictions() == 2
+    }
+
+    def "should keep frequently used entities when scanning many others"() {
+        given:
+            (1..110).each { delegate.save(new Product(it, "product $it".toString())) }
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .maximumSize(10)
+                                                    .withClock(clock)
+                                                    .build()
+            5.times { (1..9).each { repository.findById(it) } }
+
+        when:
+            (11..110).each { repository.findById(it) }
+            def lookupsAfterScan = delegate.lookups
+            (1..9).each { repository.findById(it) }
+
+        then:
+            delegate.lookups == lookupsAfterScan
+            repository.size() == 10
+    }
+
+    def "should serve concurrent lookups from the cache"() {
+        given:
+            (1..100).each { delegate.save(new Product(it, "product $it".toString())) }
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .maximumSize(1_000)
+                                                    .withClock(clock)
+                                                    .build()
+            repository.findAllById(1..100)
+            def pool = Executors.newFixedThreadPool(8)
+
+        when:
+            def lookups = (1..8).collect {
+                pool.submit({ (1..1_000).every { repository.findById(it % 100 + 1).isPresent() } } as Callable<Boolean>)
+            }
+
+        then:
+            lookups.every { it.get() }
+            repository.statistics().hits() == 8_000
+            delegate.lookups == 1
+            repository.size() == 100
+
+        cleanup:
+            pool.shutdownNow()
+    }
+
+    def "should not cache misses by default"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            repository.findById(1)
+            repository.findById(1)
+
+        then:
+            delegate.lookups == 2
+    }
+
+    def "should cache misses for the configured time"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .cacheMisses(Duration.ofSeconds(10))
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            def first = repository.findById(1)
+            def second = repository.findById(1)
+
+        then:
+            first.isEmpty()
+            second.isEmpty()
+            delegate.lookups == 1
+
+        when:
+            delegate.save(new Product(1, "chair"))
+            clock.advance(Duration.ofSeconds(10))
+
+        then:
+            repository.findById(1).get() == new Product(1, "chair")
+            delegate.lookups == 2
+    }
+
+    def "should replace cached miss with saved entity"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .cacheMisses(Duration.ofMinutes(1))
+                                                    .withClock(clock)
+                                                    .build()
+            repository.findById(1)
+
+        when:
+            repository.save(new Product(1, "chair"))
+
+        then:
+            repository.findById(1).get() == new Product(1, "chair")
+            delegate.findById(1).get() == new Product(1, "chair")
+            delegate.lookups == 2
+    }
+
+    def "should load only missing entities when finding by ids"() {
+        given:
+            (1..3).each { delegate.save(new Product(it, "product $it".toString())) }
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .cacheMisses(Duration.ofMinutes(1))
+                                                    .withClock(clock)
+                                                    .build()
+            repository.findById(2)
+
+        when:
+            def found = repository.findAllById([3, 4, 2, 1])
+
+        then:
+            found.keySet() as List == [3, 2, 1]
+            delegate.requestedIds == [[2], [3, 4, 1]]
+
+        when:
+            repository.findAllById([1, 2, 3, 4])
+
+        then:
+            delegate.requestedIds.size() == 2
+    }
+
+    def "should save entities in batches when writing behind"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .writeBehind(3)
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            repository.save(new Product(1, "chair"))
+            repository.save(new Product(2, "table"))
+
+        then:
+            delegate.savedBatches.isEmpty()
+            repository.findById(1).get() == new Product(1, "chair")
+            delegate.lookups == 0
+
+        when:
+            repository.save(new Product(1, "armchair"))
+            repository.save(new Product(3, "lamp"))
+
+        then:
+            delegate.savedBatches == [[new Product(1, "armchair"), new Product(2, "table"), new Product(3, "lamp")]]
+    }
+
+    def "should save pending entities of idle repository once write-behind delay passes"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .writeBehind(100, Duration.ofMillis(200))
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            repository.save(new Product(1, "chair"))
+
+        then:
+            delegate.savedBatches.isEmpty()
+            new PollingConditions(timeout: 5).eventually {
+                assert delegate.savedBatches == [[new Product(1, "chair")]]
+            }
+
+        cleanup:
+            repository.close()
+    }
+
+    def "should save pending entities with the given flush scheduler"() {
+        given:
+            def scheduler = Executors.newSingleThreadScheduledExecutor()
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .writeBehind(100, Duration.ofMillis(10))
+                                                    .flushScheduler(scheduler)
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            repository.save(new Product(1, "chair"))
+            repository.close()
+            repository.save(new Product(2, "table"))
+
+        then:
+            !scheduler.isShutdown()
+            new PollingConditions(timeout: 5).eventually {
+                assert delegate.savedBatches == [[new Product(1, "chair")], [new Product(2, "table")]]
+            }
+
+        cleanup:
+            scheduler.shutdownNow()
+    }
+
+    def "should save pending entities on close"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .writeBehind(100)
+                                                    .withClock(clock)
+                                                    .build()
+            repository.save(new Product(1, "chair"))
+
+        when:
+            repository.close()
+
+        then:
+            delegate.findById(1).get() == new Product(1, "chair")
+    }
+
+    def "should serve pending entity even if evicted from cache"() {
+        given:
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .maximumSize(1)
+                                                    .writeBehind(100)
+                                                    .withClock(clock)
+                                                    .build()
+
+        when:
+            repository.save(new Product(1, "chair"))
+            repository.save(new Product(2, "table"))
+
+        then:
+            repository.findById(1).get() == new Product(1, "chair")
+            delegate.lookups == 0
+    }
+
+    def "should reload entity after invalidation"() {
+        given:
+            delegate.save(new Product(1, "chair"))
+            def repository = CachingEntityRepository.readThrough(delegate)
+                                                    .withClock(clock)
+                                                    .build()
+            repository.findById(1)
+
+        when:
+            delegate.save(new Product(1, "armchair"))
+            repository.invalidate(1)
+
+        then:
+            repository.findById(1).get() == new Product(1, "armchair")
+    }
+
+    def "should not accept null repository"() {
+        when:
+            CachingEntityRepository.readThrough(null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Repository must not be null"
+    }
+
+    record Product(Integer id, String name) implements Entity<Integer> {
+    }
+
+    static class CountingProductRepository extends InMemoryEntityRepository<Product, Integer> {
+
+        int lookups
+        List<List<Integer>> requestedIds = []
+        List<List<Product>> savedBatches = []
+
+        @Override
+        Optional<Product> findById(Integer id) {
+            lookups++
+            requestedIds << [id]
+            super.findById(id)
+        }
+
+        @Override
+        Map<Integer, Product> findAllById(Collection<? extends Integer> ids) {
+            lookups++
+            requestedIds << (ids as List)
+            findAll().findAll { it.id() in ids }
+                     .collectEntries { [(it.id()): it] }
+        }
+
+        @Override
+        void saveAll(Collection<? extends Product> entities) {
+            savedBatches << (entities as List)
+            entities.each { save(it) }
+        }
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z")
+
+        void advance(Duration duration) {
+            now = now + duration
+        }
+
+        @Override
+        ZoneId getZone() {
+            ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            this
+        }
+
+        @Override
+        Instant instant() {
+            now
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.codetoreason.patterns.tactical.infra.repository
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class ConcurrentInMemoryEntityRepositorySpec extends Specification {
+
+    def repository = new AccountRepository()
+
+    def "should find saved entity by id"() {
+        given:
+            repository.save(new Account(1, 100))
+
+        expect:
+            repository.findById(1).get().balance() == 100
+            repository.findById(2).isEmpty()
+    }
+
+    def "should replace entity with the same id"() {
+        when:
+            repository.save(new Account(1, 100))
+            repository.save(new Account(1, 50))
+
+        then:
+            repository.findAll() == [new Account(1, 50)]
+    }
+
+    def "should return snapshot not affected by subsequent writes"() {
+        given:
+            repository.save(new Account(1, 100))
+            def snapshot = repository.findAll()
+
+        when:
+            repository.save(new Account(2, 200))
+
+        then:
+            snapshot == [new Account(1, 100)]
+            repository.findAll().size() == 2
+    }
+
+    def "should filter entities of a snapshot"() {
+        given:
+            (1..10).each { repository.save(new Account(it, it * 10)) }
+
+        expect:
+            repository.findAllBy { it.balance() > 80 } as Set == [new Account(9, 90), new Account(10, 100)] as Set
+    }
+
+    def "should take consistent snapshots while entities are being written concurrently"() {
+        given:
+            def accounts = 100
+            (1..accounts).each { repository.save(new Account(it, 0)) }
+            def writers = Executors.newFixedThreadPool(4)
+            def start = new CountDownLatch(1)
+            def rounds = 200
+            (1..4).each { writer ->
+                writers.submit {
+                    start.await()
+                    (1..rounds).each { round ->
+                        (1..accounts).each { id -> repository.save(new Account(id, round)) }
+                    }
+                }
+            }
+
+        when:
+            start.countDown()
+            def snapshots = (1..200).collect { repository.findAll() }
+
+        then:
+            snapshots.every { it.size() == accounts }
+
+        cleanup:
+            writers.shutdown()
+            writers.awaitTermination(10, TimeUnit.SECONDS)
+    }
+
+    def "should save all entities as a single write"() {
+        given:
+            repository.save(new Account(1, 100))
+            def snapshot = repository.findAll()
+
+        when:
+            repository.saveAll([new Account(1, 50), new Account(2, 200)])
+
+        then:
+            snapshot == [new Account(1, 100)]
+            repository.findAll() as Set == [new Account(1, 50), new Account(2, 200)] as Set
+    }
+
+    def "should find entities by ids in the requested order skipping missing ones"() {
+        given:
+            repository.saveAll((1..3).collect { new Account(it, it * 10) })
+
+        expect:
+            repository.findAllById([3, 4, 1]) == [3: new Account(3, 30), 1: new Account(1, 10)]
+    }
+
+    def "should scan a snapshot in batches"() {
+        given:
+            repository.saveAll((1..5).collect { new Account(it, it * 10) })
+            def batches = []
+
+        when:
+            repository.scan(2) {
+                batches << it
+                repository.save(new Account(100 + batches.size(), 0))
+            }
+
+        then:
+            batches*.size() == [2, 2, 1]
+            batches.flatten()*.id() as Set == (1..5) as Set
+            repository.findAll().size() == 8
+    }
+
+    record Account(Integer id, int balance) implements Entity<Integer> {
+    }
+
+    static class AccountRepository extends ConcurrentInMemoryEntityRepository<Account, Integer> {
+    }
+}
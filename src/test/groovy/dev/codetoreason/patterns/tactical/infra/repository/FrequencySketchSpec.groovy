@@ -0,0 +1,43 @@
+package dev.codetoreason.patterns.tactical.infra.repository
+
+import spock.lang.Specification
+
+class FrequencySketchSpec extends Specification {
+
+    def "should estimate frequency of keys"() {
+        given:
+            def sketch = new FrequencySketch(64)
+
+        when:
+            5.times { sketch.increment("hot") }
+            sketch.increment("cold")
+
+        then:
+            sketch.frequency("hot") == 5
+            sketch.frequency("cold") == 1
+            sketch.frequency("unknown") == 0
+    }
+
+    def "should saturate frequency"() {
+        given:
+            def sketch = new FrequencySketch(64)
+
+        when:
+            20.times { sketch.increment("hot") }
+
+        then:
+            sketch.frequency("hot") == 15
+    }
+
+    def "should age frequencies once enough accesses were recorded"() {
+        given:
+            def sketch = new FrequencySketch(10)
+            10.times { sketch.increment("hot") }
+
+        when:
+            (1..90).each { sketch.increment("key $it".toString()) }
+
+        then:
+            sketch.frequency("hot") < 10
+    }
+}
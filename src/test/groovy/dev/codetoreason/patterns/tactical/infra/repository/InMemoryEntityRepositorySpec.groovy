@@ -0,0 +1,156 @@
+package dev.codetoreason.patterns.tactical.infra.repository
+
+import spock.lang.Specification
+
+class InMemoryEntityRepositorySpec extends Specification {
+
+    def repository = new CityRepository()
+
+    def "should find entities by single-valued index"() {
+        given:
+            repository.save(new City(1, "PL", ["river"] as Set))
+            repository.save(new City(2, "DE", ["river"] as Set))
+            repository.save(new City(3, "PL", ["sea"] as Set))
+
+        expect:
+            repository.findAllByCountry("PL")*.id() == [1, 3]
+            repository.findAllByCountry("FR").isEmpty()
+    }
+
+    def "should find entities by multi-valued index"() {
+        given:
+            repository.save(new City(1, "PL", ["river", "mountains"] as Set))
+            repository.save(new City(2, "DE", ["sea"] as Set))
+
+        expect:
+            repository.findAllByFeature("mountains")*.id() == [1]
+            repository.findAllByFeature("river")*.id() == [1]
+    }
+
+    def "should intersect several indexes"() {
+        given:
+            repository.save(new City(1, "PL", ["river", "sea"] as Set))
+            repository.save(new City(2, "PL", ["river"] as Set))
+            repository.save(new City(3, "DE", ["river", "sea"] as Set))
+
+        expect:
+            repository.findAllByCountryWith("PL", "sea")*.id() == [1]
+            repository.findAllByCountryWith("DE", "mountains").isEmpty()
+    }
+
+    def "should update indexes when entity is replaced"() {
+        given:
+            repository.save(new City(1, "PL", ["river"] as Set))
+
+        when:
+            repository.save(new City(1, "DE", ["sea"] as Set))
+
+        then:
+            repository.findAllByCountry("PL").isEmpty()
+            repository.findAllByCountry("DE")*.id() == [1]
+            repository.findAllByFeature("river").isEmpty()
+            repository.findAllByFeature("sea")*.id() == [1]
+    }
+
+    def "should index entities saved before the index was declared"() {
+        given:
+            repository.save(new City(1, "PL", ["river"] as Set))
+
+        when:
+            def byId = repository.declareIdParityIndex()
+
+        then:
+            repository.findAllBy(byId, 1)*.id() == [1]
+    }
+
+    def "should not index null keys"() {
+        when:
+            repository.save(new City(1, null, null))
+
+        then:
+            repository.findAllByCountry(null).isEmpty()
+            repository.findById(1).isPresent()
+    }
+
+    def "should reject index of another repository"() {
+        when:
+            repository.findAllBy(new CityRepository().byCountry, "PL")
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Index must belong to this repository"
+    }
+
+    def "should save all entities and keep indexes up to date"() {
+        when:
+            repository.saveAll([
+                    new City(1, "PL", ["river"] as Set),
+                    new City(2, "DE", ["sea"] as Set),
+                    new City(1, "DE", ["river"] as Set)
+            ])
+
+        then:
+            repository.findAllByCountry("PL").isEmpty()
+            repository.findAllByCountry("DE")*.id() == [2, 1]
+    }
+
+    def "should find entities by ids in the requested order skipping missing ones"() {
+        given:
+            repository.saveAll((1..3).collect { new City(it, "PL", [] as Set) })
+
+        when:
+            def found = repository.findAllById([3, 4, 1])
+
+        then:
+            found.keySet() as List == [3, 1]
+            found.values()*.id() == [3, 1]
+    }
+
+    def "should scan all entities in batches"() {
+        given:
+            repository.saveAll((1..5).collect { new City(it, "PL", [] as Set) })
+            def batches = []
+
+        when:
+            repository.scan(2) { batches << it }
+
+        then:
+            batches*.size() == [2, 2, 1]
+            batches.flatten()*.id() as Set == (1..5) as Set
+    }
+
+    def "should reject non-positive batch size"() {
+        when:
+            repository.scan(0) {}
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Batch size must be positive"
+    }
+
+    record City(Integer id, String country, Set<String> features) implements Entity<Integer> {
+    }
+
+    static class CityRepository extends InMemoryEntityRepository<City, Integer> {
+
+        final SecondaryIndex<City, Integer, String> byCountry = index(City::country)
+        final SecondaryIndex<City, Integer, String> byFeature = indexMany(City::features)
+
+        List<City> findAllByCountry(String country) {
+            findAllBy(byCountry, country)
+        }
+
+        List<City> findAllByFeature(String feature) {
+            findAllBy(byFeature, feature)
+        }
+
+        List<City> findAllByCountryWith(String country, String feature) {
+            where(byCountry, country).and(byFeature, feature)
+                                     .list()
+        }
+
+        SecondaryIndex<City, Integer, Integer> declareIdParityIndex() {
+            index { City city -> city.id() % 2 }
+        }
+    }
+}
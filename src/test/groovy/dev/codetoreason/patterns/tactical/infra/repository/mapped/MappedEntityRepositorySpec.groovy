@@ -0,0 +1,194 @@
+package dev.codetoreason.patterns.tactical.infra.repository.mapped
+
+import dev.codetoreason.patterns.tactical.infra.repository.Entity
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+
+class MappedEntityRepositorySpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    def "should find saved entity by id"() {
+        given:
+            def repository = new CityRepository(directory.resolve("cities.log"))
+
+        when:
+            repository.save(new City(1, "Cracow"))
+
+        then:
+            repository.findById(1).get() == new City(1, "Cracow")
+            repository.findById(2).isEmpty()
+
+        cleanup:
+            repository.close()
+    }
+
+    def "should return the latest version of an entity"() {
+        given:
+            def repository = new CityRepository(directory.resolve("cities.log"))
+
+        when:
+            repository.save(new City(1, "Krakau"))
+            repository.save(new City(1, "Cracow"))
+
+        then:
+            repository.findById(1).get().name() == "Cracow"
+            repository.size() == 1
+            repository.findAll() == [new City(1, "Cracow")]
+
+        cleanup:
+            repository.close()
+    }
+
+    def "should recover entities after reopening"() {
+        given:
+            def file = directory.resolve("cities.log")
+            def repository = new CityRepository(file)
+            (1..5_000).each { repository.save(new City(it % 1_000, "city-$it")) }
+            repository.close()
+
+        when:
+            def reopened = new CityRepository(file)
+
+        then:
+            reopened.size() == 1_000
+            reopened.findById(999).get().name() == "city-4999"
+            reopened.findAllBy { it.name().endsWith("-5000") } == [new City(0, "city-5000")]
+
+        cleanup:
+            reopened.close()
+    }
+
+    def "should reclaim space of older versions on compaction"() {
+        given:
+            def file = directory.resolve("cities.log")
+            def repository = new CityRepository(file)
+            (1..100_000).each { repository.save(new City(it % 10, "city-$it")) }
+            def sizeBeforeCompaction = Files.size(file)
+
+        when:
+            repository.compact()
+
+        then:
+            Files.size(file) < sizeBeforeCompaction
+            repository.size() == 10
+            repository.findById(0).get().name() == "city-100000"
+
+        when:
+            repository.save(new City(10, "after compaction"))
+            repository.close()
+            def reopened = new CityRepository(file)
+
+        then:
+            reopened.size() == 11
+            reopened.findById(10).get().name() == "after compaction"
+
+        cleanup:
+            reopened?.close()
+    }
+
+    def "should save all entities at once"() {
+        given:
+            def repository = new CityRepository(directory.resolve("cities.log"))
+
+        when:
+            repository.saveAll([new City(1, "Krakau"), new City(2, "Warsaw"), new City(1, "Cracow")])
+
+        then:
+            repository.size() == 2
+            repository.findById(1).get().name() == "Cracow"
+            repository.findById(2).get().name() == "Warsaw"
+
+        cleanup:
+            repository.close()
+    }
+
+    def "should find entities by ids in the requested order skipping missing ones"() {
+        given:
+            def repository = new CityRepository(directory.resolve("cities.log"))
+            repository.saveAll([new City(1, "Cracow"), new City(2, "Warsaw"), new City(3, "Gdansk")])
+
+        expect:
+            repository.findAllById([3, 4, 1]) == [3: new City(3, "Gdansk"), 1: new City(1, "Cracow")]
+
+        cleanup:
+            repository.close()
+    }
+
+    def "should scan current versions of entities in batches"() {
+        given:
+            def repository = new CityRepository(directory.resolve("cities.log"))
+            repository.saveAll((1..5).collect { new City(it, "old $it".toString()) })
+            repository.saveAll((1..5).collect { new City(it, "new $it".toString()) })
+            def batches = []
+
+        when:
+            repository.scan(2) {
+                batches << it
+                repository.save(new City(100 + batches.size(), "saved while scanning"))
+            }
+
+        then:
+            batches*.size() == [2, 2, 1]
+            batches.flatten()*.name() as Set == (1..5).collect { "new $it".toString() } as Set
+            repository.size() == 8
+
+        cleanup:
+            repository.close()
+    }
+
+    def "should fail scan when repository is compacted while being scanned"() {
+        given:
+            def repository = new CityRepository(directory.resolve("cities.log"))
+            repository.saveAll((1..4).collect { new City(it, "city $it".toString()) })
+
+        when:
+            repository.scan(2) { repository.compact() }
+
+        then:
+            thrown(IllegalStateException)
+
+        cleanup:
+            repository.close()
+    }
+
+    record City(Integer id, String name) implements Entity<Integer> {
+    }
+
+    static class CityCodec implements EntityCodec<City, Integer> {
+
+        @Override
+        ByteBuffer encode(City city) {
+            def name = city.name().getBytes(StandardCharsets.UTF_8)
+            ByteBuffer.allocate(Integer.BYTES + name.length)
+                      .putInt(city.id())
+                      .put(name)
+                      .flip()
+        }
+
+        @Override
+        City decode(ByteBuffer payload) {
+            def buffer = payload.duplicate()
+            def id = buffer.getInt()
+            new City(id, StandardCharsets.UTF_8.decode(buffer).toString())
+        }
+
+        @Override
+        Integer decodeId(ByteBuffer payload) {
+            payload.getInt(payload.position())
+        }
+    }
+
+    static class CityRepository extends MappedEntityRepository<City, Integer> {
+
+        CityRepository(Path file) {
+            super(file, new CityCodec())
+        }
+    }
+}
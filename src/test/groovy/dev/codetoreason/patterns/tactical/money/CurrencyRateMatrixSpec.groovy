@@ -0,0 +1,114 @@
+package dev.codetoreason.patterns.tactical.money
+
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR
+import static dev.codetoreason.patterns.tactical.money.Currency.PLN
+import static dev.codetoreason.patterns.tactical.money.Currency.USD
+
+class CurrencyRateMatrixSpec extends Specification {
+
+    def matrix = CurrencyRateMatrix.pivotedAt(PLN)
+                                   .rate(EUR, new BigDecimal("4"))
+                                   .rate(USD, new BigDecimal("2"))
+                                   .build()
+
+    def "should return identity factor for same currency"() {
+        expect:
+            matrix.factor(EUR, EUR) == BigDecimal.ONE
+    }
+
+    def "should return factors to and from pivot currency"() {
+        expect:
+            matrix.factor(EUR, PLN) == new BigDecimal("4")
+            matrix.factor(PLN, EUR) == new BigDecimal("0.25")
+    }
+
+    def "should triangulate cross rates through pivot currency"() {
+        expect:
+            matrix.factor(EUR, USD) == new BigDecimal("2")
+            matrix.factor(USD, EUR) == new BigDecimal("0.5")
+    }
+
+    def "should prefer directly quoted pair over triangulated one"() {
+        given:
+            def quoted = CurrencyRateMatrix.pivotedAt(PLN)
+                                           .rate(EUR, new BigDecimal("4"))
+                                           .rate(USD, new BigDecimal("2"))
+                                           .quote(EUR, USD, new BigDecimal("2.01"))
+                                           .build()
+
+        expect:
+            quoted.factor(EUR, USD) == new BigDecimal("2.01")
+            quoted.factor(USD, EUR) == new BigDecimal("0.5")
+    }
+
+    def "should round triangulated factors"() {
+        given:
+            def thirds = CurrencyRateMatrix.pivotedAt(PLN)
+                                           .rate(EUR, new BigDecimal("3"))
+                                           .build()
+
+        expect:
+            thirds.factor(PLN, EUR) == new BigDecimal("0." + "3" * 34)
+    }
+
+    def "should reject quote of the same currency"() {
+        when:
+            CurrencyRateMatrix.pivotedAt(PLN).quote(EUR, EUR, new BigDecimal("2"))
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Quoted currencies must differ"
+    }
+
+    def "should throw when pair is not reachable"() {
+        given:
+            def partial = CurrencyRateMatrix.pivotedAt(PLN)
+                                            .rate(EUR, new BigDecimal("4"))
+                                            .build()
+
+        when:
+            partial.factor(USD, EUR)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Missing exchange rate from USD to EUR"
+    }
+
+    def "should reject non-positive factor"() {
+        when:
+            CurrencyRateMatrix.pivotedAt(PLN).rate(EUR, BigDecimal.ZERO)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Factor must be positive"
+    }
+
+    def "should convert money into any currency using the same matrix"() {
+        given:
+            def money = Money.of(new BigDecimal("100"), EUR)
+
+        expect:
+            money.convertUsing(matrix, PLN) == Money.of(new BigDecimal("400"), PLN)
+            money.convertUsing(matrix, USD) == Money.of(new BigDecimal("200"), USD)
+            money.convertUsing(matrix, EUR).is(money)
+    }
+
+    def "should throw when converting with null matrix"() {
+        when:
+            Money.of(BigDecimal.TEN, EUR).convertUsing(null, PLN)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Rate matrix must not be null"
+    }
+
+    def "should expose matrix as provider of rates into fixed target"() {
+        given:
+            def provider = matrix.toTarget(PLN)
+
+        expect:
+            Money.of(new BigDecimal("100"), USD).convertTo(PLN, provider) == Money.of(new BigDecimal("200"), PLN)
+    }
+}
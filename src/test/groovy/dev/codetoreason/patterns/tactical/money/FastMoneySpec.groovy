@@ -0,0 +1,139 @@
+package dev.codetoreason.patterns.tactical.money
+
+import dev.codetoreason.patterns.tactical.quantity.Quantity
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR
+import static dev.codetoreason.patterns.tactical.money.Currency.PLN
+import static dev.codetoreason.patterns.tactical.money.Currency.USD
+
+class FastMoneySpec extends Specification {
+
+    def "should create fast money from decimal amount"() {
+        when:
+            def money = FastMoney.of(new BigDecimal("10.50"), USD)
+
+        then:
+            money.minorUnits() == 1050L
+            money.currency() == USD
+    }
+
+    def "should create zero fast money with given currency"() {
+        when:
+            def money = FastMoney.zero(PLN)
+
+        then:
+            money.minorUnits() == 0L
+            money.currency() == PLN
+            money.isZero()
+    }
+
+    def "should throw when creating fast money with null currency"() {
+        when:
+            FastMoney.ofMinorUnits(100L, null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Currency must not be null"
+    }
+
+    def "should throw when amount is finer than currency minor unit"() {
+        when:
+            FastMoney.of(new BigDecimal("10.505"), USD)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Amount 10.505 cannot be represented in minor units of USD"
+    }
+
+    def "should throw when amount does not fit into minor units"() {
+        when:
+            FastMoney.of(new BigDecimal("1e18"), USD)
+
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    def "should convert losslessly from and to money"() {
+        given:
+            def money = Money.of(new BigDecimal("-1234.56"), EUR)
+
+        when:
+            def fastMoney = FastMoney.from(money)
+
+        then:
+            fastMoney.minorUnits() == -123456L
+            fastMoney.toMoney() == money
+    }
+
+    def "should add two fast money values with same currency"() {
+        given:
+            def a = FastMoney.of(new BigDecimal("10.00"), USD)
+            def b = FastMoney.of(new BigDecimal("15.50"), USD)
+
+        when:
+            def result = a.add(b)
+
+        then:
+            result.minorUnits() == 2550L
+            result.currency() == USD
+    }
+
+    def "should throw when adding fast money with different currency"() {
+        given:
+            def a = FastMoney.ofMinorUnits(10L, USD)
+            def b = FastMoney.ofMinorUnits(10L, EUR)
+
+        when:
+            a.add(b)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Cannot add different currencies: USD and EUR"
+    }
+
+    def "should subtract two fast money values with same currency"() {
+        given:
+            def a = FastMoney.ofMinorUnits(2000L, USD)
+            def b = FastMoney.ofMinorUnits(500L, USD)
+
+        expect:
+            a.subtract(b) == FastMoney.ofMinorUnits(1500L, USD)
+    }
+
+    def "should detect overflow instead of wrapping around"() {
+        given:
+            def a = FastMoney.ofMinorUnits(Long.MAX_VALUE, USD)
+
+        when:
+            a.add(FastMoney.ofMinorUnits(1L, USD))
+
+        then:
+            thrown(ArithmeticException)
+    }
+
+    def "should multiply by quantity"() {
+        given:
+            def money = FastMoney.of(new BigDecimal("19.99"), EUR)
+
+        expect:
+            money.multiply(Quantity.of(3)) == FastMoney.ofMinorUnits(5997L, EUR)
+    }
+
+    def "should correctly identify sign of fast money values"() {
+        expect:
+            FastMoney.ofMinorUnits(1L, USD).isPositive()
+            !FastMoney.ofMinorUnits(0L, USD).isPositive()
+            FastMoney.ofMinorUnits(-1L, USD).isNegative()
+            !FastMoney.ofMinorUnits(0L, USD).isNegative()
+    }
+
+    def "matchesCurrency throws on null argument"() {
+        when:
+            FastMoney.zero(PLN).matchesCurrency(null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Currency must not be null"
+    }
+}
@@ -276,4 +276,10 @@ class MoneySpec extends Specification {
             result.amount() == ZERO
             result.currency() == EUR
     }
+
+    def "should reuse cached zero money per currency"() {
+        expect:
+            Money.zero(USD).is(Money.zero(USD))
+            !Money.zero(USD).is(Money.zero(EUR))
+    }
 }
@@ -0,0 +1,126 @@
+package dev.codetoreason.patterns.tactical.money
+
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR
+import static dev.codetoreason.patterns.tactical.money.Currency.PLN
+import static dev.codetoreason.patterns.tactical.money.Currency.USD
+
+class MoneyVectorSpec extends Specification {
+
+    def "should sum only amounts in given currency"() {
+        given:
+            def vector = MoneyVector.empty()
+                                    .append(1050L, PLN)
+                                    .append(999L, EUR)
+                                    .append(50L, PLN)
+
+        expect:
+            vector.sum(PLN) == FastMoney.ofMinorUnits(1100L, PLN)
+            vector.sum(EUR) == FastMoney.ofMinorUnits(999L, EUR)
+            vector.sum(USD) == FastMoney.zero(USD)
+    }
+
+    def "should grow beyond initial capacity"() {
+        given:
+            def vector = MoneyVector.withCapacity(0)
+
+        when:
+            (1..100).each { vector.append(FastMoney.ofMinorUnits(it, USD)) }
+
+        then:
+            vector.size() == 100
+            vector.get(99) == FastMoney.ofMinorUnits(100L, USD)
+            vector.sum(USD).minorUnits() == 5050L
+    }
+
+    def "should append money losslessly"() {
+        given:
+            def vector = MoneyVector.empty()
+                                    .append(Money.of(new BigDecimal("12.34"), EUR))
+
+        expect:
+            vector.get(0) == FastMoney.ofMinorUnits(1234L, EUR)
+    }
+
+    def "should throw when index is out of bounds"() {
+        when:
+            MoneyVector.empty().get(0)
+
+        then:
+            thrown(IndexOutOfBoundsException)
+    }
+
+    def "should group amounts by currency"() {
+        given:
+            def vector = MoneyVector.empty()
+                                    .append(100L, PLN)
+                                    .append(200L, EUR)
+                                    .append(300L, PLN)
+
+        when:
+            def grouped = vector.groupByCurrency()
+
+        then:
+            grouped == [
+                    (EUR): FastMoney.ofMinorUnits(200L, EUR),
+                    (PLN): FastMoney.ofMinorUnits(400L, PLN)
+            ]
+    }
+
+    def "should filter amounts by currency preserving order"() {
+        given:
+            def vector = MoneyVector.empty()
+                                    .append(1L, PLN)
+                                    .append(2L, EUR)
+                                    .append(3L, PLN)
+
+        when:
+            def filtered = vector.filter(PLN)
+
+        then:
+            filtered.size() == 2
+            filtered.get(0) == FastMoney.ofMinorUnits(1L, PLN)
+            filtered.get(1) == FastMoney.ofMinorUnits(3L, PLN)
+    }
+
+    def "should convert each currency total only once"() {
+        given:
+            def vector = MoneyVector.empty()
+                                    .append(10000L, EUR)
+                                    .append(10000L, EUR)
+                                    .append(5000L, PLN)
+            def rateProvider = Mock(TargetCurrencyRateProvider)
+
+        when:
+            def total = vector.sumConverted(PLN, rateProvider)
+
+        then:
+            1 * rateProvider.factorFrom(EUR) >> new BigDecimal("4.25")
+            0 * rateProvider.factorFrom(_)
+        and:
+            total == Money.of(new BigDecimal("900"), PLN)
+    }
+
+    def "should detect overflow while summing"() {
+        given:
+            def vector = MoneyVector.empty()
+                                    .append(Long.MAX_VALUE, USD)
+                                    .append(1L, USD)
+
+        when:
+            vector.sum(USD)
+
+        then:
+            thrown(ArithmeticException)
+    }
+
+    def "should throw when capacity is negative"() {
+        when:
+            MoneyVector.withCapacity(-1)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Capacity cannot be negative"
+    }
+}
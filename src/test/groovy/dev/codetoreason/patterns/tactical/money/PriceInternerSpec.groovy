@@ -0,0 +1,41 @@
+package dev.codetoreason.patterns.tactical.money
+
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.money.Currency.PLN
+
+class PriceInternerSpec extends Specification {
+
+    def "should return canonical instance for equal prices"() {
+        given:
+            def interner = PriceInterner.withMaximumSize(10)
+            def first = Price.of(new BigDecimal("9.99"), PLN)
+            def second = Price.of(new BigDecimal("9.990"), PLN)
+
+        expect:
+            interner.intern(first).is(first)
+            interner.intern(second).is(first)
+            interner.size() == 1
+    }
+
+    def "should stop pooling once maximum size is reached"() {
+        given:
+            def interner = PriceInterner.withMaximumSize(1)
+            interner.intern(Price.of(BigDecimal.ONE, PLN))
+            def notPooled = Price.of(BigDecimal.TEN, PLN)
+
+        expect:
+            interner.intern(notPooled).is(notPooled)
+            !interner.intern(Price.of(BigDecimal.TEN, PLN)).is(notPooled)
+            interner.size() == 1
+    }
+
+    def "should throw when maximum size is not positive"() {
+        when:
+            PriceInterner.withMaximumSize(0)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Maximum size must be positive"
+    }
+}
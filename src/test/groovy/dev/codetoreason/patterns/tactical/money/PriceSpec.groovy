@@ -142,4 +142,36 @@ class PriceSpec extends Specification {
             def ex = thrown(IllegalArgumentException)
             ex.message == "Quantity must not be null"
     }
+
+    def "multiplyFast returns correct FastMoney value for positive quantity"() {
+        given:
+            def price = Price.of(new BigDecimal("19.99"), EUR)
+            def quantity = new Quantity(3)
+
+        when:
+            def total = price.multiplyFast(quantity)
+
+        then:
+            total.minorUnits() == 5997L
+            total.currency() == EUR
+            total.toMoney() == price.multiply(quantity)
+    }
+
+    def "multiplyFast throws when price is finer than currency minor unit"() {
+        given:
+            def price = Price.of(new BigDecimal("0.001"), EUR)
+
+        when:
+            price.multiplyFast(new Quantity(1000))
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Amount 0.001 cannot be represented in minor units of EUR"
+    }
+
+    def "should reuse cached zero price per currency"() {
+        expect:
+            Price.zero(USD).is(Price.zero(USD))
+            Price.zero(EUR).currency() == EUR
+    }
 }
@@ -0,0 +1,162 @@
+package dev.codetoreason.patterns.tactical.money
+
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.RejectedExecutionException
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR
+
+class RefreshAheadRateProviderSpec extends Specification {
+
+    def clock = new MutableClock()
+    def source = Mock(TargetCurrencyRateProvider)
+    def pendingRefreshes = []
+
+    def "should serve cached rates without touching the source"() {
+        given:
+            source.factorFrom(_) >> new BigDecimal("4.25")
+            def provider = build()
+
+        when:
+            clock.advance(Duration.ofMinutes(10))
+            def factor = provider.factorFrom(EUR)
+
+        then:
+            factor == new BigDecimal("4.25")
+            0 * source.factorFrom(_)
+    }
+
+    def "should refresh asynchronously within refresh-ahead window"() {
+        given:
+            def rate = new BigDecimal("4.25")
+            source.factorFrom(_) >> { rate }
+            def provider = build()
+            rate = new BigDecimal("4.30")
+
+        when:
+            clock.advance(Duration.ofMinutes(56))
+            def stale = provider.factorFrom(EUR)
+            provider.factorFrom(EUR)
+
+        then:
+            stale == new BigDecimal("4.25")
+            pendingRefreshes.size() == 1
+
+        when:
+            pendingRefreshes.each { it.run() }
+
+        then:
+            provider.factorFrom(EUR) == new BigDecimal("4.30")
+    }
+
+    def "should refresh synchronously once rates expire"() {
+        given:
+            def rate = new BigDecimal("4.25")
+            source.factorFrom(_) >> { rate }
+            def provider = build()
+            rate = new BigDecimal("4.30")
+
+        when:
+            clock.advance(Duration.ofHours(2))
+
+        then:
+            provider.factorFrom(EUR) == new BigDecimal("4.30")
+            pendingRefreshes.isEmpty()
+    }
+
+    def "should not replace newer rates with late asynchronous refresh"() {
+        given:
+            def rate = new BigDecimal("4.25")
+            source.factorFrom(_) >> { rate }
+            def provider = build()
+            clock.advance(Duration.ofMinutes(56))
+            provider.factorFrom(EUR)
+            rate = new BigDecimal("4.30")
+            clock.advance(Duration.ofMinutes(5))
+            provider.factorFrom(EUR)
+            rate = new BigDecimal("4.35")
+
+        when:
+            pendingRefreshes.each { it.run() }
+
+        then:
+            provider.factorFrom(EUR) == new BigDecimal("4.30")
+    }
+
+    def "should try refreshing again when executor rejected refresh"() {
+        given:
+            source.factorFrom(_) >> new BigDecimal("4.25")
+            def rejecting = true
+            def provider = RefreshAheadRateProvider.from(source)
+                                                   .expireAfter(Duration.ofHours(1))
+                                                   .refreshAhead(Duration.ofMinutes(5))
+                                                   .refreshOn {
+                                                       if (rejecting) {
+                                                           throw new RejectedExecutionException("saturated")
+                                                       }
+                                                       pendingRefreshes << it
+                                                   }
+                                                   .withClock(clock)
+                                                   .build()
+            clock.advance(Duration.ofMinutes(56))
+
+        when:
+            def factor = provider.factorFrom(EUR)
+            rejecting = false
+            provider.factorFrom(EUR)
+
+        then:
+            factor == new BigDecimal("4.25")
+            pendingRefreshes.size() == 1
+    }
+
+    def "should reject refresh-ahead window not shorter than expiration"() {
+        when:
+            RefreshAheadRateProvider.from(source)
+                                    .expireAfter(Duration.ofMinutes(5))
+                                    .refreshAhead(Duration.ofMinutes(5))
+                                    .build()
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Refresh-ahead window must be shorter than expiration"
+    }
+
+    private RefreshAheadRateProvider build() {
+        RefreshAheadRateProvider.from(source)
+                                .expireAfter(Duration.ofHours(1))
+                                .refreshAhead(Duration.ofMinutes(5))
+                                .refreshOn { pendingRefreshes << it }
+                                .withClock(clock)
+                                .build()
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z")
+
+        void advance(Duration duration) {
+            now = now + duration
+        }
+
+        @Override
+        ZoneId getZone() {
+            ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            this
+        }
+
+        @Override
+        Instant instant() {
+            now
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package dev.codetoreason.patterns.tactical.money
+
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR
+import static dev.codetoreason.patterns.tactical.money.Currency.PLN
+import static dev.codetoreason.patterns.tactical.money.Currency.USD
+
+class SnapshotRateProviderSpec extends Specification {
+
+    def "should ask source once per currency and serve captured rates"() {
+        given:
+            def source = Mock(TargetCurrencyRateProvider)
+
+        when:
+            def snapshot = SnapshotRateProvider.capture(source)
+
+        then:
+            1 * source.factorFrom(USD) >> new BigDecimal("3.95")
+            1 * source.factorFrom(EUR) >> new BigDecimal("4.25")
+            1 * source.factorFrom(PLN) >> { throw new IllegalArgumentException("unsupported") }
+
+        when:
+            def factor = snapshot.factorFrom(EUR)
+            snapshot.factorFrom(EUR)
+
+        then:
+            factor == new BigDecimal("4.25")
+            0 * source.factorFrom(_)
+    }
+
+    def "should throw for currency missing in snapshot"() {
+        given:
+            def snapshot = SnapshotRateProvider.of([(EUR): new BigDecimal("4.25")])
+
+        when:
+            snapshot.factorFrom(USD)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "No exchange rate captured for USD"
+    }
+
+    def "should not be affected by later changes of source map"() {
+        given:
+            def factors = [(EUR): new BigDecimal("4.25")]
+            def snapshot = SnapshotRateProvider.of(factors)
+
+        when:
+            factors[EUR] = new BigDecimal("5")
+
+        then:
+            snapshot.factorFrom(EUR) == new BigDecimal("4.25")
+    }
+
+    def "should throw when factors contain null value"() {
+        when:
+            SnapshotRateProvider.of([(EUR): null])
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Each currency and factor must be non-null"
+    }
+
+    def "should convert money using captured rates"() {
+        given:
+            def snapshot = SnapshotRateProvider.of([(EUR): new BigDecimal("4.25")])
+
+        expect:
+            Money.of(BigDecimal.TEN, EUR).convertTo(PLN, snapshot) == Money.of(new BigDecimal("42.5"), PLN)
+    }
+}
@@ -0,0 +1,45 @@
+package dev.codetoreason.patterns.tactical.money
+
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.money.Currency.EUR
+
+class SwappableRateProviderSpec extends Specification {
+
+    def "should serve rates of the latest swapped snapshot"() {
+        given:
+            def initial = SnapshotRateProvider.of([(EUR): new BigDecimal("4.25")])
+            def provider = SwappableRateProvider.initializedWith(initial)
+
+        when:
+            def previous = provider.swap(SnapshotRateProvider.of([(EUR): new BigDecimal("4.30")]))
+
+        then:
+            previous.is(initial)
+            provider.factorFrom(EUR) == new BigDecimal("4.30")
+    }
+
+    def "should refresh rates from source"() {
+        given:
+            def provider = SwappableRateProvider.initializedWith(SnapshotRateProvider.of([:]))
+            TargetCurrencyRateProvider source = { new BigDecimal("2") }
+
+        when:
+            provider.refreshFrom(source)
+
+        then:
+            provider.factorFrom(EUR) == new BigDecimal("2")
+    }
+
+    def "should throw when swapping to null snapshot"() {
+        given:
+            def provider = SwappableRateProvider.initializedWith(SnapshotRateProvider.of([:]))
+
+        when:
+            provider.swap(null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Snapshot must not be null"
+    }
+}
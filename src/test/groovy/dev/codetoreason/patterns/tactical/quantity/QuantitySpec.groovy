@@ -116,4 +116,13 @@ class QuantitySpec extends Specification {
         expect:
             quantity.toString() == "Quantity[value=15]"
     }
+
+    def "should reuse cached instances of small quantities"() {
+        expect:
+            Quantity.of(0).is(Quantity.ZERO)
+            Quantity.of(7).is(Quantity.of(7))
+            Quantity.of(1024).is(Quantity.of(1024))
+            !Quantity.of(1025).is(Quantity.of(1025))
+            Quantity.of(1025) == Quantity.of(1025)
+    }
 }
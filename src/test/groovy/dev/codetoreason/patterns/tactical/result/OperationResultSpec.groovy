@@ -11,7 +11,8 @@ class OperationResultSpec extends Specification {
         then:
             result.success
             !result.failure
-            result.message() == "OK"
+            result instanceof OperationResult.Success
+            result.is(OperationResult.successful())
     }
 
     def "should return failure result with message"() {
@@ -52,9 +53,9 @@ class OperationResultSpec extends Specification {
             ex.message == "Message cannot be null or empty"
     }
 
-    def "should throw when formatted message is blank"() {
+    def "should throw when template is blank"() {
         when:
-            OperationResult.failed("   %s", "   ")
+            OperationResult.failed("   ", "argument")
 
         then:
             def ex = thrown(IllegalArgumentException)
@@ -106,7 +107,7 @@ class OperationResultSpec extends Specification {
             def result = OperationResult.successful()
 
         expect:
-            result.toString() == "OperationResult{isSuccess=true, message='OK'}"
+            result.toString() == "OperationResult{isSuccess=true}"
     }
 
     def "should return proper toString for failure"() {
@@ -116,4 +117,74 @@ class OperationResultSpec extends Specification {
         expect:
             result.toString() == "OperationResult{isSuccess=false, message='Invalid state'}"
     }
+
+    def "should render formatted failure message only when requested"() {
+        given:
+            def argument = new CountingArgument(text: "NullPointer")
+
+        when:
+            def result = OperationResult.failed("Error: %s", argument)
+
+        then:
+            result.isFailure()
+            argument.renderings == 0
+
+        when:
+            def message = result.message()
+
+        then:
+            message == "Error: NullPointer"
+            argument.renderings == 1
+    }
+
+    def "should compare and print failure whose template does not match its arguments"() {
+        given:
+            def failure = OperationResult.failed("Debt ratio %d exceeds %d", "high")
+
+        when:
+            failure.message()
+
+        then:
+            thrown(IllegalFormatException)
+            failure == OperationResult.failed("Debt ratio %d exceeds %d", "high")
+            failure.hashCode() == OperationResult.failed("Debt ratio %d exceeds %d", "high").hashCode()
+            failure.toString().contains("Debt ratio %d exceeds %d [high]")
+    }
+
+    def "should compare failures by template and arguments without rendering them"() {
+        given:
+            def argument = new CountingArgument(text: "line 42")
+
+        expect:
+            OperationResult.failed("Error at %s", argument) == OperationResult.failed("Error at %s", argument)
+            OperationResult.failed("Error at %s", argument).hashCode() == OperationResult.failed("Error at %s", argument).hashCode()
+            OperationResult.failed("Error at %s", argument) != OperationResult.failed("Failure at %s", argument)
+            OperationResult.failed("Error %d", 1) != OperationResult.failed("Error 1")
+            argument.renderings == 0
+    }
+
+    def "should match results by their type"() {
+        expect:
+            describe(OperationResult.successful()) == "passed"
+            describe(OperationResult.failed("Error: %s", "NullPointer")) == "failed: Error: NullPointer"
+    }
+
+    private static String describe(OperationResult result) {
+        return switch (result) {
+            case OperationResult.Success -> "passed"
+            case OperationResult.Failure -> "failed: " + (result as OperationResult.Failure).message()
+        }
+    }
+
+    static class CountingArgument {
+
+        String text
+        int renderings
+
+        @Override
+        String toString() {
+            renderings++
+            text
+        }
+    }
 }
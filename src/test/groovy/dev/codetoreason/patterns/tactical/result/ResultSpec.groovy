@@ -11,9 +11,9 @@ class ResultSpec extends Specification {
         then:
             result.success
             !result.failure
-            result.message() == "OK"
-            result.value().isPresent()
-            result.value().get() == "Hello"
+            result instanceof Result.Success
+            result.value() == "Hello"
+            result.toOptional() == Optional.of("Hello")
     }
 
     def "should throw when creating successful result with null value"() {
@@ -33,7 +33,7 @@ class ResultSpec extends Specification {
             !result.success
             result.failure
             result.message() == "Something went wrong"
-            result.value().isEmpty()
+            result.toOptional().isEmpty()
     }
 
     def "should create failed result with formatted message"() {
@@ -44,7 +44,7 @@ class ResultSpec extends Specification {
             !result.success
             result.failure
             result.message() == "Error: NullPointer at line 42"
-            result.value().isEmpty()
+            result.toOptional().isEmpty()
     }
 
     def "should throw when creating failed result with null message"() {
@@ -65,9 +65,9 @@ class ResultSpec extends Specification {
             ex.message == "Message cannot be null or empty"
     }
 
-    def "should throw when formatted message is blank"() {
+    def "should throw when template is blank"() {
         when:
-            Result.failed("   %s", "   ")
+            Result.failed("   ", "argument")
 
         then:
             def ex = thrown(IllegalArgumentException)
@@ -129,7 +129,7 @@ class ResultSpec extends Specification {
             def result = Result.successful("Data")
 
         expect:
-            result.toString() == "Result{result=SUCCESS, value=Data, message='OK'}"
+            result.toString() == "Result{result=SUCCESS, value=Data}"
     }
 
     def "should return proper toString for failed result"() {
@@ -137,7 +137,142 @@ class ResultSpec extends Specification {
             def result = Result.failed("Validation failed")
 
         expect:
-            result.toString() == "Result{result=FAILURE, value=null, message='Validation failed'}"
+            result.toString() == "Result{result=FAILURE, message='Validation failed'}"
     }
-}
 
+    def "should render formatted failure message only when requested"() {
+        given:
+            def argument = new CountingArgument(text: "line 42")
+
+        when:
+            def result = Result.failed("Error at %s", argument)
+
+        then:
+            result.isFailure()
+            argument.renderings == 0
+            result.message() == "Error at line 42"
+            argument.renderings == 1
+    }
+
+    def "should map value of successful result"() {
+        when:
+            def result = Result.successful("Hello").map { it.length() }
+
+        then:
+            result.success
+            result.value() == 5
+    }
+
+    def "should pass the same failed instance through map and flatMap"() {
+        given:
+            def failure = Result.failed("Out of stock")
+
+        when:
+            def result = failure.map { it.toString() }
+                                .flatMap { Result.successful(it) }
+
+        then:
+            result.is(failure)
+            result.message() == "Out of stock"
+    }
+
+    def "should chain successful results with flatMap"() {
+        expect:
+            Result.successful(4)
+                  .flatMap { it > 3 ? Result.failed("Too big: %s", it) : Result.successful(it) }
+                  .message() == "Too big: 4"
+    }
+
+    def "should throw when mapper returns null"() {
+        when:
+            Result.successful("Hello").map { null }
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Value cannot be null for successful result"
+    }
+
+    def "should fold success and failure into a single outcome"() {
+        expect:
+            Result.successful("Hello").fold({ "value: $it" as String }, { "reason: $it" as String }) == "value: Hello"
+            Result.failed("Rejected").fold({ "value: $it" as String }, { "reason: $it" as String }) == "reason: Rejected"
+    }
+
+    def "should recover failed result with fallback value"() {
+        given:
+            def success = Result.successful("Hello")
+
+        expect:
+            Result.failed("Rejected").recover { "fallback" }.value() == "fallback"
+            success.recover { "fallback" }.is(success)
+    }
+
+    def "should zip values of two successful results"() {
+        when:
+            def result = Result.successful(2).zip(Result.successful(3)) { a, b -> a * b }
+
+        then:
+            result.value() == 6
+    }
+
+    def "should return the first failure when zipping"() {
+        given:
+            def first = Result.failed("First")
+            def second = Result.failed("Second")
+
+        expect:
+            first.zip(second) { a, b -> a }.is(first)
+            Result.successful(1).zip(second) { a, b -> a }.is(second)
+    }
+
+    def "should compare and print failure whose template does not match its arguments"() {
+        given:
+            def failure = Result.failed("Debt ratio %d exceeds %d", "high")
+
+        when:
+            failure.message()
+
+        then:
+            thrown(IllegalFormatException)
+            failure == Result.failed("Debt ratio %d exceeds %d", "high")
+            failure.hashCode() == Result.failed("Debt ratio %d exceeds %d", "high").hashCode()
+            failure.toString().contains("Debt ratio %d exceeds %d [high]")
+    }
+
+    def "should compare failures by template and arguments without rendering them"() {
+        given:
+            def argument = new CountingArgument(text: "line 42")
+
+        expect:
+            Result.failed("Error at %s", argument) == Result.failed("Error at %s", argument)
+            Result.failed("Error at %s", argument).hashCode() == Result.failed("Error at %s", argument).hashCode()
+            Result.failed("Error at %s", argument) != Result.failed("Failure at %s", argument)
+            Result.failed("Error %d", 1) != Result.failed("Error 1")
+            argument.renderings == 0
+    }
+
+    def "should match results by their type"() {
+        expect:
+            describe(Result.successful("Hello")) == "value Hello"
+            describe(Result.failed("Rejected")) == "failure Rejected"
+    }
+
+    private static String describe(Result<String> result) {
+        return switch (result) {
+            case Result.Success -> "value " + (result as Result.Success).value()
+            case Result.Failure -> "failure " + (result as Result.Failure).message()
+        }
+    }
+
+    static class CountingArgument {
+
+        String text
+        int renderings
+
+        @Override
+        String toString() {
+            renderings++
+            text
+        }
+    }
+}
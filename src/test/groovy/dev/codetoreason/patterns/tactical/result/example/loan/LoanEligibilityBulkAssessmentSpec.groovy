@@ -0,0 +1,36 @@
+package dev.codetoreason.patterns.tactical.result.example.loan
+
+class LoanEligibilityBulkAssessmentSpec extends BaseLoanEligibilitySpec {
+
+    private static final ApplicantId OTHER_APPLICANT_ID = new ApplicantId("OTHER_ID")
+    private static final ApplicantId MISSING_APPLICANT_ID = new ApplicantId("MISSING_ID")
+
+    def "should assess all existing applicants in the requested order"() {
+        given:
+            def otherApplicant = validApplicantModifiedWith {
+                id(OTHER_APPLICANT_ID)
+            }
+            def facade = LoanEligibilityFixture.create()
+                                               .withApplicant(VALID_APPLICANT)
+                                               .withApplicant(otherApplicant)
+                                               .build()
+
+        when:
+            def results = facade.assessEligibility([OTHER_APPLICANT_ID, MISSING_APPLICANT_ID, APPLICANT_ID])
+
+        then:
+            results*.applicantId() == [OTHER_APPLICANT_ID, APPLICANT_ID]
+            results*.approvedAmount() == [
+                    facade.assessEligibility(OTHER_APPLICANT_ID).orElseThrow().approvedAmount(),
+                    facade.assessEligibility(APPLICANT_ID).orElseThrow().approvedAmount()
+            ]
+    }
+
+    def "should return no results when none of the applicants exist"() {
+        given:
+            def facade = LoanEligibilityFixture.withoutApplicants()
+
+        expect:
+            facade.assessEligibility([APPLICANT_ID, MISSING_APPLICANT_ID]).isEmpty()
+    }
+}
@@ -1,6 +1,6 @@
 package dev.codetoreason.patterns.tactical.result.example.order.fulfillment
 
-import dev.codetoreason.patterns.tactical.infra.repository.InMemoryEntityRepository
+import dev.codetoreason.patterns.tactical.infra.repository.ConcurrentInMemoryEntityRepository
 
-class InMemoryOrderRepository extends InMemoryEntityRepository<Order, OrderId> implements OrderRepository {
+class InMemoryOrderRepository extends ConcurrentInMemoryEntityRepository<Order, OrderId> implements OrderRepository {
 }
@@ -1,15 +1,16 @@
 package dev.codetoreason.patterns.tactical.result.example.order.fulfillment
 
 import dev.codetoreason.patterns.tactical.infra.repository.InMemoryEntityRepository
+import dev.codetoreason.patterns.tactical.infra.repository.SecondaryIndex
 
 class InMemoryWarehouseRepository extends InMemoryEntityRepository<Warehouse, WarehouseId>
         implements WarehouseRepository {
 
+    private final SecondaryIndex<Warehouse, WarehouseId, String> byRegion = index(Warehouse::region)
+
     @Override
     List<Warehouse> findAllByRegion(String region) {
-        findAllBy {
-            it.region().equals(region)
-        }
+        findAllBy(byRegion, region)
     }
 }
 
@@ -44,7 +44,7 @@ class OrderFulfillmentFixture {
     private final def shippingService = new FakeShippingService()
     private final def eventPublisher = new CapturingEventPublisher()
     private final def orderRepository = new InMemoryOrderRepository()
-    private final def warehouseRepository = new InMemoryWarehouseRepository()
+    private final def warehouseRepository = WarehouseSelectionIndex.over(new InMemoryWarehouseRepository())
     private final def factory = new OrderFulfillmentFacadeFactory()
 
     static OrderFulfillmentFixture create() {
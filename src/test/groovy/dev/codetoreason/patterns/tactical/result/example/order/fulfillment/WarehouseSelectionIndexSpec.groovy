@@ -0,0 +1,153 @@
+package dev.codetoreason.patterns.tactical.result.example.order.fulfillment
+
+import dev.codetoreason.patterns.tactical.quantity.Quantity
+import spock.lang.Specification
+
+import static dev.codetoreason.patterns.tactical.result.example.order.fulfillment.OrderFulfillmentFixture.PRODUCT
+import static dev.codetoreason.patterns.tactical.result.example.order.fulfillment.ProductType.PERISHABLE
+import static dev.codetoreason.patterns.tactical.result.example.order.fulfillment.ProductType.STANDARD
+
+class WarehouseSelectionIndexSpec extends Specification {
+
+    static final String REGION = "REGION-1"
+
+    def repository = new InMemoryWarehouseRepository()
+
+    def "should index warehouses stored before its creation"() {
+        given:
+            repository.save(warehouse("W1", REGION, 5, STANDARD))
+
+        when:
+            def index = WarehouseSelectionIndex.over(repository)
+
+        then:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(5)).map(Warehouse::id) == Optional.of(new WarehouseId("W1"))
+    }
+
+    def "should select first stored warehouse with sufficient stock"() {
+        given:
+            def index = WarehouseSelectionIndex.over(repository)
+            index.save(warehouse("W1", REGION, 3, STANDARD))
+            index.save(warehouse("W2", REGION, 8, STANDARD))
+            index.save(warehouse("W3", REGION, 50, STANDARD))
+            index.save(warehouse("W4", REGION, 8, STANDARD))
+
+        expect:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(quantity)).map { it.id().value() } == Optional.ofNullable(selected)
+
+        where:
+            quantity || selected
+            1        || "W1"
+            3        || "W1"
+            4        || "W2"
+            8        || "W2"
+            9        || "W3"
+            51       || null
+    }
+
+    def "should keep selecting in order of storing when earlier warehouse is restocked"() {
+        given:
+            def index = WarehouseSelectionIndex.over(repository)
+            index.save(warehouse("W1", REGION, 3, STANDARD))
+            index.save(warehouse("W2", REGION, 8, STANDARD))
+            index.save(warehouse("W3", REGION, 20, STANDARD))
+
+        when:
+            index.save(warehouse("W1", REGION, 10, STANDARD))
+
+        then:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(5)).map { it.id().value() } == Optional.of("W1")
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(11)).map { it.id().value() } == Optional.of("W3")
+
+        when:
+            index.save(warehouse("W1", REGION, 0, STANDARD))
+
+        then:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(5)).map { it.id().value() } == Optional.of("W2")
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(9)).map { it.id().value() } == Optional.of("W3")
+    }
+
+    def "should keep selecting first stored warehouse with sufficient stock across many restocks"() {
+        given:
+            def index = WarehouseSelectionIndex.over(repository)
+            def random = new Random(42)
+            def stockLevels = (0..<500).collect { random.nextInt(100) }
+            stockLevels.eachWithIndex { stock, i -> index.save(warehouse("W$i", REGION, stock, STANDARD)) }
+
+        when:
+            1000.times {
+                def restocked = 100 + random.nextInt(300)
+                stockLevels[restocked] = random.nextInt(120)
+                index.save(warehouse("W$restocked", REGION, stockLevels[restocked], STANDARD))
+            }
+
+        then:
+            (1..120).every { quantity ->
+                def first = stockLevels.findIndexOf { it >= quantity }
+                index.findFirstStocking(REGION, PRODUCT, Quantity.of(quantity)).map { it.id().value() } ==
+                        Optional.ofNullable(first >= 0 ? "W$first".toString() : null)
+            }
+    }
+
+    def "should select first supporting warehouse for zero quantity"() {
+        given:
+            def index = WarehouseSelectionIndex.over(repository)
+            index.save(warehouse("W1", REGION, 0, PERISHABLE))
+            index.save(warehouse("W2", REGION, 0, STANDARD))
+            index.save(warehouse("W3", REGION, 0, STANDARD))
+
+        expect:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.ZERO).map(Warehouse::id) == Optional.of(new WarehouseId("W2"))
+    }
+
+    def "should reindex warehouse when its stock level changes"() {
+        given:
+            def index = WarehouseSelectionIndex.over(repository)
+            def stockLevels = [(PRODUCT.id()): Quantity.of(2)]
+            def warehouse = Warehouse.builder()
+                                     .id(new WarehouseId("W1"))
+                                     .region(REGION)
+                                     .supportedTypes(Set.of(STANDARD))
+                                     .stockLevels(stockLevels)
+                                     .build()
+            index.save(warehouse)
+
+        when:
+            stockLevels[PRODUCT.id()] = Quantity.of(20)
+            index.save(warehouse)
+
+        then:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(20)).isPresent()
+            repository.getById(new WarehouseId("W1")).stockLevels()[PRODUCT.id()] == Quantity.of(20)
+
+        when:
+            stockLevels[PRODUCT.id()] = Quantity.of(1)
+            index.save(warehouse)
+
+        then:
+            index.findFirstStocking(REGION, PRODUCT, Quantity.of(2)).isEmpty()
+    }
+
+    def "should forget warehouse in its former region once moved"() {
+        given:
+            def index = WarehouseSelectionIndex.over(repository)
+            index.save(warehouse("W1", REGION, 5, STANDARD))
+
+        when:
+            index.save(warehouse("W1", "REGION-2", 5, STANDARD))
+
+        then:
+            !index.hasWarehousesIn(REGION)
+            index.hasWarehousesIn("REGION-2", STANDARD)
+            !index.hasWarehousesIn("REGION-2", PERISHABLE)
+    }
+
+    private static Warehouse warehouse(String id, String region, int stock, ProductType... supportedTypes) {
+        Warehouse.builder()
+                 .id(new WarehouseId(id))
+                 .region(region)
+                 .supportedTypes(Set.of(supportedTypes))
+                 .stockLevels(Map.of(PRODUCT.id(), Quantity.of(stock)))
+                 .build()
+    }
+}
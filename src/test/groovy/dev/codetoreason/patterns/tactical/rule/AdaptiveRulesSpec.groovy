@@ -0,0 +1,167 @@
+package dev.codetoreason.patterns.tactical.rule
+
+import spock.lang.Specification
+
+import java.util.function.LongSupplier
+
+class AdaptiveRulesSpec extends Specification {
+
+    def ticker = new ManualTicker()
+
+    def "should start in declaration order"() {
+        given:
+            def rules = rulesCosting(100, 1)
+                    .adaptive()
+                    .build()
+
+        expect:
+            rules.evaluationOrder() == [0, 1]
+    }
+
+    def "should move the cheap and selective rule to the front"() {
+        given:
+            def rules = rulesCosting(100, 1)
+                    .adaptive()
+                    .reorderEvery(10)
+                    .sampleEvery(1)
+                    .withTicker(ticker)
+                    .build()
+
+        when:
+            10.times { rules.examine(-1) }
+
+        then:
+            rules.evaluationOrder() == [1, 0]
+    }
+
+    def "should move a rule that never fails to the end"() {
+        given:
+            def rules = Rules.of(
+                    Rule.when((int i) -> true)
+                        .orElse("never fails"),
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive")
+            ).adaptive()
+             .reorderEvery(4)
+             .sampleEvery(1)
+             .withTicker(ticker)
+             .build()
+
+        when:
+            4.times { rules.examine(-1) }
+
+        then:
+            rules.evaluationOrder() == [1, 0]
+    }
+
+    def "should report any failing rule after reordering by default"() {
+        given:
+            def rules = rulesCosting(100, 1)
+                    .adaptive()
+                    .reorderEvery(10)
+                    .sampleEvery(1)
+                    .withTicker(ticker)
+                    .build()
+            10.times { rules.examine(-1) }
+
+        when:
+            def result = rules.examine(-1)
+
+        then:
+            result.isFailure()
+            result.message() == "cheap rule failed"
+    }
+
+    def "should report the first declared failure after reordering in strict mode"() {
+        given:
+            def rules = rulesCosting(100, 1)
+                    .adaptive()
+                    .reorderEvery(10)
+                    .strictOrdering()
+                    .sampleEvery(1)
+                    .withTicker(ticker)
+                    .build()
+            10.times { rules.examine(-1) }
+
+        when:
+            def result = rules.examine(-1)
+
+        then:
+            rules.evaluationOrder() == [1, 0]
+            result.message() == "expensive rule failed"
+    }
+
+    def "should not change the verdict when reordering"() {
+        given:
+            def declared = rulesCosting(100, 1)
+            def rules = declared.adaptive()
+                                .reorderEvery(3)
+                                .strictOrdering()
+                                .sampleEvery(1)
+                                .withTicker(ticker)
+                                .build()
+
+        expect:
+            (-5..5).every { rules.examine(it) == declared.examine(it) }
+    }
+
+    def "should time only sampled examinations"() {
+        given:
+            def readings = 0
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive")
+            ).adaptive()
+             .sampleEvery(1_000_000)
+             .withTicker { readings++ as long }
+             .build()
+
+        when:
+            def results = (1..100).collect { rules.examine(it % 2 == 0 ? 1 : -1) }
+
+        then:
+            readings <= 2
+            results*.isSuccess() == (1..100).collect { it % 2 == 0 }
+    }
+
+    def "should throw when sampling period is not positive"() {
+        when:
+            Rules.of().adaptive().sampleEvery(0)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Sampling period must be positive"
+    }
+
+    def "should throw when reordering period is not positive"() {
+        when:
+            Rules.of().adaptive().reorderEvery(0)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Reordering period must be positive"
+    }
+
+    private Rules<Integer> rulesCosting(long expensiveCost, long cheapCost) {
+        Rules.of(
+                Rule.when((int i) -> { ticker.advance(expensiveCost); i > 0 })
+                    .orElse("expensive rule failed"),
+                Rule.when((int i) -> { ticker.advance(cheapCost); i > 0 })
+                    .orElse("cheap rule failed")
+        )
+    }
+
+    static class ManualTicker implements LongSupplier {
+
+        long now
+
+        void advance(long ticks) {
+            now += ticks
+        }
+
+        @Override
+        long getAsLong() {
+            now
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package dev.codetoreason.patterns.tactical.rule
+
+import spock.lang.Specification
+
+class BatchExaminationSpec extends Specification {
+
+    static final def RULES = Rules.of(
+            Rule.when((int i) -> i > 0)
+                .orElse("must be positive"),
+            Rule.when((int i) -> i < 100)
+                .orElse(i -> "$i must be < 100" as String),
+            Rule.when((int i) -> i % 2 == 0)
+                .orElse("must be even")
+    )
+
+    def "should examine each value the same way as sequential examination"() {
+        given:
+            def values = [42, -1, 101, 43, 8]
+
+        when:
+            def examination = RULES.examineBatch(values)
+
+        then:
+            examination.size() == 5
+            (0..<5).every { examination.result(it) == RULES.examine(values[it]) }
+    }
+
+    def "should report failed positions and failed rules"() {
+        when:
+            def examination = RULES.examineBatch([42, -1, 101, 43, 8])
+
+        then:
+            examination.failures() == BitSet.valueOf([0b01110] as long[])
+            examination.failureCount() == 3
+            examination.isSuccess(0)
+            examination.isFailure(1)
+            (0..<5).collect { examination.failedRule(it) } == [-1, 0, 1, 2, -1]
+    }
+
+    def "should not evaluate later rules for values that already failed"() {
+        given:
+            def evaluated = []
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive"),
+                    Rule.when((int i) -> { evaluated << i; true })
+                        .orElse("never")
+            )
+
+        when:
+            rules.examineBatch([1, -2, 3, -4])
+
+        then:
+            evaluated == [1, 3]
+    }
+
+    def "should render failure messages only when requested"() {
+        given:
+            def rendered = 0
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse(i -> { rendered++; "must be positive" })
+            )
+
+        when:
+            def examination = rules.examineBatch([-1, -2, -3])
+
+        then:
+            examination.failureCount() == 3
+            rendered == 0
+
+        when:
+            def message = examination.message(1)
+
+        then:
+            message == "must be positive"
+            examination.message(1) == message
+            rendered == 1
+    }
+
+    def "should examine an empty batch"() {
+        expect:
+            RULES.examineBatch([]).size() == 0
+            RULES.examineBatch([]).failureCount() == 0
+    }
+
+    def "should throw when batch is null"() {
+        when:
+            RULES.compile().examineBatch(null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Values must be non-null"
+    }
+
+    def "should throw when index is out of range"() {
+        when:
+            RULES.examineBatch([1]).message(1)
+
+        then:
+            thrown(IndexOutOfBoundsException)
+    }
+}
@@ -0,0 +1,76 @@
+package dev.codetoreason.patterns.tactical.rule
+
+import dev.codetoreason.patterns.tactical.result.OperationResult
+import spock.lang.Specification
+
+class CompiledRulesSpec extends Specification {
+
+    static final def RULES = Rules.when(
+            Rule.when((int i) -> i > 0)
+                .orElse("must be positive")
+    ).and(
+            Rule.when((int i) -> i < 100)
+                .orElse(i -> "$i must be < 100" as String)
+    ).and(
+            Rule.when((int i) -> i % 2 == 0)
+                .orElse("must be even")
+    ).compose()
+
+    def "should return success when no rules are defined"() {
+        expect:
+            Rules.of().compile().examine("any").isSuccess()
+            Rules.of().compile().test("any")
+    }
+
+    def "should examine the same way as non-compiled rules"() {
+        given:
+            def compiled = RULES.compile()
+
+        expect:
+            compiled.examine(value) == RULES.examine(value)
+            reasonOf(compiled.examine(value)) == message
+
+        where:
+            value || message
+            42    || null
+            -1    || "must be positive"
+            101   || "101 must be < 100"
+            43    || "must be even"
+    }
+
+    def "should test values without creating failure reasons"() {
+        given:
+            def reasons = 0
+            def compiled = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse(i -> { reasons++; "must be positive" })
+            ).compile()
+
+        expect:
+            compiled.test(1)
+            !compiled.test(-1)
+            reasons == 0
+    }
+
+    def "should stop evaluating predicates after the first failure"() {
+        given:
+            def evaluated = []
+            def compiled = Rules.of(
+                    Rule.when((int i) -> { evaluated << 1; false })
+                        .orElse("first"),
+                    Rule.when((int i) -> { evaluated << 2; true })
+                        .orElse("second")
+            ).compile()
+
+        when:
+            def result = compiled.examine(1)
+
+        then:
+            result.message() == "first"
+            evaluated == [1]
+    }
+
+    private static String reasonOf(OperationResult result) {
+        result instanceof OperationResult.Failure ? result.message() : null
+    }
+}
@@ -0,0 +1,45 @@
+package dev.codetoreason.patterns.tactical.rule
+
+import spock.lang.Specification
+
+class LatencyHistogramSpec extends Specification {
+
+    def histogram = new LatencyHistogram()
+
+    def "should report short latencies exactly"() {
+        when:
+            histogram.record(100)
+            histogram.record(200)
+            histogram.record(255)
+
+        then:
+            histogram.percentile(34) == 200
+            histogram.percentile(100) == 255
+    }
+
+    def "should report percentiles within one percent"() {
+        when:
+            99.times { histogram.record(1_234_567) }
+            histogram.record(9_000_000)
+
+        then:
+            histogram.percentile(50) == 1_236_991
+            Math.abs(histogram.percentile(50) - 1_234_567) / 1_234_567 < 0.01
+            histogram.percentile(100) == 9_000_000
+    }
+
+    def "should report latencies above tracked range as maximum"() {
+        when:
+            histogram.record(5)
+            histogram.record(1L << 50)
+
+        then:
+            histogram.percentile(99) == 1L << 50
+            histogram.count() == 2
+    }
+
+    def "should report zero when nothing was recorded"() {
+        expect:
+            histogram.percentile(50) == 0
+    }
+}
@@ -0,0 +1,183 @@
+package dev.codetoreason.patterns.tactical.rule
+
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+class MemoizingRulesSpec extends Specification {
+
+    def evaluations = 0
+    def clock = new MutableClock()
+    def rules = Rules.of(
+            Rule.when((int i) -> { evaluations++; i > 0 })
+                .orElse(i -> "$i must be positive" as String)
+    )
+
+    def "should serve repeated examination from the cache"() {
+        given:
+            def memoizing = MemoizingRules.memoize(rules)
+                                          .build()
+
+        when:
+            def first = memoizing.examine(-1)
+            def second = memoizing.examine(-1)
+
+        then:
+            second.is(first)
+            second.message() == "-1 must be positive"
+            evaluations == 1
+            memoizing.statistics() == new MemoizingRules.Statistics(1, 1, 0)
+            memoizing.statistics().hitRate() == 0.5d
+    }
+
+    def "should use extracted key"() {
+        given:
+            def memoizing = MemoizingRules.memoize(rules)
+                                          .keyedBy((int i) -> Math.abs(i))
+                                          .build()
+
+        when:
+            memoizing.examine(5)
+            def result = memoizing.examine(-5)
+
+        then:
+            result.isSuccess()
+            evaluations == 1
+    }
+
+    def "should evict least recently used result when full"() {
+        given:
+            def memoizing = MemoizingRules.memoize(rules)
+                                          .maximumSize(2)
+                                          .build()
+
+        when:
+            memoizing.examine(1)
+            memoizing.examine(2)
+            memoizing.examine(1)
+            memoizing.examine(3)
+            memoizing.examine(1)
+            memoizing.examine(2)
+
+        then:
+            memoizing.size() == 2
+            evaluations == 4
+            memoizing.statistics().evictions() == 2
+    }
+
+    def "should examine again once cached result expires"() {
+        given:
+            def memoizing = MemoizingRules.memoize(rules)
+                                          .expireAfter(Duration.ofMinutes(1))
+                                          .withClock(clock)
+                                          .build()
+            memoizing.examine(1)
+
+        when:
+            clock.advance(Duration.ofSeconds(59))
+            memoizing.examine(1)
+
+        then:
+            evaluations == 1
+
+        when:
+            clock.advance(Duration.ofSeconds(1))
+            memoizing.examine(1)
+
+        then:
+            evaluations == 2
+    }
+
+    def "should clear the cache when version changes"() {
+        given:
+            def config = "v1"
+            def memoizing = MemoizingRules.memoize(rules)
+                                          .invalidatedBy(() -> config)
+                                          .build()
+            memoizing.examine(1)
+
+        when:
+            config = "v2"
+            memoizing.examine(1)
+
+        then:
+            evaluations == 2
+    }
+
+    def "should not cache result examined while the cache was invalidated"() {
+        given:
+            MemoizingRules<Integer> memoizing
+            memoizing = MemoizingRules.memoize(Rules.of(
+                    Rule.when((int i) -> { evaluations++; memoizing.invalidateAll(); i > 0 })
+                        .orElse("must be positive")
+            )).build()
+
+        when:
+            memoizing.examine(1)
+            memoizing.examine(1)
+
+        then:
+            evaluations == 2
+            memoizing.size() == 0
+    }
+
+    def "should evict from every segment of a large cache"() {
+        given:
+            def memoizing = MemoizingRules.memoize(rules)
+                                          .maximumSize(1_000)
+                                          .build()
+
+        when:
+            (1..5_000).each { memoizing.examine(it) }
+
+        then:
+            memoizing.size() <= 1_000
+            memoizing.statistics().evictions() == 5_000 - memoizing.size()
+    }
+
+    def "should throw when maximum size is not positive"() {
+        when:
+            MemoizingRules.memoize(rules).maximumSize(0)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Maximum size must be positive"
+    }
+
+    def "should throw when rules are null"() {
+        when:
+            MemoizingRules.memoize(null)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Rules must be non-null"
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z")
+
+        void advance(Duration duration) {
+            now = now + duration
+        }
+
+        @Override
+        ZoneId getZone() {
+            ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            this
+        }
+
+        @Override
+        Instant instant() {
+            now
+        }
+    }
+}
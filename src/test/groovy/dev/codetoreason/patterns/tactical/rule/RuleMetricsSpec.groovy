@@ -0,0 +1,167 @@
+package dev.codetoreason.patterns.tactical.rule
+
+import dev.codetoreason.patterns.tactical.result.OperationResult
+import spock.lang.Specification
+
+import java.lang.management.ManagementFactory
+
+class RuleMetricsSpec extends Specification {
+
+    def "should count evaluations, passes and failures per rule"() {
+        given:
+            def metrics = RuleMetrics.create()
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive")
+                        .named("positive"),
+                    Rule.when((int i) -> i % 2 == 0)
+                        .orElse("must be even")
+            ).instrumentedWith(metrics)
+
+        when:
+            [2, 3, -1, 4].each { rules.examine(it) }
+
+        then:
+            def snapshots = metrics.snapshot().collectEntries { [it.ruleName(), it] }
+            snapshots.keySet() == ["positive", "rule #1"] as Set
+            with(snapshots["positive"]) {
+                evaluations() == 4
+                passes() == 3
+                failures() == 1
+            }
+            with(snapshots["rule #1"]) {
+                evaluations() == 3
+                passes() == 2
+                failures() == 1
+            }
+    }
+
+    def "should examine the same way as non-instrumented rules"() {
+        given:
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive"),
+                    Rule.when((int i) -> i % 2 == 0)
+                        .orElse("must be even")
+            )
+            def instrumented = rules.instrumentedWith(RuleMetrics.create())
+
+        expect:
+            [2, 3, -1].every { instrumented.examine(it) == rules.examine(it) }
+    }
+
+    def "should report whole examinations of instrumented examiner"() {
+        given:
+            def metrics = RuleMetrics.create()
+            def adaptive = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive"),
+                    Rule.when((int i) -> i % 2 == 0)
+                        .orElse("must be even")
+            ).adaptive().build()
+            def instrumented = InstrumentedRules.instrument(adaptive, "parity", metrics)
+
+        when:
+            def results = [2, 3, -1].collect { instrumented.examine(it) }
+
+        then:
+            results*.isSuccess() == [true, false, false]
+            with(metrics.snapshot().first()) {
+                ruleName() == "parity"
+                evaluations() == 3
+                passes() == 1
+                failures() == 2
+            }
+    }
+
+    def "should throw when instrumented examiner is null"() {
+        when:
+            InstrumentedRules.instrument(null, "parity", RuleMetrics.create())
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Examiner, name and instrumentation must be non-null"
+    }
+
+    def "should compute latency percentiles from histogram buckets"() {
+        given:
+            def metrics = RuleMetrics.create()
+
+        when:
+            99.times { metrics.recordEvaluation("lookup", 100, OperationResult.successful()) }
+            metrics.recordEvaluation("lookup", 5_000, OperationResult.successful())
+
+        then:
+            with(metrics.snapshot().first()) {
+                medianNanos() == 100
+                p99Nanos() == 100
+                maxNanos() == 5_000
+                totalNanos() == 14_900
+                meanNanos() == 149
+            }
+    }
+
+    def "should order snapshots by total latency"() {
+        given:
+            def metrics = RuleMetrics.create()
+
+        when:
+            metrics.recordEvaluation("cheap", 10, OperationResult.successful())
+            metrics.recordEvaluation("expensive", 1_000, OperationResult.successful())
+
+        then:
+            metrics.snapshot()*.ruleName() == ["expensive", "cheap"]
+    }
+
+    def "should sample and retain the most recent failure reasons"() {
+        given:
+            def metrics = RuleMetrics.withFailureSampling(2, 2)
+            def rendered = 0
+
+        when:
+            (1..7).each { n ->
+                metrics.recordEvaluation("rule", 1, OperationResult.failed("failure %s", new CountingArgument(n: n, onRender: { rendered++ })))
+            }
+
+        then:
+            metrics.snapshot().first().sampledFailureReasons() == ["failure 5", "failure 7"]
+            rendered == 4
+    }
+
+    def "should expose metrics through JMX"() {
+        given:
+            def metrics = RuleMetrics.create()
+            metrics.recordEvaluation("positive", 10, OperationResult.failed("must be positive"))
+            def server = ManagementFactory.platformMBeanServer
+
+        when:
+            def name = metrics.registerMBean("rule-metrics-spec")
+
+        then:
+            server.getAttribute(name, "FailureCounts").get(["positive"] as Object[]).get("value") == 1L
+
+        cleanup:
+            server.unregisterMBean(name)
+    }
+
+    def "should throw when sampling rate is not positive"() {
+        when:
+            RuleMetrics.withFailureSampling(0, 1)
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Sampling rate and number of retained samples must be positive"
+    }
+
+    static class CountingArgument {
+
+        int n
+        Closure onRender
+
+        @Override
+        String toString() {
+            onRender()
+            n as String
+        }
+    }
+}
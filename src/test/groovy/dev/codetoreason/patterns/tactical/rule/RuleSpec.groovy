@@ -106,6 +106,29 @@ class RuleSpec extends Specification {
             rule.check(new Dummy(id: -1)).isFailure()
     }
 
+    def "should keep predicate and failure reason when named"() {
+        given:
+            def rule = Rule.when((int i) -> i > 0)
+                           .orElse("Must be positive")
+                           .named("positive")
+
+        expect:
+            rule.name() == "positive"
+            rule.check(1).isSuccess()
+            rule.check(-1).message() == "Must be positive"
+    }
+
+    def "should throw when name is blank"() {
+        when:
+            Rule.when((int i) -> i > 0)
+                .orElse("Must be positive")
+                .named(" ")
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Name must be non-null and non-blank"
+    }
+
     static class Dummy {
         int id
     }
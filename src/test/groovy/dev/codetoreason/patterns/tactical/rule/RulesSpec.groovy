@@ -1,7 +1,12 @@
 package dev.codetoreason.patterns.tactical.rule
 
+import dev.codetoreason.patterns.tactical.result.OperationResult
 import spock.lang.Specification
 
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
 class RulesSpec extends Specification {
 
     def "should return success when no rules are defined"() {
@@ -9,9 +14,9 @@ class RulesSpec extends Specification {
             Rules.of().examine("any").isSuccess()
     }
 
-    def "should return OK message when success"() {
+    def "should return success carrying no message"() {
         expect:
-            Rules.of().examine("any").message() == "OK"
+            Rules.of().examine("any") instanceof OperationResult.Success
     }
 
     def "should return success when rules list is empty"() {
@@ -270,4 +275,121 @@ class RulesSpec extends Specification {
             ruleList.size() == 2
             Rules.of(ruleList).examine(0).isFailure()
     }
+
+    def "should collect every failure when examining all rules"() {
+        given:
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 10)
+                        .orElse("must be > 10"),
+                    Rule.when((int i) -> i < 100)
+                        .orElse("must be < 100"),
+                    Rule.when((int i) -> i % 2 == 0)
+                        .orElse("must be even")
+            )
+
+        when:
+            def examination = rules.examineAll(5)
+
+        then:
+            examination.isFailure()
+            examination.failureReasons() == ["must be > 10", "must be even"]
+            examination.toOperationResult().message() == "must be > 10; must be even"
+    }
+
+    def "should succeed when examining all passing rules on supplied executor"() {
+        given:
+            def executor = Executors.newFixedThreadPool(2)
+            def rules = Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive"),
+                    Rule.when((int i) -> i < 100)
+                        .orElse("must be < 100")
+            )
+
+        when:
+            def examination = rules.examineAll(42, executor)
+
+        then:
+            examination.isSuccess()
+            examination.toOperationResult().isSuccess()
+
+        cleanup:
+            executor.shutdownNow()
+    }
+
+    def "should evaluate rules concurrently when examining all"() {
+        given:
+            def bothStarted = new CountDownLatch(2)
+            def awaitOther = (int i) -> {
+                bothStarted.countDown()
+                bothStarted.await(5, TimeUnit.SECONDS)
+            }
+            def rules = Rules.of(
+                    Rule.when(awaitOther).orElse("first did not meet the second"),
+                    Rule.when(awaitOther).orElse("second did not meet the first")
+            )
+
+        expect:
+            rules.examineAll(1).isSuccess()
+    }
+
+    def "should rethrow exception thrown by a rule when examining all"() {
+        given:
+            def rules = Rules.of(
+                    Rule.when((int i) -> { throw new IllegalStateException("catalog unavailable") })
+                        .orElse("never")
+            )
+
+        when:
+            rules.examineAll(1)
+
+        then:
+            def ex = thrown(IllegalStateException)
+            ex.message == "catalog unavailable"
+    }
+
+    def "should accept immutable list of failure reasons in examination"() {
+        expect:
+            new RulesExamination(List.of("must be > 10")).failureReasons() == ["must be > 10"]
+    }
+
+    def "should reject null failure reason in examination"() {
+        when:
+            new RulesExamination(["must be > 10", null])
+
+        then:
+            def ex = thrown(IllegalArgumentException)
+            ex.message == "Failure reasons must be non-null"
+    }
+
+    def "should return failure without waiting for slow rules in first failure mode"() {
+        given:
+            def release = new CountDownLatch(1)
+            def rules = Rules.of(
+                    Rule.when((int i) -> { release.await(); true })
+                        .orElse("slow rule failed"),
+                    Rule.when((int i) -> false)
+                        .orElse("fast rule failed")
+            )
+
+        when:
+            def result = rules.firstFailure(1)
+
+        then:
+            result.isFailure()
+            result.message() == "fast rule failed"
+
+        cleanup:
+            release.countDown()
+    }
+
+    def "should succeed in first failure mode when all rules pass"() {
+        expect:
+            Rules.of(
+                    Rule.when((int i) -> i > 0)
+                        .orElse("must be positive"),
+                    Rule.when((int i) -> i < 100)
+                        .orElse("must be < 100")
+            ).firstFailure(42).isSuccess()
+    }
 }
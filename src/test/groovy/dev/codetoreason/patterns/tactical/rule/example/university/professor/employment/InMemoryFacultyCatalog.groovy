@@ -3,4 +3,12 @@ package dev.codetoreason.patterns.tactical.rule.example.university.professor.emp
 import dev.codetoreason.patterns.tactical.infra.repository.InMemoryEntityRepository
 
 class InMemoryFacultyCatalog extends InMemoryEntityRepository<FacultyCatalogEntry, FacultyId> implements FacultyCatalog {
+
+    int lookups
+
+    @Override
+    Optional<FacultyCatalogEntry> findById(FacultyId id) {
+        lookups++
+        super.findById(id)
+    }
 }
@@ -5,6 +5,9 @@ import dev.codetoreason.patterns.tactical.result.OperationResult
 import dev.codetoreason.patterns.tactical.rule.Rules
 import org.mockito.Mockito
 
+import java.util.function.UnaryOperator
+
+import static dev.codetoreason.patterns.tactical.infra.repository.CachingEntityRepository.CachingEntityRepositoryBuilder
 import static dev.codetoreason.patterns.tactical.rule.example.university.professor.employment.FacultyCatalogEntry.FacultyCatalogEntryBuilder
 import static dev.codetoreason.patterns.tactical.rule.example.university.professor.employment.ProfessorEmploymentApplication.ProfessorEmploymentApplicationBuilder
 import static dev.codetoreason.patterns.tactical.rule.example.university.professor.employment.ProfessorEmploymentContext.ProfessorEmploymentContextBuilder
@@ -25,7 +28,7 @@ class ProfessorEmploymentFixture {
                                                                .maxCourseLeaderships(4)
                                                                .build()
 
-    private final FacultyCatalog facultyCatalog = new InMemoryFacultyCatalog()
+    private final InMemoryFacultyCatalog facultyCatalog = new InMemoryFacultyCatalog()
     private final ProfessorCatalog professorCatalog = new InMemoryProfessorCatalog()
 
     private final ProfessorEmployment professorEmploymentMock = Mockito.mock(ProfessorEmployment)
@@ -110,6 +113,19 @@ class ProfessorEmploymentFixture {
         )
     }
 
+    ProfessorEmploymentFacade buildFacadeWithCachedFacultyCatalog(UnaryOperator<CachingEntityRepositoryBuilder<FacultyCatalogEntry, FacultyId>> facultyCacheSettings) {
+        new ProfessorEmploymentFactory(
+                DEFAULT_CONFIG,
+                facultyCatalog,
+                professorCatalog,
+                professorEmploymentMock
+        ).professorEmploymentFacade(facultyCacheSettings)
+    }
+
+    int facultyLookups() {
+        facultyCatalog.lookups
+    }
+
     ProfessorCatalogEntry getProfessorById(ProfessorId professorId) {
         professorCatalog.getById(professorId)
     }
@@ -2,6 +2,8 @@ package dev.codetoreason.patterns.tactical.rule.example.university.professor.emp
 
 import spock.lang.Specification
 
+import java.time.Duration
+
 import static dev.codetoreason.patterns.tactical.rule.example.university.professor.employment.ProfessorEmploymentFixture.IT_FACULTY_ID
 import static dev.codetoreason.patterns.tactical.rule.example.university.professor.employment.ProfessorEmploymentFixture.ZUCK
 import static dev.codetoreason.patterns.tactical.rule.example.university.professor.employment.ProfessorEmploymentFixture.applicationWith
@@ -91,4 +93,25 @@ class ProfessorEmploymentFlowSpec extends Specification {
                 fieldsOfStudies() == FieldsOfStudies.of("cs", "ai", "math")
             }
     }
+
+    def "should look up faculty once when facade caches faculty catalog"() {
+        given:
+            def fixture = ProfessorEmploymentFixture.create()
+                                                    .withSuccessfulEmploymentOperation()
+                                                    .withFacultyContainingFieldsOfStudies("cs", "ai", "math")
+            def facade = fixture.buildFacadeWithCachedFacultyCatalog({ it.expireAfter(Duration.ofHours(1)) })
+            def application = applicationWith {
+                yearsOfExperience(10)
+                fieldsOfStudies("cs", "ai", "math")
+            }
+
+        when:
+            def first = facade.employProfessor(application)
+            def second = facade.employProfessor(application)
+
+        then:
+            first.isPresent()
+            second.isPresent()
+            fixture.facultyLookups() == 1
+    }
 }